@@ -0,0 +1,226 @@
+package com.elyashevich.benchmarks;
+
+import com.elyashevich.core.domain.model.Category;
+import com.elyashevich.core.domain.model.Color;
+import com.elyashevich.core.domain.model.Product;
+import com.elyashevich.core.infrastructure.persistance.entity.CategoryMongoEntity;
+import com.elyashevich.core.infrastructure.persistance.entity.CategorySnapshot;
+import com.elyashevich.core.infrastructure.persistance.entity.ColorMongoEntity;
+import com.elyashevich.core.infrastructure.persistance.entity.ColorSnapshot;
+import com.elyashevich.core.infrastructure.persistance.entity.ProductMongoEntity;
+import com.elyashevich.core.infrastructure.web.dto.product.ProductRequestDto;
+import com.elyashevich.store.domain.model.Store;
+import com.elyashevich.store.infrastructure.persistance.entity.StoreMongoEntity;
+import com.elyashevich.user.domain.model.User;
+import com.elyashevich.user.infrastructure.persistance.entity.UserMongoEntity;
+import com.elyashevich.user.infrastructure.web.dto.user.UserRequestDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.IntFunction;
+
+public final class Fixtures {
+
+    private static final long SEED = 42L;
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 12, 0);
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 6, 1, 12, 0);
+    private static final String STORE_ID = "665f1c2e8b3e4a1d2c3b4a50";
+
+    private Fixtures() {
+    }
+
+    public static ObjectMapper objectMapper() {
+        return JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    public static <T> List<T> listOf(int size, IntFunction<T> factory) {
+        List<T> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(factory.apply(i));
+        }
+        return items;
+    }
+
+    public static ProductMongoEntity productEntity(int index) {
+        SplittableRandom random = new SplittableRandom(SEED + index);
+        return ProductMongoEntity.builder()
+                .id(objectId(index))
+                .version((long) random.nextInt(1, 10))
+                .createdAt(CREATED_AT)
+                .updatedAt(UPDATED_AT)
+                .title("Product " + index)
+                .description("Benchmark description for product " + index)
+                .price(BigDecimal.valueOf(random.nextInt(100, 100_000), 2))
+                .images(listOf(3, image -> "https://cdn.example.com/products/" + index + "/" + image + ".jpg"))
+                .storeId(STORE_ID)
+                .categoryId(objectId(10_000 + index % 50))
+                .categorySnapshot(new CategorySnapshot("Category " + index % 50))
+                .colorId(objectId(20_000 + index % 20))
+                .colorSnapshot(new ColorSnapshot("Color " + index % 20, "#%06x".formatted(random.nextInt(0x1000000))))
+                .build();
+    }
+
+    public static Product product(int index) {
+        ProductMongoEntity entity = productEntity(index);
+        return Product.builder()
+                .id(entity.getId())
+                .version(entity.getVersion())
+                .createdAt(CREATED_AT)
+                .updatedAt(UPDATED_AT)
+                .title(entity.getTitle())
+                .description(entity.getDescription())
+                .price(entity.getPrice())
+                .images(new ArrayList<>(entity.getImages()))
+                .storeId(entity.getStoreId())
+                .categoryId(entity.getCategoryId())
+                .categoryTitle(entity.getCategorySnapshot().getTitle())
+                .colorId(entity.getColorId())
+                .colorName(entity.getColorSnapshot().getName())
+                .colorValue(entity.getColorSnapshot().getValue())
+                .build();
+    }
+
+    public static ProductRequestDto productRequest(int index) {
+        Product product = product(index);
+        return new ProductRequestDto(
+                product.getTitle(),
+                product.getDescription(),
+                product.getPrice(),
+                product.getImages(),
+                product.getCategoryId(),
+                product.getColorId(),
+                product.getVersion()
+        );
+    }
+
+    public static CategoryMongoEntity categoryEntity(int index) {
+        return CategoryMongoEntity.builder()
+                .id(objectId(10_000 + index))
+                .version(1L)
+                .createdAt(CREATED_AT)
+                .updatedAt(UPDATED_AT)
+                .title("Category " + index)
+                .description("Benchmark category " + index)
+                .storeId(STORE_ID)
+                .build();
+    }
+
+    public static Category category(int index) {
+        return Category.builder()
+                .id(objectId(10_000 + index))
+                .version(1L)
+                .createdAt(CREATED_AT)
+                .updatedAt(UPDATED_AT)
+                .title("Category " + index)
+                .description("Benchmark category " + index)
+                .storeId(STORE_ID)
+                .build();
+    }
+
+    public static ColorMongoEntity colorEntity(int index) {
+        return ColorMongoEntity.builder()
+                .id(objectId(20_000 + index))
+                .version(1L)
+                .createdAt(CREATED_AT)
+                .updatedAt(UPDATED_AT)
+                .name("Color " + index)
+                .value("#%06x".formatted(index * 0x010101 & 0xffffff))
+                .storeId(STORE_ID)
+                .build();
+    }
+
+    public static Color color(int index) {
+        return Color.builder()
+                .id(objectId(20_000 + index))
+                .version(1L)
+                .createdAt(CREATED_AT)
+                .updatedAt(UPDATED_AT)
+                .name("Color " + index)
+                .value("#%06x".formatted(index * 0x010101 & 0xffffff))
+                .storeId(STORE_ID)
+                .build();
+    }
+
+    public static StoreMongoEntity storeEntity(int index) {
+        return StoreMongoEntity.builder()
+                .id(objectId(30_000 + index))
+                .createdAt(CREATED_AT)
+                .updatedAt(UPDATED_AT)
+                .title("Store " + index)
+                .description("Benchmark store " + index)
+                .userId(objectId(40_000 + index))
+                .products(listOf(50, Fixtures::objectId))
+                .categories(listOf(10, i -> objectId(10_000 + i)))
+                .colors(listOf(10, i -> objectId(20_000 + i)))
+                .reviews(listOf(20, i -> objectId(50_000 + i)))
+                .orderItems(listOf(20, i -> objectId(60_000 + i)))
+                .build();
+    }
+
+    public static Store store(int index) {
+        StoreMongoEntity entity = storeEntity(index);
+        return Store.builder()
+                .id(entity.getId())
+                .createdAt(CREATED_AT)
+                .updatedAt(UPDATED_AT)
+                .title(entity.getTitle())
+                .description(entity.getDescription())
+                .userId(entity.getUserId())
+                .productIds(new ArrayList<>(entity.getProducts()))
+                .categoryIds(new ArrayList<>(entity.getCategories()))
+                .colorIds(new ArrayList<>(entity.getColors()))
+                .reviewIds(new ArrayList<>(entity.getReviews()))
+                .orderItemIds(new ArrayList<>(entity.getOrderItems()))
+                .build();
+    }
+
+    public static UserMongoEntity userEntity(int index) {
+        return UserMongoEntity.builder()
+                .id(objectId(40_000 + index))
+                .createdAt(CREATED_AT)
+                .updatedAt(UPDATED_AT)
+                .email("user" + index + "@example.com")
+                .password("$2a$10$" + "x".repeat(53))
+                .name("User " + index)
+                .picture("/uploads/user-" + index + ".png")
+                .storesId(listOf(3, i -> objectId(30_000 + i)))
+                .favoritesId(listOf(20, Fixtures::objectId))
+                .reviewsId(listOf(10, i -> objectId(50_000 + i)))
+                .ordersId(listOf(10, i -> objectId(70_000 + i)))
+                .build();
+    }
+
+    public static User user(int index) {
+        UserMongoEntity entity = userEntity(index);
+        return User.builder()
+                .id(entity.getId())
+                .createdAt(CREATED_AT)
+                .updatedAt(UPDATED_AT)
+                .email(entity.getEmail())
+                .password(entity.getPassword())
+                .name(entity.getName())
+                .picture(entity.getPicture())
+                .storesId(new ArrayList<>(entity.getStoresId()))
+                .favoritesId(new ArrayList<>(entity.getFavoritesId()))
+                .reviewsId(new ArrayList<>(entity.getReviewsId()))
+                .ordersId(new ArrayList<>(entity.getOrdersId()))
+                .build();
+    }
+
+    public static UserRequestDto userRequest(int index) {
+        return new UserRequestDto("User " + index, "user" + index + "@example.com", "password-" + index);
+    }
+
+    private static String objectId(int index) {
+        return "%024x".formatted(0x665f00000000L + index);
+    }
+}
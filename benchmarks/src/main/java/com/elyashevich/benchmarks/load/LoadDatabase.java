@@ -0,0 +1,87 @@
+package com.elyashevich.benchmarks.load;
+
+import com.elyashevich.core.infrastructure.persistance.entity.ProductMongoEntity;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.testcontainers.containers.MongoDBContainer;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+public final class LoadDatabase implements AutoCloseable {
+
+    private static final String MONGO_URI_VARIABLE = "BENCHMARK_MONGO_URI";
+    private static final String MONGO_IMAGE = "mongo:7.0";
+
+    private final String database;
+    private final MongoDBContainer container;
+    private final String uri;
+    private final MongoClient mongoClient;
+    private final MongoTemplate mongoTemplate;
+
+    private LoadDatabase(String database, MongoDBContainer container, String uri) {
+        this.database = database;
+        this.container = container;
+        this.uri = uri;
+        this.mongoClient = MongoClients.create(uri);
+        this.mongoTemplate = new MongoTemplate(mongoClient, database);
+    }
+
+    public static LoadDatabase open(String database) {
+        String uri = System.getenv(MONGO_URI_VARIABLE);
+        if (uri != null && !uri.isBlank()) {
+            return new LoadDatabase(database, null, uri);
+        }
+        MongoDBContainer container = new MongoDBContainer(MONGO_IMAGE);
+        container.start();
+        return new LoadDatabase(database, container, container.getConnectionString());
+    }
+
+    public String uri() {
+        return uri;
+    }
+
+    public String database() {
+        return database;
+    }
+
+    public List<String> seedProducts(String storeId, int products, int categories) {
+        mongoTemplate.getDb().drop();
+
+        IndexOperations indexOperations = mongoTemplate.indexOps(ProductMongoEntity.class);
+        new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext())
+                .resolveIndexFor(ProductMongoEntity.class)
+                .forEach(indexOperations::ensureIndex);
+
+        SplittableRandom random = new SplittableRandom(42);
+        List<ProductMongoEntity> entities = new ArrayList<>(products);
+        for (int i = 0; i < products; i++) {
+            entities.add(ProductMongoEntity.builder()
+                    .id(new ObjectId().toHexString())
+                    .title("Product " + i)
+                    .description("Benchmark product " + i)
+                    .storeId(storeId)
+                    .categoryId("category-" + random.nextInt(categories))
+                    .price(BigDecimal.valueOf(random.nextInt(100, 100_000), 2))
+                    .images(List.of("image-" + i + ".jpg"))
+                    .build());
+        }
+        mongoTemplate.insertAll(entities);
+        return entities.stream().map(ProductMongoEntity::getId).toList();
+    }
+
+    @Override
+    public void close() {
+        mongoTemplate.getDb().drop();
+        mongoClient.close();
+        if (container != null) {
+            container.stop();
+        }
+    }
+}
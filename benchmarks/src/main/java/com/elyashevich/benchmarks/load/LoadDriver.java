@@ -0,0 +1,101 @@
+package com.elyashevich.benchmarks.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+public final class LoadDriver {
+
+    private static final String JSON = "application/json";
+
+    private LoadDriver() {
+    }
+
+    public static Map<String, Result> run(Map<String, Endpoint> endpoints, int clients, Duration duration)
+            throws InterruptedException, ExecutionException {
+        List<String> names = List.copyOf(endpoints.keySet());
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient httpClient = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .executor(executor)
+                     .build()) {
+            List<Future<List<long[]>>> futures = new ArrayList<>(clients);
+            for (int client = 0; client < clients; client++) {
+                int offset = client;
+                futures.add(executor.submit(() -> {
+                    List<long[]> samples = new ArrayList<>();
+                    for (int i = offset; System.nanoTime() < deadline; i++) {
+                        int index = i % names.size();
+                        Endpoint endpoint = endpoints.get(names.get(index));
+                        HttpRequest request = HttpRequest.newBuilder(URI.create(endpoint.url().get()))
+                                .header("Accept", endpoint.accept())
+                                .GET()
+                                .build();
+                        long start = System.nanoTime();
+                        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                        samples.add(new long[]{index, System.nanoTime() - start, response.statusCode()});
+                    }
+                    return samples;
+                }));
+            }
+
+            List<List<Long>> latencies = new ArrayList<>();
+            int[] errors = new int[names.size()];
+            names.forEach(name -> latencies.add(new ArrayList<>()));
+            for (Future<List<long[]>> future : futures) {
+                for (long[] sample : future.get()) {
+                    latencies.get((int) sample[0]).add(sample[1]);
+                    if (sample[2] != 200) {
+                        errors[(int) sample[0]]++;
+                    }
+                }
+            }
+
+            Map<String, Result> results = new LinkedHashMap<>();
+            for (int i = 0; i < names.size(); i++) {
+                results.put(names.get(i), Result.of(latencies.get(i), errors[i], duration));
+            }
+            return results;
+        }
+    }
+
+    public static void requireNoErrors(Map<String, Result> results) {
+        results.forEach((endpoint, result) -> {
+            if (result.errors() > 0) {
+                throw new IllegalStateException("%s answered %d requests with a non-200 status"
+                        .formatted(endpoint, result.errors()));
+            }
+        });
+    }
+
+    public record Endpoint(Supplier<String> url, String accept) {
+
+        public static Endpoint json(Supplier<String> url) {
+            return new Endpoint(url, JSON);
+        }
+    }
+
+    public record Result(double throughput, long p99Millis, int errors) {
+
+        static Result of(List<Long> latencies, int errors, Duration duration) {
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            long p99 = sorted.length == 0 ? 0 : sorted[Math.min(sorted.length - 1, sorted.length * 99 / 100)];
+            return new Result(sorted.length / (double) duration.toSeconds(), p99 / 1_000_000, errors);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.elyashevich.benchmarks.load;
+
+import com.elyashevich.core.CoreApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+
+public final class ProductThreadingLoad {
+
+    private static final String DATABASE = "core_threading_benchmark";
+    private static final String STORE_ID = "store-1";
+    private static final int PRODUCTS = 20_000;
+    private static final int CATEGORIES = 20;
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 400);
+    private static final int TOMCAT_THREADS = 200;
+    private static final Duration WARMUP = Duration.ofSeconds(5);
+    private static final Duration MEASUREMENT = Duration.ofSeconds(20);
+
+    private final LoadDatabase database;
+    private final List<String> productIds;
+
+    private ProductThreadingLoad(LoadDatabase database, List<String> productIds) {
+        this.database = database;
+        this.productIds = productIds;
+    }
+
+    public static void main(String[] args) throws InterruptedException, ExecutionException {
+        try (LoadDatabase database = LoadDatabase.open(DATABASE)) {
+            ProductThreadingLoad load = new ProductThreadingLoad(
+                    database, database.seedProducts(STORE_ID, PRODUCTS, CATEGORIES)
+            );
+
+            Map<String, LoadDriver.Result> platform = load.measure(false);
+            Map<String, LoadDriver.Result> virtual = load.measure(true);
+
+            System.out.printf("%d concurrent clients, %d Tomcat threads%n", CLIENTS, TOMCAT_THREADS);
+            System.out.printf("%-28s %14s %14s %8s %12s %12s%n",
+                    "endpoint", "platform rps", "virtual rps", "change", "platform p99", "virtual p99");
+            platform.forEach((endpoint, before) -> {
+                LoadDriver.Result after = virtual.get(endpoint);
+                System.out.printf("%-28s %14.0f %14.0f %+7.0f%% %10dms %10dms%n",
+                        endpoint,
+                        before.throughput(),
+                        after.throughput(),
+                        (after.throughput() / before.throughput() - 1) * 100,
+                        before.p99Millis(),
+                        after.p99Millis());
+            });
+            LoadDriver.requireNoErrors(platform);
+            LoadDriver.requireNoErrors(virtual);
+        }
+    }
+
+    private Map<String, LoadDriver.Result> measure(boolean virtualThreads) throws InterruptedException, ExecutionException {
+        try (ConfigurableApplicationContext context = start(virtualThreads)) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                    + "/api/v1/products";
+            Map<String, LoadDriver.Endpoint> endpoints = endpoints(baseUrl);
+
+            LoadDriver.run(endpoints, CLIENTS, WARMUP);
+            return LoadDriver.run(endpoints, CLIENTS, MEASUREMENT);
+        }
+    }
+
+    private ConfigurableApplicationContext start(boolean virtualThreads) {
+        return new SpringApplicationBuilder(CoreApplication.class)
+                .properties(
+                        "server.port=0",
+                        "server.tomcat.threads.max=" + TOMCAT_THREADS,
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.cloud.config.enabled=false",
+                        "eureka.client.enabled=false",
+                        "spring.data.mongodb.uri=" + database.uri(),
+                        "spring.data.mongodb.database=" + database.database(),
+                        "spring.cache.type=none",
+                        "application.cache-invalidation.enabled=false",
+                        "application.virtual-threads.pinning-monitor.enabled=" + virtualThreads
+                )
+                .run();
+    }
+
+    private Map<String, LoadDriver.Endpoint> endpoints(String baseUrl) {
+        Map<String, LoadDriver.Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("GET /{id}", LoadDriver.Endpoint.json(() -> baseUrl + "/" + randomProductId()));
+        endpoints.put("GET /store/{id}?view=summary", LoadDriver.Endpoint.json(
+                () -> baseUrl + "/store/" + STORE_ID + "?view=summary"));
+        endpoints.put("GET /store/{id}/by-price", LoadDriver.Endpoint.json(
+                () -> baseUrl + "/store/" + STORE_ID + "/by-price?minPrice=10&maxPrice=500"));
+        endpoints.put("GET /category/{id}", LoadDriver.Endpoint.json(
+                () -> baseUrl + "/category/category-" + ThreadLocalRandom.current().nextInt(CATEGORIES)));
+        return endpoints;
+    }
+
+    private String randomProductId() {
+        return productIds.get(ThreadLocalRandom.current().nextInt(productIds.size()));
+    }
+}
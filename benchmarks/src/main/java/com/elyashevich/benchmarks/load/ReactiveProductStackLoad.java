@@ -0,0 +1,138 @@
+package com.elyashevich.benchmarks.load;
+
+import com.elyashevich.core.CoreApplication;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class ReactiveProductStackLoad {
+
+    private static final String DATABASE = "core_reactive_benchmark";
+    private static final String STORE_ID = "store-1";
+    private static final int PRODUCTS = 20_000;
+    private static final int CATEGORIES = 200;
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 10_000);
+    private static final Duration WARMUP = Duration.ofSeconds(5);
+    private static final Duration MEASUREMENT = Duration.ofSeconds(30);
+    private static final Duration SAMPLE_INTERVAL = Duration.ofMillis(100);
+
+    private final LoadDatabase database;
+    private final List<String> productIds;
+
+    private ReactiveProductStackLoad(LoadDatabase database, List<String> productIds) {
+        this.database = database;
+        this.productIds = productIds;
+    }
+
+    public static void main(String[] args) throws InterruptedException, ExecutionException {
+        try (LoadDatabase database = LoadDatabase.open(DATABASE)) {
+            ReactiveProductStackLoad load = new ReactiveProductStackLoad(
+                    database, database.seedProducts(STORE_ID, PRODUCTS, CATEGORIES)
+            );
+
+            Run blocking = load.measure(false);
+            Run reactive = load.measure(true);
+
+            System.out.printf("%d concurrent clients%n", CLIENTS);
+            System.out.printf("%-24s %14s %14s %12s %12s%n",
+                    "endpoint", "blocking rps", "reactive rps", "blocking p99", "reactive p99");
+            blocking.results().forEach((endpoint, before) -> {
+                LoadDriver.Result after = reactive.results().get(endpoint);
+                System.out.printf("%-24s %14.0f %14.0f %10dms %10dms%n",
+                        endpoint, before.throughput(), after.throughput(), before.p99Millis(), after.p99Millis());
+            });
+            System.out.printf("%-24s %14d %14d%n", "mongo checked out (max)", blocking.checkedOut(), reactive.checkedOut());
+            System.out.printf("%-24s %14d %14d%n", "mongo pool size (max)", blocking.poolSize(), reactive.poolSize());
+            System.out.printf("%-24s %14d %14d%n", "live threads (max)", blocking.threads(), reactive.threads());
+            LoadDriver.requireNoErrors(blocking.results());
+            LoadDriver.requireNoErrors(reactive.results());
+        }
+    }
+
+    private Run measure(boolean reactive) throws InterruptedException, ExecutionException {
+        try (ConfigurableApplicationContext context = start(reactive)) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                    + "/api/v1/products";
+            Map<String, LoadDriver.Endpoint> endpoints = endpoints(baseUrl);
+            MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+
+            LoadDriver.run(endpoints, CLIENTS, WARMUP);
+
+            AtomicLong checkedOut = new AtomicLong();
+            AtomicLong poolSize = new AtomicLong();
+            AtomicLong threads = new AtomicLong();
+            ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+            ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+            sampler.scheduleAtFixedRate(() -> {
+                checkedOut.accumulateAndGet(sum(meterRegistry, "mongodb.driver.pool.checkedout"), Math::max);
+                poolSize.accumulateAndGet(sum(meterRegistry, "mongodb.driver.pool.size"), Math::max);
+                threads.accumulateAndGet(threadMXBean.getThreadCount(), Math::max);
+            }, 0, SAMPLE_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+            try {
+                Map<String, LoadDriver.Result> results = LoadDriver.run(endpoints, CLIENTS, MEASUREMENT);
+                return new Run(results, checkedOut.get(), poolSize.get(), threads.get());
+            } finally {
+                sampler.shutdownNow();
+            }
+        }
+    }
+
+    private ConfigurableApplicationContext start(boolean reactive) {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(CoreApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=true",
+                        "spring.cloud.config.enabled=false",
+                        "eureka.client.enabled=false",
+                        "spring.data.mongodb.uri=" + database.uri(),
+                        "spring.data.mongodb.database=" + database.database(),
+                        "spring.cache.type=none",
+                        "application.cache-invalidation.enabled=false",
+                        "spring.main.web-application-type=" + (reactive ? "reactive" : "servlet")
+                );
+        if (reactive) {
+            builder.profiles("reactive");
+        }
+        return builder.run();
+    }
+
+    private Map<String, LoadDriver.Endpoint> endpoints(String baseUrl) {
+        Map<String, LoadDriver.Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("GET /{id}", LoadDriver.Endpoint.json(() -> baseUrl + "/" + randomProductId()));
+        endpoints.put("GET /category/{id}", LoadDriver.Endpoint.json(() -> baseUrl + "/category/" + randomCategoryId()));
+        endpoints.put("GET /store/{id} ndjson", new LoadDriver.Endpoint(
+                () -> baseUrl + "/store/" + STORE_ID, "application/x-ndjson"));
+        return endpoints;
+    }
+
+    private static long sum(MeterRegistry meterRegistry, String name) {
+        return (long) meterRegistry.find(name).gauges().stream()
+                .mapToDouble(Gauge::value)
+                .sum();
+    }
+
+    private String randomProductId() {
+        return productIds.get(ThreadLocalRandom.current().nextInt(productIds.size()));
+    }
+
+    private static String randomCategoryId() {
+        return "category-" + ThreadLocalRandom.current().nextInt(CATEGORIES);
+    }
+
+    private record Run(Map<String, LoadDriver.Result> results, long checkedOut, long poolSize, long threads) {
+    }
+}
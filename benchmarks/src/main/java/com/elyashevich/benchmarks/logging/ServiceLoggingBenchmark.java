@@ -0,0 +1,116 @@
+package com.elyashevich.benchmarks.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.elyashevich.benchmarks.Fixtures;
+import com.elyashevich.common.infrastructure.logging.SamplingTurboFilter;
+import com.elyashevich.core.domain.model.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.logging.logback.StructuredLogEncoder;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ServiceLoggingBenchmark {
+
+    private static final String LOGGER = "com.elyashevich.core.application.service.ProductServiceImpl";
+    private static final String FORMAT = "ecs";
+    private static final int KEEP_ONE_IN = 10;
+    private static final int QUEUE_SIZE = 8192;
+
+    private LoggerContext syncContext;
+    private LoggerContext asyncContext;
+    private Logger syncLogger;
+    private Logger asyncLogger;
+    private Product product;
+
+    @Setup
+    public void setUp() {
+        product = Fixtures.product(0);
+
+        syncContext = context();
+        syncLogger = syncContext.getLogger(LOGGER);
+        syncLogger.addAppender(discardingAppender(syncContext));
+
+        asyncContext = context();
+        SamplingTurboFilter sampling = new SamplingTurboFilter(Map.of("com.elyashevich.core.application.service", KEEP_ONE_IN));
+        sampling.setContext(asyncContext);
+        sampling.start();
+        asyncContext.addTurboFilter(sampling);
+
+        AsyncAppender async = new AsyncAppender();
+        async.setContext(asyncContext);
+        async.setQueueSize(QUEUE_SIZE);
+        async.setDiscardingThreshold(0);
+        async.setNeverBlock(false);
+        async.setIncludeCallerData(false);
+        async.addAppender(discardingAppender(asyncContext));
+        async.start();
+        asyncLogger = asyncContext.getLogger(LOGGER);
+        asyncLogger.addAppender(async);
+    }
+
+    @TearDown
+    public void tearDown() {
+        syncContext.stop();
+        asyncContext.stop();
+    }
+
+    @Benchmark
+    public void fullPayloadSync() {
+        syncLogger.info("Found product by id {}", product);
+    }
+
+    @Benchmark
+    public void idOnlySync() {
+        syncLogger.info("Found product by id {}", product.getId());
+    }
+
+    @Benchmark
+    public void idOnlyAsyncSampled() {
+        asyncLogger.info("Found product by id {}", product.getId());
+    }
+
+    private static LoggerContext context() {
+        LoggerContext context = new LoggerContext();
+        context.putObject(Environment.class.getName(), new StandardEnvironment());
+        return context;
+    }
+
+    private static Appender<ILoggingEvent> discardingAppender(LoggerContext context) {
+        StructuredLogEncoder encoder = new StructuredLogEncoder();
+        encoder.setContext(context);
+        encoder.setFormat(FORMAT);
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+        return appender;
+    }
+}
@@ -0,0 +1,75 @@
+package com.elyashevich.benchmarks.mapper;
+
+import com.elyashevich.benchmarks.Fixtures;
+import com.elyashevich.core.domain.model.Category;
+import com.elyashevich.core.infrastructure.persistance.entity.CategoryMongoEntity;
+import com.elyashevich.core.infrastructure.persistance.mapper.impl.CategoryEntityMapper;
+import com.elyashevich.core.infrastructure.persistance.mapper.impl.CategoryEntityMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class CategoryEntityMapperBenchmark {
+
+    @Param({"1", "20", "100"})
+    private int size;
+
+    private CategoryEntityMapper entityMapper;
+    private CategoryMongoEntity entity;
+    private Category category;
+    private List<CategoryMongoEntity> entities;
+    private List<Category> categories;
+
+    @Setup
+    public void setUp() {
+        entityMapper = new CategoryEntityMapperImpl();
+        entity = Fixtures.categoryEntity(0);
+        category = Fixtures.category(0);
+        entities = Fixtures.listOf(size, Fixtures::categoryEntity);
+        categories = Fixtures.listOf(size, Fixtures::category);
+    }
+
+    @Benchmark
+    public Category toDomain() {
+        return entityMapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public CategoryMongoEntity toEntity() {
+        return entityMapper.toEntity(category);
+    }
+
+    @Benchmark
+    public CategoryMongoEntity updateEntity() {
+        CategoryMongoEntity target = new CategoryMongoEntity();
+        entityMapper.updateEntity(category, target);
+        return target;
+    }
+
+    @Benchmark
+    public List<Category> toDomainList() {
+        return entityMapper.toDomain(entities);
+    }
+
+    @Benchmark
+    public List<CategoryMongoEntity> toEntityList() {
+        return entityMapper.toEntity(categories);
+    }
+}
@@ -0,0 +1,75 @@
+package com.elyashevich.benchmarks.mapper;
+
+import com.elyashevich.benchmarks.Fixtures;
+import com.elyashevich.core.domain.model.Color;
+import com.elyashevich.core.infrastructure.persistance.entity.ColorMongoEntity;
+import com.elyashevich.core.infrastructure.persistance.mapper.impl.ColorEntityMapper;
+import com.elyashevich.core.infrastructure.persistance.mapper.impl.ColorEntityMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ColorEntityMapperBenchmark {
+
+    @Param({"1", "20", "100"})
+    private int size;
+
+    private ColorEntityMapper entityMapper;
+    private ColorMongoEntity entity;
+    private Color color;
+    private List<ColorMongoEntity> entities;
+    private List<Color> colors;
+
+    @Setup
+    public void setUp() {
+        entityMapper = new ColorEntityMapperImpl();
+        entity = Fixtures.colorEntity(0);
+        color = Fixtures.color(0);
+        entities = Fixtures.listOf(size, Fixtures::colorEntity);
+        colors = Fixtures.listOf(size, Fixtures::color);
+    }
+
+    @Benchmark
+    public Color toDomain() {
+        return entityMapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public ColorMongoEntity toEntity() {
+        return entityMapper.toEntity(color);
+    }
+
+    @Benchmark
+    public ColorMongoEntity updateEntity() {
+        ColorMongoEntity target = new ColorMongoEntity();
+        entityMapper.updateEntity(color, target);
+        return target;
+    }
+
+    @Benchmark
+    public List<Color> toDomainList() {
+        return entityMapper.toDomain(entities);
+    }
+
+    @Benchmark
+    public List<ColorMongoEntity> toEntityList() {
+        return entityMapper.toEntity(colors);
+    }
+}
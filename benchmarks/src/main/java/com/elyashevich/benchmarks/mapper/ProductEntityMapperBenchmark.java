@@ -0,0 +1,86 @@
+package com.elyashevich.benchmarks.mapper;
+
+import com.elyashevich.benchmarks.Fixtures;
+import com.elyashevich.core.domain.model.Product;
+import com.elyashevich.core.infrastructure.persistance.entity.ProductMongoEntity;
+import com.elyashevich.core.infrastructure.persistance.mapper.impl.ProductEntityMapper;
+import com.elyashevich.core.infrastructure.persistance.mapper.impl.ProductEntityMapperImpl;
+import com.elyashevich.core.infrastructure.web.dto.product.ProductRequestDto;
+import com.elyashevich.core.infrastructure.web.mapper.ProductMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ProductEntityMapperBenchmark {
+
+    @Param({"1", "20", "100"})
+    private int size;
+
+    private ProductEntityMapper entityMapper;
+    private ProductMapper webMapper;
+    private ProductMongoEntity entity;
+    private Product product;
+    private ProductRequestDto request;
+    private List<ProductMongoEntity> entities;
+    private List<Product> products;
+
+    @Setup
+    public void setUp() {
+        entityMapper = new ProductEntityMapperImpl();
+        webMapper = new ProductMapper();
+        entity = Fixtures.productEntity(0);
+        product = Fixtures.product(0);
+        request = Fixtures.productRequest(0);
+        entities = Fixtures.listOf(size, Fixtures::productEntity);
+        products = Fixtures.listOf(size, Fixtures::product);
+    }
+
+    @Benchmark
+    public Product toDomain() {
+        return entityMapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public ProductMongoEntity toEntity() {
+        return entityMapper.toEntity(product);
+    }
+
+    @Benchmark
+    public ProductMongoEntity updateEntity() {
+        ProductMongoEntity target = new ProductMongoEntity();
+        entityMapper.updateEntity(product, target);
+        return target;
+    }
+
+    @Benchmark
+    public List<Product> toDomainList() {
+        return entityMapper.toDomain(entities);
+    }
+
+    @Benchmark
+    public List<ProductMongoEntity> toEntityList() {
+        return entityMapper.toEntity(products);
+    }
+
+    @Benchmark
+    public Product fromRequest() {
+        return webMapper.toModel(request);
+    }
+}
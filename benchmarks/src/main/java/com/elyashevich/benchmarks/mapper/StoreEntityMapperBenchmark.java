@@ -0,0 +1,68 @@
+package com.elyashevich.benchmarks.mapper;
+
+import com.elyashevich.benchmarks.Fixtures;
+import com.elyashevich.store.domain.model.Store;
+import com.elyashevich.store.infrastructure.persistance.entity.StoreMongoEntity;
+import com.elyashevich.store.infrastructure.persistance.mapper.StoreEntityMapper;
+import com.elyashevich.store.infrastructure.persistance.mapper.StoreEntityMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class StoreEntityMapperBenchmark {
+
+    @Param({"1", "20", "100"})
+    private int size;
+
+    private StoreEntityMapper entityMapper;
+    private StoreMongoEntity entity;
+    private Store store;
+    private List<StoreMongoEntity> entities;
+    private List<Store> stores;
+
+    @Setup
+    public void setUp() {
+        entityMapper = new StoreEntityMapperImpl();
+        entity = Fixtures.storeEntity(0);
+        store = Fixtures.store(0);
+        entities = Fixtures.listOf(size, Fixtures::storeEntity);
+        stores = Fixtures.listOf(size, Fixtures::store);
+    }
+
+    @Benchmark
+    public Store toDomain() {
+        return entityMapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public StoreMongoEntity toEntity() {
+        return entityMapper.toEntity(store);
+    }
+
+    @Benchmark
+    public List<Store> toDomainList() {
+        return entityMapper.toDomain(entities);
+    }
+
+    @Benchmark
+    public List<StoreMongoEntity> toEntityList() {
+        return entityMapper.toEntity(stores);
+    }
+}
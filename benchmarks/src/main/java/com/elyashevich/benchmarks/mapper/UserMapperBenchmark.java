@@ -0,0 +1,79 @@
+package com.elyashevich.benchmarks.mapper;
+
+import com.elyashevich.benchmarks.Fixtures;
+import com.elyashevich.user.domain.model.User;
+import com.elyashevich.user.infrastructure.persistance.entity.UserMongoEntity;
+import com.elyashevich.user.infrastructure.persistance.mapper.UserEntityMapper;
+import com.elyashevich.user.infrastructure.persistance.mapper.UserEntityMapperImpl;
+import com.elyashevich.user.infrastructure.web.dto.user.UserRequestDto;
+import com.elyashevich.user.infrastructure.web.mapper.UserMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class UserMapperBenchmark {
+
+    @Param({"1", "20", "100"})
+    private int size;
+
+    private UserEntityMapper entityMapper;
+    private UserMapper webMapper;
+    private UserRequestDto request;
+    private UserMongoEntity entity;
+    private User user;
+    private List<UserMongoEntity> entities;
+    private List<User> users;
+
+    @Setup
+    public void setUp() {
+        entityMapper = new UserEntityMapperImpl();
+        webMapper = new UserMapper();
+        request = Fixtures.userRequest(0);
+        entity = Fixtures.userEntity(0);
+        user = Fixtures.user(0);
+        entities = Fixtures.listOf(size, Fixtures::userEntity);
+        users = Fixtures.listOf(size, Fixtures::user);
+    }
+
+    @Benchmark
+    public User toDomain() {
+        return entityMapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public UserMongoEntity toEntity() {
+        return entityMapper.toEntity(user);
+    }
+
+    @Benchmark
+    public List<User> toDomainList() {
+        return entityMapper.toDomain(entities);
+    }
+
+    @Benchmark
+    public List<UserMongoEntity> toEntityList() {
+        return entityMapper.toEntity(users);
+    }
+
+    @Benchmark
+    public User fromRequest() {
+        return webMapper.toDomain(request);
+    }
+}
@@ -0,0 +1,116 @@
+package com.elyashevich.benchmarks.metrics;
+
+import com.elyashevich.benchmarks.Fixtures;
+import com.elyashevich.common.infrastructure.config.PortMetricsProperties;
+import com.elyashevich.common.infrastructure.metrics.PortMetricsInterceptor;
+import com.elyashevich.core.application.port.out.CategoryRepository;
+import com.elyashevich.core.domain.model.Category;
+import com.elyashevich.core.domain.model.Revision;
+import com.elyashevich.core.infrastructure.persistance.entity.CategoryMongoEntity;
+import com.elyashevich.core.infrastructure.persistance.mapper.impl.CategoryEntityMapper;
+import com.elyashevich.core.infrastructure.persistance.mapper.impl.CategoryEntityMapperImpl;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class PortMetricsOverheadBenchmark {
+
+    private static final String STORE_ID = "store-1";
+
+    @Param({"1", "20", "100"})
+    private int size;
+
+    private CategoryRepository direct;
+    private CategoryRepository instrumented;
+
+    @Setup
+    public void setUp() {
+        direct = new MappingCategoryRepository(new CategoryEntityMapperImpl(), Fixtures.listOf(size, Fixtures::categoryEntity));
+
+        PrometheusMeterRegistry meterRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        PortMetricsProperties properties = new PortMetricsProperties(true, Duration.ofNanos(100_000), Duration.ofSeconds(10));
+        ProxyFactory proxyFactory = new ProxyFactory(direct);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new PortMetricsInterceptor(() -> meterRegistry, () -> properties));
+        instrumented = (CategoryRepository) proxyFactory.getProxy();
+    }
+
+    @Benchmark
+    public List<Category> direct() {
+        return direct.findByStoreId(STORE_ID);
+    }
+
+    @Benchmark
+    public List<Category> instrumented() {
+        return instrumented.findByStoreId(STORE_ID);
+    }
+
+    public static class MappingCategoryRepository implements CategoryRepository {
+
+        private final CategoryEntityMapper categoryMapper;
+        private final List<CategoryMongoEntity> entities;
+
+        public MappingCategoryRepository(CategoryEntityMapper categoryMapper, List<CategoryMongoEntity> entities) {
+            this.categoryMapper = categoryMapper;
+            this.entities = entities;
+        }
+
+        @Override
+        public List<Category> findByStoreId(String storeId) {
+            return categoryMapper.toDomain(entities);
+        }
+
+        @Override
+        public Optional<Category> findById(String id) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<LocalDateTime> findUpdatedAtById(String id) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Category create(Category category) {
+            return category;
+        }
+
+        @Override
+        public Optional<Revision<Category>> update(String id, Category changes) {
+            return Optional.empty();
+        }
+
+        @Override
+        public long deleteById(String id) {
+            return 0;
+        }
+
+        @Override
+        public boolean existsByTitleAndStoreId(String title, String storeId) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.elyashevich.benchmarks.persistance;
+
+import com.elyashevich.core.domain.model.CursorPage;
+import com.elyashevich.core.domain.model.PriceOrder;
+import com.elyashevich.core.domain.model.ProductSummary;
+import com.elyashevich.core.infrastructure.config.BulkProperties;
+import com.elyashevich.core.infrastructure.persistance.adapter.ProductRepositoryAdapter;
+import com.elyashevich.core.infrastructure.persistance.entity.ProductMongoEntity;
+import com.elyashevich.core.infrastructure.persistance.mapper.EntityMapper;
+import com.elyashevich.core.infrastructure.persistance.repository.CategoryMongoRepository;
+import com.elyashevich.core.infrastructure.persistance.repository.ColorMongoRepository;
+import com.elyashevich.core.infrastructure.persistance.repository.ProductMongoRepository;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.testcontainers.containers.MongoDBContainer;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ProductPricePageBenchmark {
+
+    private static final String DATABASE = "core_price_benchmark";
+    private static final String STORE_ID = "store-1";
+    private static final int PRODUCTS = 100_000;
+    private static final int STORES = 10;
+    private static final int CATEGORIES = 50;
+    private static final int BATCH_SIZE = 10_000;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"ASC", "DESC"})
+    private PriceOrder order;
+
+    @Param({"false", "true"})
+    private boolean priceRange;
+
+    private MongoDBContainer mongo;
+    private MongoClient mongoClient;
+    private ProductRepositoryAdapter productRepositoryAdapter;
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+    private String cursor;
+
+    @Setup
+    public void setUp() {
+        mongo = new MongoDBContainer("mongo:7.0");
+        mongo.start();
+        mongoClient = MongoClients.create(mongo.getConnectionString());
+        MongoTemplate mongoTemplate = new MongoTemplate(mongoClient, DATABASE);
+
+        IndexOperations indexOperations = mongoTemplate.indexOps(ProductMongoEntity.class);
+        new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext())
+                .resolveIndexFor(ProductMongoEntity.class)
+                .forEach(indexOperations::ensureIndex);
+
+        SplittableRandom random = new SplittableRandom(42);
+        List<ProductMongoEntity> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < PRODUCTS; i++) {
+            batch.add(ProductMongoEntity.builder()
+                    .id(new ObjectId().toHexString())
+                    .title("Product " + i)
+                    .storeId("store-" + random.nextInt(STORES))
+                    .categoryId("category-" + random.nextInt(CATEGORIES))
+                    .price(BigDecimal.valueOf(random.nextInt(100, 100_000), 2))
+                    .build());
+            if (batch.size() == BATCH_SIZE) {
+                mongoTemplate.insertAll(batch);
+                batch.clear();
+            }
+        }
+        mongoTemplate.insertAll(batch);
+
+        productRepositoryAdapter = new ProductRepositoryAdapter(
+                unused(ProductMongoRepository.class),
+                unused(EntityMapper.class),
+                unused(CategoryMongoRepository.class),
+                unused(ColorMongoRepository.class),
+                mongoTemplate,
+                new BulkProperties(1000)
+        );
+        minPrice = priceRange ? new BigDecimal("50") : null;
+        maxPrice = priceRange ? new BigDecimal("250") : null;
+        cursor = firstPage().next();
+    }
+
+    @TearDown
+    public void tearDown() {
+        mongoClient.close();
+        mongo.stop();
+    }
+
+    @Benchmark
+    public CursorPage<ProductSummary> firstPage() {
+        return productRepositoryAdapter.findSummariesByStoreIdOrderByPrice(STORE_ID, minPrice, maxPrice, order, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public CursorPage<ProductSummary> nextPage() {
+        return productRepositoryAdapter.findSummariesByStoreIdOrderByPrice(STORE_ID, minPrice, maxPrice, order, cursor, PAGE_SIZE);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T unused(Class<?> type) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+}
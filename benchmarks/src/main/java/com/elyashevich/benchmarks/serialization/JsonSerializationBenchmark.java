@@ -0,0 +1,80 @@
+package com.elyashevich.benchmarks.serialization;
+
+import com.elyashevich.benchmarks.Fixtures;
+import com.elyashevich.core.domain.model.CursorPage;
+import com.elyashevich.core.domain.model.Product;
+import com.elyashevich.store.domain.model.Store;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class JsonSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ObjectWriter productWriter;
+    private ObjectWriter storeWriter;
+    private ObjectWriter pageWriter;
+    private ObjectReader productReader;
+    private Product product;
+    private Store store;
+    private CursorPage<Product> page;
+    private byte[] productJson;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        ObjectMapper objectMapper = Fixtures.objectMapper();
+        productWriter = objectMapper.writerFor(Product.class);
+        storeWriter = objectMapper.writerFor(Store.class);
+        pageWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructParametricType(CursorPage.class, Product.class));
+        productReader = objectMapper.readerFor(Product.class);
+
+        product = Fixtures.product(0);
+        store = Fixtures.store(0);
+        page = new CursorPage<>(Fixtures.listOf(pageSize, Fixtures::product), "next-cursor");
+        productJson = productWriter.writeValueAsBytes(product);
+    }
+
+    @Benchmark
+    public byte[] writeProduct() throws JsonProcessingException {
+        return productWriter.writeValueAsBytes(product);
+    }
+
+    @Benchmark
+    public byte[] writeStore() throws JsonProcessingException {
+        return storeWriter.writeValueAsBytes(store);
+    }
+
+    @Benchmark
+    public byte[] writeProductPage() throws JsonProcessingException {
+        return pageWriter.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public Product readProduct() throws IOException {
+        return productReader.readValue(productJson);
+    }
+}
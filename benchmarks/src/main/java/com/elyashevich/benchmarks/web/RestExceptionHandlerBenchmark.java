@@ -0,0 +1,80 @@
+package com.elyashevich.benchmarks.web;
+
+import com.elyashevich.benchmarks.Fixtures;
+import com.elyashevich.core.domain.exception.ResourceConflictException;
+import com.elyashevich.core.domain.exception.ResourceNotFoundException;
+import com.elyashevich.core.infrastructure.web.controller.RestExceptionHandler;
+import com.elyashevich.core.infrastructure.web.dto.product.ProductRequestDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class RestExceptionHandlerBenchmark {
+
+    private static final String PRODUCT_ID = "665f1c2e8b3e4a1d2c3b4a51";
+
+    private RestExceptionHandler handler;
+    private ObjectWriter writer;
+    private ResourceNotFoundException notFound;
+    private MethodArgumentNotValidException invalid;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        handler = new RestExceptionHandler();
+        writer = Fixtures.objectMapper().writerFor(Map.class);
+        notFound = new ResourceNotFoundException("Product with id '%s' not found".formatted(PRODUCT_ID));
+
+        BindingResult bindingResult = new BeanPropertyBindingResult(Fixtures.productRequest(0), "productRequestDto");
+        bindingResult.rejectValue("title", "NotBlank", "Title is required");
+        bindingResult.rejectValue("price", "DecimalMin", "Price must be greater than 0");
+        bindingResult.rejectValue("images", "NotEmpty", "At least one image is required");
+        MethodParameter parameter = new MethodParameter(
+                RestExceptionHandlerBenchmark.class.getDeclaredMethod("target", ProductRequestDto.class), 0
+        );
+        invalid = new MethodArgumentNotValidException(parameter, bindingResult);
+    }
+
+    @Benchmark
+    public byte[] renderNotFound() throws JsonProcessingException {
+        return writer.writeValueAsBytes(handler.handleResourceNotFoundException(notFound));
+    }
+
+    @Benchmark
+    public byte[] renderValidationErrors() throws JsonProcessingException {
+        return writer.writeValueAsBytes(handler.handleValidationExceptions(invalid));
+    }
+
+    @Benchmark
+    public byte[] createAndRenderConflict() throws JsonProcessingException {
+        ResourceConflictException conflict = new ResourceConflictException(
+                "Product with id '%s' was modified concurrently".formatted(PRODUCT_ID)
+        );
+        return writer.writeValueAsBytes(handler.handleResourceConflictException(conflict));
+    }
+
+    @SuppressWarnings("unused")
+    private void target(ProductRequestDto dto) {
+    }
+}
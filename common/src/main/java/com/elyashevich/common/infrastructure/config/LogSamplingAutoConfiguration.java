@@ -0,0 +1,21 @@
+package com.elyashevich.common.infrastructure.config;
+
+import ch.qos.logback.classic.LoggerContext;
+import com.elyashevich.common.infrastructure.logging.LogSamplingRegistrar;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+@AutoConfiguration
+@ConditionalOnClass(LoggerContext.class)
+@EnableConfigurationProperties(LogSamplingProperties.class)
+@ConditionalOnProperty(name = "application.logging.sampling.enabled", havingValue = "true")
+public class LogSamplingAutoConfiguration {
+
+    @Bean
+    public LogSamplingRegistrar logSamplingRegistrar(LogSamplingProperties properties) {
+        return new LogSamplingRegistrar(properties);
+    }
+}
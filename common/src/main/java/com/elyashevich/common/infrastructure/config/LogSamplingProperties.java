@@ -0,0 +1,13 @@
+package com.elyashevich.common.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "application.logging.sampling")
+public record LogSamplingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue Map<String, Integer> keepOneIn
+) {
+}
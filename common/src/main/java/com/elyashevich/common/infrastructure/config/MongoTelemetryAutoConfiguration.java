@@ -0,0 +1,60 @@
+package com.elyashevich.common.infrastructure.config;
+
+import com.elyashevich.common.infrastructure.metrics.MongoCommandTelemetry;
+import com.elyashevich.common.infrastructure.metrics.MongoPoolTelemetry;
+import com.elyashevich.common.infrastructure.metrics.RepositoryOperationTracker;
+import com.elyashevich.common.infrastructure.metrics.SlowOperationExplainer;
+import com.mongodb.client.MongoClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoAutoConfiguration;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+@AutoConfiguration(before = MongoAutoConfiguration.class)
+@ConditionalOnClass(MongoClient.class)
+@EnableConfigurationProperties(MongoTelemetryProperties.class)
+@ConditionalOnProperty(name = "application.metrics.mongo.enabled", havingValue = "true")
+public class MongoTelemetryAutoConfiguration {
+
+    @Bean
+    public static RepositoryOperationTracker repositoryOperationTracker() {
+        return new RepositoryOperationTracker();
+    }
+
+    @Bean
+    public SlowOperationExplainer slowOperationExplainer(
+            ObjectProvider<MongoClient> mongoClient,
+            MeterRegistry meterRegistry,
+            MongoTelemetryProperties properties
+    ) {
+        return new SlowOperationExplainer(mongoClient, meterRegistry, properties);
+    }
+
+    @Bean
+    public MongoCommandTelemetry mongoCommandTelemetry(
+            MongoTelemetryProperties properties,
+            SlowOperationExplainer slowOperationExplainer
+    ) {
+        return new MongoCommandTelemetry(properties, slowOperationExplainer);
+    }
+
+    @Bean
+    public MongoPoolTelemetry mongoPoolTelemetry(MeterRegistry meterRegistry, MongoTelemetryProperties properties) {
+        return new MongoPoolTelemetry(meterRegistry, properties);
+    }
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoTelemetryCustomizer(
+            MongoCommandTelemetry commandTelemetry,
+            MongoPoolTelemetry poolTelemetry
+    ) {
+        return builder -> builder
+                .addCommandListener(commandTelemetry)
+                .applyToConnectionPoolSettings(pool -> pool.addConnectionPoolListener(poolTelemetry));
+    }
+}
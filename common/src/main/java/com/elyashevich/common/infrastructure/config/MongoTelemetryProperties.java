@@ -0,0 +1,15 @@
+package com.elyashevich.common.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "application.metrics.mongo")
+public record MongoTelemetryProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("100ms") Duration slowOperationThreshold,
+        @DefaultValue("1m") Duration explainInterval,
+        @DefaultValue("16") int explainQueueCapacity
+) {
+}
@@ -0,0 +1,22 @@
+package com.elyashevich.common.infrastructure.config;
+
+import com.elyashevich.common.infrastructure.threads.VirtualThreadPinningMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+@AutoConfiguration
+@EnableConfigurationProperties(PinningMonitorProperties.class)
+@ConditionalOnProperty(name = "application.virtual-threads.pinning-monitor.enabled", havingValue = "true")
+public class PinningMonitorAutoConfiguration {
+
+    @Bean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            PinningMonitorProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        return new VirtualThreadPinningMonitor(properties, meterRegistry);
+    }
+}
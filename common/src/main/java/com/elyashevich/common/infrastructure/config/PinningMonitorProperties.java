@@ -0,0 +1,14 @@
+package com.elyashevich.common.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "application.virtual-threads.pinning-monitor")
+public record PinningMonitorProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("20ms") Duration threshold,
+        @DefaultValue("8") int stackDepth
+) {
+}
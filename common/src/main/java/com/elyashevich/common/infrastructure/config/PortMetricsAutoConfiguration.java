@@ -0,0 +1,25 @@
+package com.elyashevich.common.infrastructure.config;
+
+import com.elyashevich.common.infrastructure.metrics.PortMetricsPostProcessor;
+import com.elyashevich.common.infrastructure.metrics.PortResultSize;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+@AutoConfiguration
+@EnableConfigurationProperties(PortMetricsProperties.class)
+@ConditionalOnProperty(name = "application.metrics.ports.enabled", havingValue = "true")
+public class PortMetricsAutoConfiguration {
+
+    @Bean
+    public static PortMetricsPostProcessor portMetricsPostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            ObjectProvider<PortMetricsProperties> properties,
+            ObjectProvider<PortResultSize> resultSizes
+    ) {
+        return new PortMetricsPostProcessor(meterRegistry, properties, resultSizes);
+    }
+}
@@ -0,0 +1,14 @@
+package com.elyashevich.common.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "application.metrics.ports")
+public record PortMetricsProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("100us") Duration minimumExpectedLatency,
+        @DefaultValue("10s") Duration maximumExpectedLatency
+) {
+}
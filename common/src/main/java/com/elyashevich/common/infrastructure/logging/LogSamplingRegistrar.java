@@ -0,0 +1,47 @@
+package com.elyashevich.common.infrastructure.logging;
+
+import ch.qos.logback.classic.LoggerContext;
+import com.elyashevich.common.infrastructure.config.LogSamplingProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+@Slf4j
+@RequiredArgsConstructor
+public class LogSamplingRegistrar implements SmartLifecycle {
+
+    private final LogSamplingProperties properties;
+
+    private volatile SamplingTurboFilter filter;
+
+    @Override
+    public synchronized void start() {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+            log.warn("Log sampling requires Logback, found {}", LoggerFactory.getILoggerFactory().getClass().getName());
+            return;
+        }
+        SamplingTurboFilter sampling = new SamplingTurboFilter(properties.keepOneIn());
+        sampling.setName("sampling");
+        sampling.setContext(context);
+        sampling.start();
+        context.addTurboFilter(sampling);
+        filter = sampling;
+
+        log.info("Keeping one in N log events at INFO and below for {}", properties.keepOneIn());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (filter != null) {
+            ((LoggerContext) filter.getContext()).getTurboFilterList().remove(filter);
+            filter.stop();
+            filter = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return filter != null;
+    }
+}
@@ -0,0 +1,50 @@
+package com.elyashevich.common.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class SamplingTurboFilter extends TurboFilter {
+
+    private static final int KEEP_ALL = 1;
+
+    private final Map<String, Integer> keepOneIn;
+    private final Map<String, Integer> resolved = new ConcurrentHashMap<>();
+
+    public SamplingTurboFilter(Map<String, Integer> keepOneIn) {
+        this.keepOneIn = Map.copyOf(keepOneIn);
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (format == null || level == null || level.isGreaterOrEqual(Level.WARN)) {
+            return FilterReply.NEUTRAL;
+        }
+        int oneIn = resolved.computeIfAbsent(logger.getName(), this::resolve);
+        if (oneIn <= KEEP_ALL || ThreadLocalRandom.current().nextInt(oneIn) == 0) {
+            return FilterReply.NEUTRAL;
+        }
+        return FilterReply.DENY;
+    }
+
+    int resolve(String loggerName) {
+        String name = loggerName;
+        while (true) {
+            Integer oneIn = keepOneIn.get(name);
+            if (oneIn != null) {
+                return oneIn;
+            }
+            int dot = name.lastIndexOf('.');
+            if (dot < 0) {
+                return KEEP_ALL;
+            }
+            name = name.substring(0, dot);
+        }
+    }
+}
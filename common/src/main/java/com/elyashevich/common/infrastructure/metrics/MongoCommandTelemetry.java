@@ -0,0 +1,59 @@
+package com.elyashevich.common.infrastructure.metrics;
+
+import com.elyashevich.common.infrastructure.config.MongoTelemetryProperties;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import lombok.RequiredArgsConstructor;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@RequiredArgsConstructor
+public class MongoCommandTelemetry implements CommandListener {
+
+    private static final Set<String> EXPLAINABLE_COMMANDS = Set.of("find", "aggregate", "count", "distinct");
+
+    private final MongoTelemetryProperties properties;
+    private final SlowOperationExplainer slowOperationExplainer;
+    private final Map<Integer, SlowOperationExplainer.Operation> inFlight = new ConcurrentHashMap<>();
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        String command = event.getCommandName();
+        if (!EXPLAINABLE_COMMANDS.contains(command)) {
+            return;
+        }
+        BsonDocument body = event.getCommand();
+        BsonValue collection = body.get(command);
+        SlowOperationExplainer.Operation operation = new SlowOperationExplainer.Operation(
+                event.getDatabaseName(),
+                command,
+                collection != null && collection.isString() ? collection.asString().getValue() : event.getDatabaseName(),
+                RepositoryOperationTracker.current(),
+                null
+        );
+        inFlight.put(event.getRequestId(), slowOperationExplainer.wantsPlan(operation)
+                ? operation.withBody(body.clone())
+                : operation);
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        SlowOperationExplainer.Operation operation = inFlight.remove(event.getRequestId());
+        long elapsed = event.getElapsedTime(TimeUnit.NANOSECONDS);
+        if (operation != null && elapsed >= properties.slowOperationThreshold().toNanos()) {
+            slowOperationExplainer.submit(operation, elapsed);
+        }
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        inFlight.remove(event.getRequestId());
+    }
+}
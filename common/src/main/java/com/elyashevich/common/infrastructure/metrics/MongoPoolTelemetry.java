@@ -0,0 +1,122 @@
+package com.elyashevich.common.infrastructure.metrics;
+
+import com.elyashevich.common.infrastructure.config.MongoTelemetryProperties;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckedInEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionPoolClosedEvent;
+import com.mongodb.event.ConnectionPoolCreatedEvent;
+import com.mongodb.event.ConnectionPoolListener;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@RequiredArgsConstructor
+public class MongoPoolTelemetry implements ConnectionPoolListener {
+
+    static final String CHECKOUT_WAIT_METER = "mongodb.driver.pool.checkout.wait";
+    static final String SATURATION_METER = "mongodb.driver.pool.saturation";
+
+    private final MeterRegistry meterRegistry;
+    private final MongoTelemetryProperties properties;
+    private final Map<ServerId, Pool> pools = new ConcurrentHashMap<>();
+
+    @Override
+    public void connectionPoolCreated(ConnectionPoolCreatedEvent event) {
+        ServerId serverId = event.getServerId();
+        Tags tags = Tags.of(
+                "cluster.id", serverId.getClusterId().getValue(),
+                "server.address", serverId.getAddress().toString()
+        );
+        Pool pool = new Pool(event.getSettings().getMaxSize(), tags);
+        pool.saturation = Gauge.builder(SATURATION_METER, pool, Pool::saturation)
+                .description("Share of the connection pool currently checked out")
+                .tags(tags)
+                .strongReference(true)
+                .register(meterRegistry);
+        pool.checkoutWait = checkoutWait(tags, "success");
+        pools.put(serverId, pool);
+    }
+
+    @Override
+    public void connectionPoolClosed(ConnectionPoolClosedEvent event) {
+        Pool pool = pools.remove(event.getServerId());
+        if (pool != null) {
+            meterRegistry.remove(pool.saturation);
+        }
+    }
+
+    @Override
+    public void connectionCheckedOut(ConnectionCheckedOutEvent event) {
+        ServerId serverId = event.getConnectionId().getServerId();
+        Pool pool = pools.get(serverId);
+        if (pool == null) {
+            return;
+        }
+        int checkedOut = pool.checkedOut.incrementAndGet();
+        long wait = event.getElapsedTime(TimeUnit.NANOSECONDS);
+        pool.checkoutWait.record(wait, TimeUnit.NANOSECONDS);
+        if (wait >= properties.slowOperationThreshold().toNanos()) {
+            log.warn("Waited {} ms for a Mongo connection to {} with {} of {} connections checked out",
+                    TimeUnit.NANOSECONDS.toMillis(wait), serverId.getAddress(), checkedOut, pool.maxSize);
+        }
+    }
+
+    @Override
+    public void connectionCheckOutFailed(ConnectionCheckOutFailedEvent event) {
+        Pool pool = pools.get(event.getServerId());
+        if (pool == null) {
+            return;
+        }
+        long wait = event.getElapsedTime(TimeUnit.NANOSECONDS);
+        checkoutWait(pool.tags, event.getReason().name().toLowerCase(Locale.ROOT)).record(wait, TimeUnit.NANOSECONDS);
+        log.warn("Mongo connection checkout from {} failed with {} after {} ms",
+                event.getServerId().getAddress(), event.getReason(), TimeUnit.NANOSECONDS.toMillis(wait));
+    }
+
+    @Override
+    public void connectionCheckedIn(ConnectionCheckedInEvent event) {
+        Pool pool = pools.get(event.getConnectionId().getServerId());
+        if (pool != null) {
+            pool.checkedOut.decrementAndGet();
+        }
+    }
+
+    private Timer checkoutWait(Tags tags, String outcome) {
+        return Timer.builder(CHECKOUT_WAIT_METER)
+                .description("Time spent waiting to check a connection out of the pool")
+                .tags(tags)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static final class Pool {
+
+        private final int maxSize;
+        private final Tags tags;
+        private final AtomicInteger checkedOut = new AtomicInteger();
+        private Gauge saturation;
+        private Timer checkoutWait;
+
+        private Pool(int maxSize, Tags tags) {
+            this.maxSize = maxSize;
+            this.tags = tags;
+        }
+
+        double saturation() {
+            return maxSize == 0 ? 0 : checkedOut.get() / (double) maxSize;
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.elyashevich.common.infrastructure.metrics;
+
+import com.elyashevich.common.infrastructure.config.PortMetricsProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.util.ClassUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+public class PortMetricsInterceptor implements MethodInterceptor {
+
+    static final String LATENCY_METER = "port.invocations";
+    static final String ERROR_METER = "port.errors";
+    static final String RESULT_SIZE_METER = "port.result.size";
+
+    private static final String NONE = "none";
+    private static final boolean REACTOR_PRESENT =
+            ClassUtils.isPresent("reactor.core.publisher.Mono", PortMetricsInterceptor.class.getClassLoader());
+
+    private final Supplier<MeterRegistry> meterRegistry;
+    private final Supplier<PortMetricsProperties> properties;
+    private final Supplier<List<PortResultSize>> resultSizes;
+    private final Map<Method, PortMeters> meters = new ConcurrentHashMap<>();
+
+    public PortMetricsInterceptor(Supplier<MeterRegistry> meterRegistry, Supplier<PortMetricsProperties> properties) {
+        this(meterRegistry, properties, List::of);
+    }
+
+    public PortMetricsInterceptor(
+            Supplier<MeterRegistry> meterRegistry,
+            Supplier<PortMetricsProperties> properties,
+            Supplier<List<PortResultSize>> resultSizes
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+        this.resultSizes = resultSizes;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        PortMeters portMeters = meters.computeIfAbsent(invocation.getMethod(), method -> register(method, invocation));
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = invocation.proceed();
+        } catch (Throwable e) {
+            portMeters.failure(start, e);
+            throw e;
+        }
+
+        if (result instanceof Stream<?> stream) {
+            return stream.onClose(() -> portMeters.success(start, null));
+        }
+        if (REACTOR_PRESENT && ReactiveResults.isReactive(result)) {
+            return ReactiveResults.instrument(result, portMeters);
+        }
+        portMeters.success(start, result);
+        return result;
+    }
+
+    private PortMeters register(Method method, MethodInvocation invocation) {
+        Class<?> targetClass = invocation.getThis() == null
+                ? method.getDeclaringClass()
+                : AopUtils.getTargetClass(invocation.getThis());
+        Class<?> port = PortPointcut.portOf(method, targetClass);
+        Tags tags = Tags.of(
+                "port", port == null ? targetClass.getSimpleName() : port.getSimpleName(),
+                "method", method.getName(),
+                "direction", port == null ? NONE : PortPointcut.direction(port)
+        );
+        return new PortMeters(meterRegistry.get(), properties.get(), resultSizes.get(), tags);
+    }
+
+    private static final class ReactiveResults {
+
+        static boolean isReactive(Object result) {
+            return result instanceof Mono<?> || result instanceof Flux<?>;
+        }
+
+        static Object instrument(Object result, PortMeters portMeters) {
+            if (result instanceof Mono<?> mono) {
+                return Mono.defer(() -> {
+                    long start = System.nanoTime();
+                    return mono.doOnSuccess(value -> portMeters.success(start, value))
+                            .doOnError(e -> portMeters.failure(start, e))
+                            .doOnCancel(() -> portMeters.cancelled(start));
+                });
+            }
+            Flux<?> flux = (Flux<?>) result;
+            return Flux.defer(() -> {
+                long start = System.nanoTime();
+                return flux.doOnComplete(() -> portMeters.success(start, null))
+                        .doOnError(e -> portMeters.failure(start, e))
+                        .doOnCancel(() -> portMeters.cancelled(start));
+            });
+        }
+    }
+
+    private static final class PortMeters {
+
+        private final MeterRegistry registry;
+        private final PortMetricsProperties properties;
+        private final List<PortResultSize> resultSizes;
+        private final Tags tags;
+        private final Timer success;
+        private final Map<Class<?>, FailureMeters> failures = new ConcurrentHashMap<>();
+        private volatile DistributionSummary resultSize;
+        private volatile Timer cancelled;
+
+        private PortMeters(
+                MeterRegistry registry,
+                PortMetricsProperties properties,
+                List<PortResultSize> resultSizes,
+                Tags tags
+        ) {
+            this.registry = registry;
+            this.properties = properties;
+            this.resultSizes = resultSizes;
+            this.tags = tags;
+            this.success = latency("success", NONE);
+        }
+
+        void success(long start, Object result) {
+            success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            int size = sizeOf(result);
+            if (size >= 0) {
+                resultSize().record(size);
+            }
+        }
+
+        void failure(long start, Throwable error) {
+            FailureMeters meters = failures.computeIfAbsent(error.getClass(), this::failureMeters);
+            meters.latency().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            meters.errors().increment();
+        }
+
+        void cancelled(long start) {
+            Timer timer = cancelled;
+            if (timer == null) {
+                timer = latency("cancelled", NONE);
+                cancelled = timer;
+            }
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        private int sizeOf(Object result) {
+            if (result instanceof Collection<?> collection) {
+                return collection.size();
+            }
+            if (result == null) {
+                return PortResultSize.UNKNOWN;
+            }
+            for (PortResultSize resultSize : resultSizes) {
+                int size = resultSize.sizeOf(result);
+                if (size >= 0) {
+                    return size;
+                }
+            }
+            return PortResultSize.UNKNOWN;
+        }
+
+        private FailureMeters failureMeters(Class<?> errorType) {
+            String exception = errorType.getSimpleName();
+            Counter errors = Counter.builder(ERROR_METER)
+                    .description("Port method invocations that ended with an exception")
+                    .tags(tags)
+                    .tag("exception", exception)
+                    .register(registry);
+            return new FailureMeters(latency("error", exception), errors);
+        }
+
+        private DistributionSummary resultSize() {
+            DistributionSummary summary = resultSize;
+            if (summary == null) {
+                summary = DistributionSummary.builder(RESULT_SIZE_METER)
+                        .description("Number of items returned by a port method")
+                        .baseUnit("items")
+                        .tags(tags)
+                        .publishPercentileHistogram()
+                        .register(registry);
+                resultSize = summary;
+            }
+            return summary;
+        }
+
+        private Timer latency(String outcome, String exception) {
+            return Timer.builder(LATENCY_METER)
+                    .description("Latency of port method invocations")
+                    .tags(tags)
+                    .tag("outcome", outcome)
+                    .tag("exception", exception)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(properties.minimumExpectedLatency())
+                    .maximumExpectedValue(properties.maximumExpectedLatency())
+                    .register(registry);
+        }
+    }
+
+    private record FailureMeters(Timer latency, Counter errors) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.elyashevich.common.infrastructure.metrics;
+
+import com.elyashevich.common.infrastructure.config.PortMetricsProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+
+public class PortMetricsPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    public PortMetricsPostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            ObjectProvider<PortMetricsProperties> properties,
+            ObjectProvider<PortResultSize> resultSizes
+    ) {
+        PortMetricsInterceptor interceptor = new PortMetricsInterceptor(
+                meterRegistry::getObject,
+                properties::getObject,
+                () -> resultSizes.orderedStream().toList()
+        );
+        this.advisor = new DefaultPointcutAdvisor(new PortPointcut(), interceptor);
+        setBeforeExistingAdvisors(true);
+        setProxyTargetClass(true);
+    }
+}
@@ -0,0 +1,38 @@
+package com.elyashevich.common.infrastructure.metrics;
+
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+
+public class PortPointcut extends StaticMethodMatcherPointcut {
+
+    static final String INBOUND_PACKAGE_SUFFIX = ".application.port.in";
+    static final String OUTBOUND_PACKAGE_SUFFIX = ".application.port.out";
+
+    @Override
+    public boolean matches(Method method, Class<?> targetClass) {
+        return portOf(method, targetClass) != null;
+    }
+
+    static Class<?> portOf(Method method, Class<?> targetClass) {
+        for (Class<?> candidate : ClassUtils.getAllInterfacesForClassAsSet(targetClass)) {
+            if (direction(candidate) != null
+                    && ClassUtils.hasMethod(candidate, method.getName(), method.getParameterTypes())) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    static String direction(Class<?> port) {
+        String packageName = port.getPackageName();
+        if (packageName.endsWith(INBOUND_PACKAGE_SUFFIX)) {
+            return "inbound";
+        }
+        if (packageName.endsWith(OUTBOUND_PACKAGE_SUFFIX)) {
+            return "outbound";
+        }
+        return null;
+    }
+}
@@ -0,0 +1,9 @@
+package com.elyashevich.common.infrastructure.metrics;
+
+@FunctionalInterface
+public interface PortResultSize {
+
+    int UNKNOWN = -1;
+
+    int sizeOf(Object result);
+}
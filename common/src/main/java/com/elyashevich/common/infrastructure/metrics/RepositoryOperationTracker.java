@@ -0,0 +1,59 @@
+package com.elyashevich.common.infrastructure.metrics;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class RepositoryOperationTracker implements BeanPostProcessor {
+
+    static final String NONE = "none";
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    static String current() {
+        String operation = CURRENT.get();
+        return operation == null ? NONE : operation;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                    (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(
+                            new OperationInterceptor(repositoryInformation.getRepositoryInterface().getSimpleName())
+                    )
+            ));
+        }
+        return bean;
+    }
+
+    private static final class OperationInterceptor implements MethodInterceptor {
+
+        private final String repository;
+        private final Map<Method, String> operations = new ConcurrentHashMap<>();
+
+        private OperationInterceptor(String repository) {
+            this.repository = repository;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            String previous = CURRENT.get();
+            CURRENT.set(operations.computeIfAbsent(invocation.getMethod(), method -> repository + "." + method.getName()));
+            try {
+                return invocation.proceed();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        }
+    }
+}
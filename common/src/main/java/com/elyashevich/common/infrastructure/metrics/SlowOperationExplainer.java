@@ -0,0 +1,264 @@
+package com.elyashevich.common.infrastructure.metrics;
+
+import com.elyashevich.common.infrastructure.config.MongoTelemetryProperties;
+import com.mongodb.client.MongoClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.SmartLifecycle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@Slf4j
+public class SlowOperationExplainer implements SmartLifecycle {
+
+    static final String SLOW_METER = "mongodb.driver.commands.slow";
+    static final String DOCS_EXAMINED_RATIO_METER = "mongodb.driver.commands.docs.examined.ratio";
+
+    private static final Set<String> GENERIC_FIELDS = Set.of(
+            "$db", "lsid", "$clusterTime", "txnNumber", "autocommit", "startTransaction",
+            "$readPreference", "readConcern", "maxTimeMS", "apiVersion", "apiStrict", "apiDeprecationErrors"
+    );
+    private static final String PLACEHOLDER = "?";
+
+    private final ObjectProvider<MongoClient> mongoClient;
+    private final MeterRegistry meterRegistry;
+    private final MongoTelemetryProperties properties;
+    private final Map<String, Long> lastExplained = new ConcurrentHashMap<>();
+    private final Map<String, Long> wanted = new ConcurrentHashMap<>();
+
+    private volatile ThreadPoolExecutor executor;
+
+    public SlowOperationExplainer(
+            ObjectProvider<MongoClient> mongoClient,
+            MeterRegistry meterRegistry,
+            MongoTelemetryProperties properties
+    ) {
+        this.mongoClient = mongoClient;
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
+    @Override
+    public synchronized void start() {
+        executor = new ThreadPoolExecutor(
+                1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.explainQueueCapacity()),
+                runnable -> Thread.ofPlatform().name("mongo-explain").daemon().unstarted(runnable),
+                new ThreadPoolExecutor.DiscardPolicy()
+        );
+        log.info("Explaining Mongo queries slower than {} at most once per {} per query shape",
+                properties.slowOperationThreshold(), properties.explainInterval());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return executor != null;
+    }
+
+    boolean wantsPlan(Operation operation) {
+        String key = operation.key();
+        Long since = wanted.get(key);
+        if (since == null) {
+            return false;
+        }
+        if (System.nanoTime() - since >= properties.explainInterval().toNanos()) {
+            wanted.remove(key, since);
+            return false;
+        }
+        return true;
+    }
+
+    void submit(Operation operation, long elapsedNanos) {
+        Counter.builder(SLOW_METER)
+                .description("Mongo commands that crossed the slow operation threshold")
+                .tags("collection", operation.collection(), "command", operation.command(), "source", operation.source())
+                .register(meterRegistry)
+                .increment();
+
+        ThreadPoolExecutor current = executor;
+        String key = operation.key();
+        if (current != null && operation.body() == null && !recentlyExplained(key)) {
+            wanted.putIfAbsent(key, System.nanoTime());
+        }
+        if (current == null || operation.body() == null || !claim(key)) {
+            log.debug("Slow Mongo {} on {}.{} took {} ms from {}",
+                    operation.command(), operation.database(), operation.collection(),
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), operation.source());
+            return;
+        }
+        wanted.remove(key);
+        current.execute(() -> explain(operation, operation.shape(), elapsedNanos));
+    }
+
+    private boolean claim(String key) {
+        long now = System.nanoTime();
+        long interval = properties.explainInterval().toNanos();
+        boolean[] claimed = {false};
+        lastExplained.compute(key, (ignored, last) -> {
+            if (last != null && now - last < interval) {
+                return last;
+            }
+            claimed[0] = true;
+            return now;
+        });
+        return claimed[0];
+    }
+
+    private boolean recentlyExplained(String key) {
+        Long last = lastExplained.get(key);
+        return last != null && System.nanoTime() - last < properties.explainInterval().toNanos();
+    }
+
+    private void explain(Operation operation, String shape, long elapsedNanos) {
+        try {
+            BsonDocument command = new BsonDocument("explain", operation.explainable())
+                    .append("verbosity", new BsonString("executionStats"));
+            Plan plan = Plan.of(mongoClient.getObject()
+                    .getDatabase(operation.database())
+                    .runCommand(command, BsonDocument.class));
+
+            DistributionSummary.builder(DOCS_EXAMINED_RATIO_METER)
+                    .description("Documents examined per document returned by slow Mongo commands")
+                    .tags("collection", operation.collection(), "command", operation.command(), "source", operation.source())
+                    .register(meterRegistry)
+                    .record(plan.examinedRatio());
+
+            log.warn("Slow Mongo {} on {}.{} took {} ms from {}: plan {}, examined {} keys and {} documents to return {}, shape {}",
+                    operation.command(), operation.database(), operation.collection(),
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), operation.source(),
+                    plan.stages(), plan.keysExamined(), plan.docsExamined(), plan.returned(), shape);
+        } catch (RuntimeException e) {
+            log.warn("Could not explain slow Mongo {} on {}.{} from {}: {}",
+                    operation.command(), operation.database(), operation.collection(), operation.source(), e.getMessage());
+        }
+    }
+
+    static String shape(BsonValue value) {
+        if (value.isDocument()) {
+            return value.asDocument().entrySet().stream()
+                    .map(entry -> entry.getKey() + ": " + shape(entry.getValue()))
+                    .collect(Collectors.joining(", ", "{", "}"));
+        }
+        if (value.isArray()) {
+            return value.asArray().getValues().stream()
+                    .map(SlowOperationExplainer::shape)
+                    .distinct()
+                    .collect(Collectors.joining(", ", "[", "]"));
+        }
+        return PLACEHOLDER;
+    }
+
+    public record Operation(String database, String command, String collection, String source, BsonDocument body) {
+
+        Operation withBody(BsonDocument body) {
+            return new Operation(database, command, collection, source, body);
+        }
+
+        String key() {
+            return collection + ' ' + command + ' ' + source;
+        }
+
+        BsonDocument explainable() {
+            BsonDocument explainable = new BsonDocument();
+            body.forEach((key, value) -> {
+                if (!GENERIC_FIELDS.contains(key)) {
+                    explainable.append(key, value);
+                }
+            });
+            return explainable;
+        }
+
+        String shape() {
+            BsonDocument shape = explainable();
+            shape.remove(command);
+            return SlowOperationExplainer.shape(shape);
+        }
+    }
+
+    record Plan(String stages, long keysExamined, long docsExamined, long returned) {
+
+        static Plan of(BsonDocument explain) {
+            BsonDocument stats = find(explain, "executionStats");
+            BsonDocument winningPlan = find(explain, "winningPlan");
+            if (winningPlan != null && winningPlan.isDocument("queryPlan")) {
+                winningPlan = winningPlan.getDocument("queryPlan");
+            }
+            return new Plan(
+                    stages(winningPlan),
+                    count(stats, "totalKeysExamined"),
+                    count(stats, "totalDocsExamined"),
+                    count(stats, "nReturned")
+            );
+        }
+
+        double examinedRatio() {
+            return docsExamined / (double) Math.max(returned, 1);
+        }
+
+        private static String stages(BsonDocument plan) {
+            List<String> stages = new ArrayList<>();
+            BsonDocument stage = plan;
+            while (stage != null && stage.isString("stage")) {
+                String name = stage.getString("stage").getValue();
+                stages.add(stage.isString("indexName") ? name + "(" + stage.getString("indexName").getValue() + ")" : name);
+                if (stage.isDocument("inputStage")) {
+                    stage = stage.getDocument("inputStage");
+                } else if (stage.isArray("inputStages") && !stage.getArray("inputStages").isEmpty()) {
+                    stage = stage.getArray("inputStages").get(0).asDocument();
+                } else {
+                    stage = null;
+                }
+            }
+            return stages.isEmpty() ? "unknown" : String.join(" <- ", stages);
+        }
+
+        private static long count(BsonDocument stats, String field) {
+            return stats != null && stats.isNumber(field) ? stats.getNumber(field).longValue() : 0;
+        }
+
+        private static BsonDocument find(BsonValue value, String field) {
+            if (value.isDocument()) {
+                BsonDocument document = value.asDocument();
+                if (document.isDocument(field)) {
+                    return document.getDocument(field);
+                }
+                for (BsonValue child : document.values()) {
+                    BsonDocument found = find(child, field);
+                    if (found != null) {
+                        return found;
+                    }
+                }
+            } else if (value.isArray()) {
+                for (BsonValue child : value.asArray()) {
+                    BsonDocument found = find(child, field);
+                    if (found != null) {
+                        return found;
+                    }
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.elyashevich.common.infrastructure.persistance.mapper;
+
+import org.mapstruct.MapperConfig;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ReportingPolicy;
+
+@MapperConfig(
+        componentModel = MappingConstants.ComponentModel.SPRING,
+        unmappedTargetPolicy = ReportingPolicy.ERROR,
+        uses = OwnedLists.class
+)
+public interface EntityMapperConfig {
+}
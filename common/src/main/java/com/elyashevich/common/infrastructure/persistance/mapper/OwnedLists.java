@@ -0,0 +1,19 @@
+package com.elyashevich.common.infrastructure.persistance.mapper;
+
+import org.mapstruct.Named;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class OwnedLists {
+
+    public static final String TAKE = "takeOwnedList";
+
+    private OwnedLists() {
+    }
+
+    @Named(TAKE)
+    public static List<String> take(List<String> source) {
+        return source != null ? source : new ArrayList<>(0);
+    }
+}
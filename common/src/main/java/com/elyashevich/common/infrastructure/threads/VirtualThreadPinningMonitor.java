@@ -0,0 +1,110 @@
+package com.elyashevich.common.infrastructure.threads;
+
+import com.elyashevich.common.infrastructure.config.PinningMonitorProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Slf4j
+@RequiredArgsConstructor
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    static final String PINNED_METER = "jvm.threads.virtual.pinned";
+    private static final String UNKNOWN_SITE = "unknown";
+    private static final List<String> JDK_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.");
+
+    private final PinningMonitorProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private volatile RecordingStream stream;
+
+    @Override
+    public synchronized void start() {
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(properties.threshold()).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::onPinned);
+        recording.startAsync();
+        stream = recording;
+
+        log.info("Reporting virtual threads pinned to their carrier for longer than {}", properties.threshold());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace == null ? List.of() : stackTrace.getFrames();
+        String site = pinningSite(frames);
+
+        Timer.builder(PINNED_METER)
+                .description("Time virtual threads spent pinned to their carrier thread")
+                .tag("site", site)
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        RecordedThread thread = event.getThread();
+        log.warn("Virtual thread {} pinned its carrier for {} ms at {}:\n{}",
+                thread == null ? UNKNOWN_SITE : thread.getJavaName(),
+                event.getDuration().toMillis(),
+                site,
+                describe(frames));
+    }
+
+    static String pinningSite(List<RecordedFrame> frames) {
+        RecordedFrame applicationFrame = null;
+        for (RecordedFrame frame : frames) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            if (Modifier.isSynchronized(frame.getMethod().getModifiers())) {
+                return name(frame);
+            }
+            if (applicationFrame == null && !isJdkFrame(frame)) {
+                applicationFrame = frame;
+            }
+        }
+        if (applicationFrame != null) {
+            return name(applicationFrame);
+        }
+        return frames.isEmpty() ? UNKNOWN_SITE : name(frames.get(0));
+    }
+
+    private String describe(List<RecordedFrame> frames) {
+        return frames.stream()
+                .limit(properties.stackDepth())
+                .map(frame -> "\tat " + name(frame) + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static boolean isJdkFrame(RecordedFrame frame) {
+        String className = frame.getMethod().getType().getName();
+        return JDK_PACKAGES.stream().anyMatch(className::startsWith);
+    }
+
+    private static String name(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+    }
+}
@@ -0,0 +1,8 @@
+package com.elyashevich.common.application.port.in;
+
+import reactor.core.publisher.Mono;
+
+public interface ReactiveSampleService {
+
+    Mono<Void> delete(String id);
+}
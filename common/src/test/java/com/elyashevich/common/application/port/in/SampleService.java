@@ -0,0 +1,6 @@
+package com.elyashevich.common.application.port.in;
+
+public interface SampleService {
+
+    String find();
+}
@@ -0,0 +1,13 @@
+package com.elyashevich.common.application.port.out;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface SampleRepository {
+
+    List<String> findByStoreId(String storeId);
+
+    Stream<String> streamByStoreId(String storeId);
+
+    void deleteById(String id);
+}
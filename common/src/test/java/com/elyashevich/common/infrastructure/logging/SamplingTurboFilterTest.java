@@ -0,0 +1,72 @@
+package com.elyashevich.common.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SamplingTurboFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final SamplingTurboFilter filter = new SamplingTurboFilter(Map.of(
+            "com.elyashevich.core.application", 1,
+            "com.elyashevich.core.application.service", 1_000_000
+    ));
+
+    @Test
+    void resolve_NestedLogger_UsesLongestConfiguredPrefix() {
+        // Act
+        int service = filter.resolve("com.elyashevich.core.application.service.ProductServiceImpl");
+        int port = filter.resolve("com.elyashevich.core.application.port.in.ProductService");
+        int other = filter.resolve("org.springframework.web");
+
+        // Assert
+        assertAll(
+                () -> assertEquals(1_000_000, service),
+                () -> assertEquals(1, port),
+                () -> assertEquals(1, other)
+        );
+    }
+
+    @Test
+    void decide_SampledInfoEvents_AreMostlyDenied() {
+        // Arrange
+        Logger logger = context.getLogger("com.elyashevich.core.application.service.ProductServiceImpl");
+
+        // Act
+        int denied = 0;
+        for (int i = 0; i < 1_000; i++) {
+            if (filter.decide(null, logger, Level.INFO, "Found product by id {}", new Object[]{"1"}, null) == FilterReply.DENY) {
+                denied++;
+            }
+        }
+
+        // Assert
+        assertTrue(denied >= 990);
+    }
+
+    @Test
+    void decide_WarningsAndLevelChecks_AreNeverSampled() {
+        // Arrange
+        Logger logger = context.getLogger("com.elyashevich.core.application.service.ProductServiceImpl");
+
+        // Act
+        FilterReply warn = filter.decide(null, logger, Level.WARN, "Slow", null, null);
+        FilterReply error = filter.decide(null, logger, Level.ERROR, "Failed", null, null);
+        FilterReply levelCheck = filter.decide(null, logger, Level.INFO, null, null, null);
+
+        // Assert
+        assertAll(
+                () -> assertEquals(FilterReply.NEUTRAL, warn),
+                () -> assertEquals(FilterReply.NEUTRAL, error),
+                () -> assertEquals(FilterReply.NEUTRAL, levelCheck)
+        );
+    }
+}
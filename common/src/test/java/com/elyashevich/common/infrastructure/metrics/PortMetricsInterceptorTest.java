@@ -0,0 +1,218 @@
+package com.elyashevich.common.infrastructure.metrics;
+
+import com.elyashevich.common.application.port.in.ReactiveSampleService;
+import com.elyashevich.common.application.port.in.SampleService;
+import com.elyashevich.common.application.port.out.SampleRepository;
+import com.elyashevich.common.infrastructure.config.PortMetricsProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PortMetricsInterceptorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PortMetricsInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        PortMetricsProperties properties = new PortMetricsProperties(true, Duration.ofNanos(100_000), Duration.ofSeconds(10));
+        interceptor = new PortMetricsInterceptor(() -> meterRegistry, () -> properties);
+    }
+
+    @Test
+    void invoke_SuccessfulOutboundCall_RecordsLatencyAndResultSize() {
+        // Arrange
+        SampleRepository target = mock(SampleRepository.class);
+        when(target.findByStoreId("store-1")).thenReturn(List.of("category-1", "category-2"));
+        SampleRepository repository = proxy(target, SampleRepository.class);
+
+        // Act
+        repository.findByStoreId("store-1");
+
+        // Assert
+        Timer timer = meterRegistry.find(PortMetricsInterceptor.LATENCY_METER)
+                .tags("port", "SampleRepository", "method", "findByStoreId", "direction", "outbound", "outcome", "success")
+                .timer();
+        DistributionSummary resultSize = meterRegistry.find(PortMetricsInterceptor.RESULT_SIZE_METER)
+                .tags("port", "SampleRepository", "method", "findByStoreId")
+                .summary();
+        assertAll(
+                () -> assertNotNull(timer),
+                () -> assertEquals(1, timer.count()),
+                () -> assertNotNull(resultSize),
+                () -> assertEquals(2, resultSize.totalAmount())
+        );
+    }
+
+    @Test
+    void invoke_FailingCall_CountsErrorByException() {
+        // Arrange
+        SampleRepository target = mock(SampleRepository.class);
+        doThrow(new IllegalStateException("missing")).when(target).deleteById("missing");
+        SampleRepository repository = proxy(target, SampleRepository.class);
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> repository.deleteById("missing"));
+        assertThrows(IllegalStateException.class, () -> repository.deleteById("missing"));
+
+        // Assert
+        Counter errors = meterRegistry.find(PortMetricsInterceptor.ERROR_METER)
+                .tags("port", "SampleRepository", "method", "deleteById", "exception", "IllegalStateException")
+                .counter();
+        Timer timer = meterRegistry.find(PortMetricsInterceptor.LATENCY_METER)
+                .tags("method", "deleteById", "outcome", "error")
+                .timer();
+        assertAll(
+                () -> assertNotNull(errors),
+                () -> assertEquals(2, errors.count()),
+                () -> assertNotNull(timer),
+                () -> assertEquals(2, timer.count()),
+                () -> assertNull(meterRegistry.find(PortMetricsInterceptor.RESULT_SIZE_METER).summary())
+        );
+    }
+
+    @Test
+    void invoke_ReactiveInboundCall_RecordsOnCompletion() {
+        // Arrange
+        ReactiveSampleService target = mock(ReactiveSampleService.class);
+        when(target.delete("1")).thenReturn(Mono.empty());
+        ReactiveSampleService service = proxy(target, ReactiveSampleService.class);
+
+        // Act
+        Mono<Void> result = service.delete("1");
+        long beforeSubscribe = latencyCount();
+        StepVerifier.create(result).verifyComplete();
+
+        // Assert
+        Timer timer = meterRegistry.find(PortMetricsInterceptor.LATENCY_METER)
+                .tags("port", "ReactiveSampleService", "direction", "inbound", "outcome", "success")
+                .timer();
+        assertAll(
+                () -> assertEquals(0, beforeSubscribe),
+                () -> assertNotNull(timer),
+                () -> assertEquals(1, timer.count())
+        );
+    }
+
+    @Test
+    void invoke_ReactiveInboundCallCancelled_RecordsCancellation() {
+        // Arrange
+        ReactiveSampleService target = mock(ReactiveSampleService.class);
+        when(target.delete("1")).thenReturn(Mono.never());
+        ReactiveSampleService service = proxy(target, ReactiveSampleService.class);
+
+        // Act
+        StepVerifier.create(service.delete("1")).thenCancel().verify();
+
+        // Assert
+        Timer cancelled = meterRegistry.find(PortMetricsInterceptor.LATENCY_METER)
+                .tags("method", "delete", "outcome", "cancelled")
+                .timer();
+        Timer success = meterRegistry.find(PortMetricsInterceptor.LATENCY_METER)
+                .tags("method", "delete", "outcome", "success")
+                .timer();
+        assertAll(
+                () -> assertNotNull(cancelled),
+                () -> assertEquals(1, cancelled.count()),
+                () -> assertEquals(0, success.count())
+        );
+    }
+
+    @Test
+    void invoke_StreamResult_RecordsWhenStreamIsClosed() {
+        // Arrange
+        SampleRepository target = mock(SampleRepository.class);
+        when(target.streamByStoreId("store-1")).thenReturn(Stream.of("product-1", "product-2"));
+        SampleRepository repository = proxy(target, SampleRepository.class);
+
+        // Act
+        Stream<String> stream = repository.streamByStoreId("store-1");
+        long beforeClose = latencyCount();
+        try (stream) {
+            stream.forEach(product -> {
+            });
+        }
+
+        // Assert
+        Timer timer = meterRegistry.find(PortMetricsInterceptor.LATENCY_METER)
+                .tags("method", "streamByStoreId", "outcome", "success")
+                .timer();
+        assertAll(
+                () -> assertEquals(0, beforeClose),
+                () -> assertNotNull(timer),
+                () -> assertEquals(1, timer.count())
+        );
+    }
+
+    @Test
+    void invoke_WithResultSizeExtension_RecordsCustomResultSize() {
+        // Arrange
+        PortMetricsProperties properties = new PortMetricsProperties(true, Duration.ofNanos(100_000), Duration.ofSeconds(10));
+        interceptor = new PortMetricsInterceptor(
+                () -> meterRegistry,
+                () -> properties,
+                () -> List.of(result -> result instanceof String value ? value.length() : PortResultSize.UNKNOWN)
+        );
+        SampleService target = () -> "abc";
+        SampleService service = proxy(target, SampleService.class);
+
+        // Act
+        service.find();
+
+        // Assert
+        DistributionSummary resultSize = meterRegistry.find(PortMetricsInterceptor.RESULT_SIZE_METER)
+                .tags("method", "find")
+                .summary();
+        assertAll(
+                () -> assertNotNull(resultSize),
+                () -> assertEquals(3, resultSize.totalAmount())
+        );
+    }
+
+    @Test
+    void matches_NonPortClass_IsNotInstrumented() {
+        // Act
+        boolean matches = new PortPointcut().matches(
+                Object.class.getMethods()[0],
+                PortMetricsInterceptorTest.class
+        );
+
+        // Assert
+        assertFalse(matches);
+    }
+
+    private long latencyCount() {
+        return meterRegistry.find(PortMetricsInterceptor.LATENCY_METER).timers().stream()
+                .mapToLong(Timer::count)
+                .sum();
+    }
+
+    private <T> T proxy(T target, Class<T> port) {
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.addInterface(port);
+        proxyFactory.addAdvisor(new DefaultPointcutAdvisor(new PortPointcut(), interceptor));
+        return port.cast(proxyFactory.getProxy());
+    }
+}
@@ -0,0 +1,158 @@
+package com.elyashevich.common.infrastructure.metrics;
+
+import com.elyashevich.common.infrastructure.config.MongoTelemetryProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class SlowOperationExplainerTest {
+
+    private static final SlowOperationExplainer.Operation WITHOUT_BODY = new SlowOperationExplainer.Operation(
+            "core", "find", "products", "ProductMongoRepository.findByCategoryId", null
+    );
+
+    @Test
+    void shape_FindCommand_HidesValuesAndDriverFields() {
+        // Arrange
+        SlowOperationExplainer.Operation operation = new SlowOperationExplainer.Operation(
+                "core",
+                "find",
+                "products",
+                "ProductMongoRepository.findByCategoryId",
+                BsonDocument.parse("""
+                        {"find": "products", "filter": {"category_id": "c-1", "price": {"$gte": 10, "$lte": 20}},
+                         "sort": {"_id": 1}, "limit": 21, "$db": "core", "lsid": {"id": "session"}}
+                        """)
+        );
+
+        // Act
+        String shape = operation.shape();
+        BsonDocument explainable = operation.explainable();
+
+        // Assert
+        assertAll(
+                () -> assertEquals("products", operation.collection()),
+                () -> assertEquals("{filter: {category_id: ?, price: {$gte: ?, $lte: ?}}, sort: {_id: ?}, limit: ?}", shape),
+                () -> assertFalse(explainable.containsKey("$db")),
+                () -> assertFalse(explainable.containsKey("lsid")),
+                () -> assertEquals("products", explainable.getString("find").getValue())
+        );
+    }
+
+    @Test
+    void shape_InOperator_CollapsesScalarElements() {
+        // Act
+        String shape = SlowOperationExplainer.shape(BsonDocument.parse("{\"_id\": {\"$in\": [\"a\", \"b\", \"c\"]}}"));
+
+        // Assert
+        assertEquals("{_id: {$in: [?]}}", shape);
+    }
+
+    @Test
+    void planOf_FindExplain_ReadsWinningPlanAndExecutionStats() {
+        // Arrange
+        BsonDocument explain = BsonDocument.parse("""
+                {"queryPlanner": {"winningPlan": {"stage": "FETCH",
+                    "inputStage": {"stage": "IXSCAN", "indexName": "category_id_idx"}}},
+                 "executionStats": {"nReturned": 20, "totalKeysExamined": 20, "totalDocsExamined": 400}}
+                """);
+
+        // Act
+        SlowOperationExplainer.Plan plan = SlowOperationExplainer.Plan.of(explain);
+
+        // Assert
+        assertAll(
+                () -> assertEquals("FETCH <- IXSCAN(category_id_idx)", plan.stages()),
+                () -> assertEquals(20, plan.keysExamined()),
+                () -> assertEquals(400, plan.docsExamined()),
+                () -> assertEquals(20, plan.returned()),
+                () -> assertEquals(20.0, plan.examinedRatio())
+        );
+    }
+
+    @Test
+    void planOf_SlotBasedExplain_UnwrapsQueryPlan() {
+        // Arrange
+        BsonDocument explain = BsonDocument.parse("""
+                {"queryPlanner": {"winningPlan": {"queryPlan": {"stage": "COLLSCAN"}, "slotBasedPlan": {}}},
+                 "executionStats": {"nReturned": 0, "totalKeysExamined": 0, "totalDocsExamined": 5000}}
+                """);
+
+        // Act
+        SlowOperationExplainer.Plan plan = SlowOperationExplainer.Plan.of(explain);
+
+        // Assert
+        assertAll(
+                () -> assertEquals("COLLSCAN", plan.stages()),
+                () -> assertEquals(5000.0, plan.examinedRatio())
+        );
+    }
+
+    @Test
+    void submit_SlowOperationWithoutBody_RequestsBodyForNextCall() {
+        // Arrange
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SlowOperationExplainer explainer = explainer(meterRegistry);
+        explainer.start();
+
+        // Act
+        boolean before = explainer.wantsPlan(WITHOUT_BODY);
+        explainer.submit(WITHOUT_BODY, Duration.ofSeconds(1).toNanos());
+        boolean after = explainer.wantsPlan(WITHOUT_BODY);
+        explainer.stop();
+
+        // Assert
+        assertAll(
+                () -> assertFalse(before),
+                () -> assertTrue(after),
+                () -> assertEquals(1.0, meterRegistry.get(SlowOperationExplainer.SLOW_METER).counter().count())
+        );
+    }
+
+    @Test
+    void submit_AfterExplainingKey_DoesNotRequestBodyWithinInterval() {
+        // Arrange
+        SlowOperationExplainer explainer = explainer(new SimpleMeterRegistry());
+        explainer.start();
+        SlowOperationExplainer.Operation withBody = WITHOUT_BODY.withBody(BsonDocument.parse("{\"find\": \"products\"}"));
+
+        // Act
+        explainer.submit(withBody, Duration.ofSeconds(1).toNanos());
+        explainer.submit(WITHOUT_BODY, Duration.ofSeconds(1).toNanos());
+        boolean wanted = explainer.wantsPlan(WITHOUT_BODY);
+        explainer.stop();
+
+        // Assert
+        assertFalse(wanted);
+    }
+
+    @Test
+    void submit_NotRunning_DoesNotRequestBody() {
+        // Arrange
+        SlowOperationExplainer explainer = explainer(new SimpleMeterRegistry());
+
+        // Act
+        explainer.submit(WITHOUT_BODY, Duration.ofSeconds(1).toNanos());
+
+        // Assert
+        assertFalse(explainer.wantsPlan(WITHOUT_BODY));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SlowOperationExplainer explainer(SimpleMeterRegistry meterRegistry) {
+        return new SlowOperationExplainer(
+                mock(ObjectProvider.class),
+                meterRegistry,
+                new MongoTelemetryProperties(true, Duration.ofMillis(100), Duration.ofMinutes(1), 16)
+        );
+    }
+}
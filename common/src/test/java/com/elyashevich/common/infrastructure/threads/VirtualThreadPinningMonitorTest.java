@@ -0,0 +1,82 @@
+package com.elyashevich.common.infrastructure.threads;
+
+import com.elyashevich.common.infrastructure.config.PinningMonitorProperties;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VirtualThreadPinningMonitorTest {
+
+    private static final long TIMEOUT_NANOS = Duration.ofSeconds(15).toNanos();
+
+    private final Object monitor = new Object();
+    private SimpleMeterRegistry meterRegistry;
+    private VirtualThreadPinningMonitor pinningMonitor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pinningMonitor = new VirtualThreadPinningMonitor(
+                new PinningMonitorProperties(true, Duration.ofMillis(5), 8),
+                meterRegistry
+        );
+        pinningMonitor.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pinningMonitor.stop();
+    }
+
+    @Test
+    void start_WithBlockingCallInsideSynchronized_RecordsPinningSite() throws Exception {
+        // Act
+        Thread.ofVirtual().start(this::sleepWhileHoldingMonitor).join();
+        Timer timer = awaitTimer();
+
+        // Assert
+        assertNotNull(timer, "No pinning event was reported");
+        assertTrue(timer.getId().getTag("site").endsWith("VirtualThreadPinningMonitorTest.sleepWhileHoldingMonitor"));
+        assertTrue(timer.totalTime(TimeUnit.MILLISECONDS) >= 5);
+    }
+
+    @Test
+    void stop_WhenRunning_ClosesRecording() {
+        // Act
+        pinningMonitor.stop();
+
+        // Assert
+        assertFalse(pinningMonitor.isRunning());
+    }
+
+    private void sleepWhileHoldingMonitor() {
+        synchronized (monitor) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private Timer awaitTimer() throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT_NANOS;
+        while (System.nanoTime() < deadline) {
+            Timer timer = meterRegistry.find(VirtualThreadPinningMonitor.PINNED_METER).timer();
+            if (timer != null && timer.count() > 0) {
+                return timer;
+            }
+            Thread.sleep(100);
+        }
+        return null;
+    }
+}
@@ -2,8 +2,12 @@ package com.elyashevich.core;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.cache.annotation.EnableCaching;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
+@EnableCaching
 public class CoreApplication {
 
     public static void main(String[] args) {
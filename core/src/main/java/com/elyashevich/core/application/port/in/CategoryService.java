@@ -2,6 +2,7 @@ package com.elyashevich.core.application.port.in;
 
 import com.elyashevich.core.domain.model.Category;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface CategoryService {
@@ -10,6 +11,8 @@ public interface CategoryService {
 
     Category findById(String id);
 
+    LocalDateTime findUpdatedAtById(String id);
+
     Category create(Category category);
 
     Category update(String id, Category category);
@@ -2,6 +2,7 @@ package com.elyashevich.core.application.port.in;
 
 import com.elyashevich.core.domain.model.Color;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ColorService {
@@ -10,6 +11,8 @@ public interface ColorService {
 
     Color findById(String id);
 
+    LocalDateTime findUpdatedAtById(String id);
+
     Color create(Color color);
 
     Color update(String id, Color color);
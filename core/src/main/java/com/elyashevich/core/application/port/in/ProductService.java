@@ -1,21 +1,66 @@
 package com.elyashevich.core.application.port.in;
 
+import com.elyashevich.core.domain.model.BulkResult;
+import com.elyashevich.core.domain.model.CursorPage;
+import com.elyashevich.core.domain.model.FilteredProducts;
+import com.elyashevich.core.domain.model.PriceOrder;
 import com.elyashevich.core.domain.model.Product;
+import com.elyashevich.core.domain.model.ProductFilter;
+import com.elyashevich.core.domain.model.ProductSummary;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ProductService {
 
-    List<Product> findAll();
+    CursorPage<Product> findAll(String cursor, int size);
 
-    List<Product> findByStoreId(String storeId);
+    CursorPage<Product> findByStoreId(String storeId, String cursor, int size);
 
-    List<Product> findByCategoryId(String categoryId);
+    CursorPage<Product> findByCategoryId(String categoryId, String cursor, int size);
+
+    CursorPage<ProductSummary> findAllSummaries(String cursor, int size);
+
+    CursorPage<ProductSummary> findSummariesByStoreId(String storeId, String cursor, int size);
+
+    CursorPage<ProductSummary> findSummariesByCategoryId(String categoryId, String cursor, int size);
+
+    CursorPage<ProductSummary> findSummariesByStoreIdOrderByPrice(
+            String storeId,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            PriceOrder order,
+            String cursor,
+            int size
+    );
+
+    CursorPage<ProductSummary> findSummariesByCategoryIdOrderByPrice(
+            String categoryId,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            PriceOrder order,
+            String cursor,
+            int size
+    );
+
+    FilteredProducts filter(String storeId, ProductFilter filter, String cursor, int size);
+
+    List<ProductSummary> search(String storeId, String query, int size);
+
+    List<String> suggest(String storeId, String prefix, int size);
+
+    Stream<Product> streamByStoreId(String storeId);
 
     Product findById(String id);
 
+    LocalDateTime findUpdatedAtById(String id);
+
     Product create(Product product);
 
+    BulkResult<Product> createAll(List<Product> products);
+
     Product update(String productId, Product product);
 
     void delete(String productId);
@@ -1,7 +1,9 @@
 package com.elyashevich.core.application.port.out;
 
 import com.elyashevich.core.domain.model.Category;
+import com.elyashevich.core.domain.model.Revision;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,9 +13,13 @@ public interface CategoryRepository {
 
     Optional<Category> findById(String id);
 
+    Optional<LocalDateTime> findUpdatedAtById(String id);
+
     Category create(Category category);
 
-    void delete(Category category);
+    Optional<Revision<Category>> update(String id, Category changes);
+
+    long deleteById(String id);
 
     boolean existsByTitleAndStoreId(String title, String storeId);
 }
\ No newline at end of file
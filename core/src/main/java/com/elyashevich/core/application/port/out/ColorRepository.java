@@ -1,7 +1,9 @@
 package com.elyashevich.core.application.port.out;
 
 import com.elyashevich.core.domain.model.Color;
+import com.elyashevich.core.domain.model.Revision;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,9 +13,13 @@ public interface ColorRepository {
 
     Optional<Color> findById(String id);
 
+    Optional<LocalDateTime> findUpdatedAtById(String id);
+
     Color create(Color color);
 
-    void delete(Color color);
+    Optional<Revision<Color>> update(String id, Color changes);
+
+    long deleteById(String id);
 
     boolean existsByNameAndStoreId(String name, String storeId);
 
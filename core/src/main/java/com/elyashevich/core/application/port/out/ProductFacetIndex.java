@@ -0,0 +1,18 @@
+package com.elyashevich.core.application.port.out;
+
+import com.elyashevich.core.domain.model.Product;
+import com.elyashevich.core.domain.model.ProductFacets;
+import com.elyashevich.core.domain.model.ProductFilter;
+
+import java.util.Set;
+
+public interface ProductFacetIndex {
+
+    void index(Product product);
+
+    void remove(String productId);
+
+    Set<String> productIds();
+
+    ProductFacets facets(String storeId, ProductFilter filter);
+}
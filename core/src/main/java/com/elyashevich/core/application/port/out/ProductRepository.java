@@ -1,21 +1,71 @@
 package com.elyashevich.core.application.port.out;
 
+import com.elyashevich.core.domain.model.BulkResult;
+import com.elyashevich.core.domain.model.Category;
+import com.elyashevich.core.domain.model.Color;
+import com.elyashevich.core.domain.model.CursorPage;
 import com.elyashevich.core.domain.model.Product;
+import com.elyashevich.core.domain.model.ProductFilter;
+import com.elyashevich.core.domain.model.PriceOrder;
+import com.elyashevich.core.domain.model.ProductSummary;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ProductRepository {
 
-    List<Product> findAll();
+    CursorPage<Product> findAll(String cursor, int size);
 
-    List<Product> findByStoreId(String storeId);
+    CursorPage<Product> findByStoreId(String storeId, String cursor, int size);
 
-    List<Product> findByCategoryId(String categoryId);
+    CursorPage<Product> findByCategoryId(String categoryId, String cursor, int size);
+
+    CursorPage<ProductSummary> findAllSummaries(String cursor, int size);
+
+    CursorPage<ProductSummary> findSummariesByStoreId(String storeId, String cursor, int size);
+
+    CursorPage<ProductSummary> findSummariesByCategoryId(String categoryId, String cursor, int size);
+
+    CursorPage<ProductSummary> findSummariesByStoreIdOrderByPrice(
+            String storeId,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            PriceOrder order,
+            String cursor,
+            int size
+    );
+
+    CursorPage<ProductSummary> findSummariesByCategoryIdOrderByPrice(
+            String categoryId,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            PriceOrder order,
+            String cursor,
+            int size
+    );
+
+    CursorPage<ProductSummary> findSummariesByFilter(String storeId, ProductFilter filter, String cursor, int size);
+
+    Stream<Product> streamByStoreId(String storeId);
 
     Optional<Product> findById(String id);
 
+    Optional<LocalDateTime> findUpdatedAtById(String id);
+
     Product create(Product product);
 
-    void delete(Product product);
-}
\ No newline at end of file
+    BulkResult<Product> createAll(List<Product> products);
+
+    Optional<Product> update(String id, Product changes);
+
+    long deleteById(String id);
+
+    long detachCategory(String categoryId);
+
+    void refreshCategorySnapshot(Category category);
+
+    void refreshColorSnapshot(Color color);
+}
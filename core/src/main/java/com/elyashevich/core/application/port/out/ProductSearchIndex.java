@@ -0,0 +1,18 @@
+package com.elyashevich.core.application.port.out;
+
+import com.elyashevich.core.domain.model.Product;
+import com.elyashevich.core.domain.model.ProductSummary;
+
+import java.util.List;
+import java.util.Set;
+
+public interface ProductSearchIndex {
+
+    void index(Product product);
+
+    void remove(String productId);
+
+    Set<String> productIds();
+
+    List<ProductSummary> search(String storeId, String query, int limit);
+}
@@ -0,0 +1,17 @@
+package com.elyashevich.core.application.port.out;
+
+import com.elyashevich.core.domain.model.Product;
+
+import java.util.List;
+import java.util.Set;
+
+public interface ProductSuggestionIndex {
+
+    void index(Product product);
+
+    void remove(String productId);
+
+    Set<String> productIds();
+
+    List<String> suggest(String storeId, String prefix, int limit);
+}
@@ -0,0 +1,29 @@
+package com.elyashevich.core.application.port.out;
+
+import com.elyashevich.core.domain.model.CursorPage;
+import com.elyashevich.core.domain.model.Product;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+public interface ReactiveProductRepository {
+
+    Mono<CursorPage<Product>> findByStoreId(String storeId, String cursor, int size);
+
+    Mono<CursorPage<Product>> findByCategoryId(String categoryId, String cursor, int size);
+
+    Flux<Product> streamByStoreId(String storeId);
+
+    Flux<Product> streamByCategoryId(String categoryId);
+
+    Mono<Product> findById(String id);
+
+    Mono<LocalDateTime> findUpdatedAtById(String id);
+
+    Mono<Product> create(Product product);
+
+    Mono<Product> update(String id, Product changes);
+
+    Mono<Long> deleteById(String id);
+}
@@ -2,15 +2,22 @@ package com.elyashevich.core.application.service;
 
 import com.elyashevich.core.application.port.in.CategoryService;
 import com.elyashevich.core.application.port.out.CategoryRepository;
+import com.elyashevich.core.application.port.out.ProductRepository;
 import com.elyashevich.core.domain.exception.ResourceAlreadyExistsException;
+import com.elyashevich.core.domain.exception.ResourceConflictException;
 import com.elyashevich.core.domain.exception.ResourceNotFoundException;
+import com.elyashevich.core.domain.exception.ValidationException;
 import com.elyashevich.core.domain.model.Category;
+import com.elyashevich.core.domain.model.Revision;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 
 @Slf4j
 @Service
@@ -20,8 +27,13 @@ public class CategoryServiceImpl implements CategoryService {
     public static final String CATEGORY_WITH_ID_NOT_FOUND_TEMPLATE = "Category with id: '%s' not found";
     public static final String CATEGORY_ALREADY_EXISTS_WITH_TITLE_IN_STORE_WITH_ID_TEMPLATE =
             "Category already exists with title: '%s' in store with id: '%s'";
+    public static final String CATEGORY_VERSION_CONFLICT_TEMPLATE =
+            "Category with id: '%s' was modified concurrently, expected version: %s";
+    public static final String CATEGORY_VERSION_REQUIRED_TEMPLATE =
+            "Category with id: '%s' can only be updated with the version it was read at";
 
     private final CategoryRepository categoryRepository;
+    private final ProductRepository productRepository;
 
     @Override
     public List<Category> findByStoreId(String storeId) {
@@ -48,25 +60,31 @@ public class CategoryServiceImpl implements CategoryService {
     }
 
     @Override
-    @Transactional
-    public Category create(Category category) {
-        log.debug("Attempting to create category {}", category);
+    public LocalDateTime findUpdatedAtById(String id) {
+        log.debug("Attempting to find last update time of category with id {}", id);
 
-        String title = category.getTitle();
-        String storeId = category.getStoreId();
+        return categoryRepository.findUpdatedAtById(id).orElseThrow(() -> {
+            String message = CATEGORY_WITH_ID_NOT_FOUND_TEMPLATE.formatted(id);
+            log.info(message);
+            return new ResourceNotFoundException(message);
+        });
+    }
 
-        if (categoryRepository.existsByTitleAndStoreId(title, storeId)) {
-            throw new ResourceAlreadyExistsException(
-                    CATEGORY_ALREADY_EXISTS_WITH_TITLE_IN_STORE_WITH_ID_TEMPLATE
-                            .formatted(title, storeId)
-            );
-        }
+    @Override
+    @Transactional
+    public Category create(Category category) {
+        log.debug("Attempting to create category in store {}", category.getStoreId());
 
         category.updateTimestamps();
 
-        Category newCategory = categoryRepository.create(category);
+        Category newCategory;
+        try {
+            newCategory = categoryRepository.create(category);
+        } catch (DuplicateKeyException e) {
+            throw alreadyExists(category.getTitle(), category.getStoreId());
+        }
 
-        log.info("Created category {}", newCategory);
+        log.info("Created category with id {}", newCategory.getId());
         return newCategory;
     }
 
@@ -75,14 +93,27 @@ public class CategoryServiceImpl implements CategoryService {
     public Category update(String id, Category category) {
         log.debug("Attempting to update category with id {}", id);
 
-        Category oldCategory = findById(id);
+        if (category.getVersion() == null) {
+            String message = CATEGORY_VERSION_REQUIRED_TEMPLATE.formatted(id);
+            log.info(message);
+            throw new ValidationException(message);
+        }
 
-        updateCategoryFields(oldCategory, category);
+        Revision<Category> revision;
+        try {
+            revision = categoryRepository.update(id, category)
+                    .orElseThrow(() -> updateFailure(id, category.getVersion()));
+        } catch (DuplicateKeyException e) {
+            throw alreadyExists(category.getTitle(), findById(id).getStoreId());
+        }
 
-        Category updatedCategory = categoryRepository.create(oldCategory);
+        Category updatedCategory = revision.current();
+        if (!Objects.equals(revision.previous().getTitle(), updatedCategory.getTitle())) {
+            productRepository.refreshCategorySnapshot(updatedCategory);
+        }
 
-        log.info("Updated category with id {}", updatedCategory);
-        return category;
+        log.info("Updated category with id {}", updatedCategory.getId());
+        return updatedCategory;
     }
 
     @Override
@@ -90,16 +121,30 @@ public class CategoryServiceImpl implements CategoryService {
     public void delete(String id) {
         log.debug("Attempting to delete category with id {}", id);
 
-        Category category = findById(id);
+        if (categoryRepository.deleteById(id) == 0) {
+            String message = CATEGORY_WITH_ID_NOT_FOUND_TEMPLATE.formatted(id);
+            log.info(message);
+            throw new ResourceNotFoundException(message);
+        }
+        long detached = productRepository.detachCategory(id);
 
-        categoryRepository.delete(category);
+        log.info("Deleted category with id {}, detached {} products", id, detached);
+    }
 
-        log.info("Deleted category with id {}", category.getId());
+    private RuntimeException updateFailure(String id, Long expectedVersion) {
+        if (categoryRepository.findUpdatedAtById(id).isPresent()) {
+            String message = CATEGORY_VERSION_CONFLICT_TEMPLATE.formatted(id, expectedVersion);
+            log.info(message);
+            return new ResourceConflictException(message);
+        }
+        String message = CATEGORY_WITH_ID_NOT_FOUND_TEMPLATE.formatted(id);
+        log.info(message);
+        return new ResourceNotFoundException(message);
     }
 
-    private void updateCategoryFields(Category existing, Category updateData) {
-        existing.setTitle(updateData.getTitle());
-        existing.setDescription(updateData.getDescription());
-        existing.updateTimestamps();
+    private ResourceAlreadyExistsException alreadyExists(String title, String storeId) {
+        String message = CATEGORY_ALREADY_EXISTS_WITH_TITLE_IN_STORE_WITH_ID_TEMPLATE.formatted(title, storeId);
+        log.info(message);
+        return new ResourceAlreadyExistsException(message);
     }
 }
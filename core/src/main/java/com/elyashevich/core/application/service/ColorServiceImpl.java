@@ -2,15 +2,22 @@ package com.elyashevich.core.application.service;
 
 import com.elyashevich.core.application.port.in.ColorService;
 import com.elyashevich.core.application.port.out.ColorRepository;
+import com.elyashevich.core.application.port.out.ProductRepository;
 import com.elyashevich.core.domain.exception.ResourceAlreadyExistsException;
+import com.elyashevich.core.domain.exception.ResourceConflictException;
 import com.elyashevich.core.domain.exception.ResourceNotFoundException;
+import com.elyashevich.core.domain.exception.ValidationException;
 import com.elyashevich.core.domain.model.Color;
+import com.elyashevich.core.domain.model.Revision;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 
 @Slf4j
 @Service
@@ -19,8 +26,12 @@ public class ColorServiceImpl implements ColorService {
 
     public static final String COLOR_WITH_ID_NOT_FOUND_TEMPLATE = "Color with id: '%s' not found";
     public static final String COLOR_WITH_NAME_ALREADY_EXISTS_IN_STORE_WITH_ID_TEMPLATE = "Color with name '%s' already exists in store with id '%s'";
+    public static final String COLOR_VERSION_CONFLICT_TEMPLATE = "Color with id: '%s' was modified concurrently, expected version: %s";
+    public static final String COLOR_VERSION_REQUIRED_TEMPLATE =
+            "Color with id: '%s' can only be updated with the version it was read at";
 
     private final ColorRepository colorRepository;
+    private final ProductRepository productRepository;
 
     @Override
     public List<Color> findByStoreId(String storeId) {
@@ -28,7 +39,7 @@ public class ColorServiceImpl implements ColorService {
 
         List<Color> colors = colorRepository.findByStoreId(storeId);
 
-        log.info("Colors found: {}", colors);
+        log.info("Colors found: {} for store id {}", colors.size(), storeId);
         return colors;
     }
 
@@ -42,28 +53,35 @@ public class ColorServiceImpl implements ColorService {
             return new ResourceNotFoundException(message);
         });
 
-        log.info("Color found: {}", color);
+        log.info("Color found: {}", id);
         return color;
     }
 
     @Override
-    @Transactional
-    public Color create(Color color) {
-        log.debug("Attempting to create color {}", color);
-
-        String storeId = color.getStoreId();
-        String name = color.getName();
+    public LocalDateTime findUpdatedAtById(String id) {
+        log.debug("Attempting to find last update time of color with id {}", id);
 
-        if (colorRepository.existsByNameAndStoreId(name, storeId)) {
-            String message = COLOR_WITH_NAME_ALREADY_EXISTS_IN_STORE_WITH_ID_TEMPLATE.formatted(name, storeId);
+        return colorRepository.findUpdatedAtById(id).orElseThrow(() -> {
+            String message = COLOR_WITH_ID_NOT_FOUND_TEMPLATE.formatted(id);
             log.info(message);
-            throw new ResourceAlreadyExistsException(message);
-        }
+            return new ResourceNotFoundException(message);
+        });
+    }
+
+    @Override
+    @Transactional
+    public Color create(Color color) {
+        log.debug("Attempting to create color in store {}", color.getStoreId());
 
         color.updateTimestamps();
-        Color newColor = colorRepository.create(color);
+        Color newColor;
+        try {
+            newColor = colorRepository.create(color);
+        } catch (DuplicateKeyException e) {
+            throw alreadyExists(color.getName(), color.getStoreId());
+        }
 
-        log.info("Color created: {}", newColor);
+        log.info("Color created: {}", newColor.getId());
         return newColor;
     }
 
@@ -72,13 +90,28 @@ public class ColorServiceImpl implements ColorService {
     public Color update(String id, Color color) {
         log.debug("Attempting to update color with id {}", id);
 
-        Color oldColor = findById(id);
+        if (color.getVersion() == null) {
+            String message = COLOR_VERSION_REQUIRED_TEMPLATE.formatted(id);
+            log.info(message);
+            throw new ValidationException(message);
+        }
 
-        updateColorFields(oldColor, color);
+        Revision<Color> revision;
+        try {
+            revision = colorRepository.update(id, color)
+                    .orElseThrow(() -> updateFailure(id, color.getVersion()));
+        } catch (DuplicateKeyException e) {
+            throw alreadyExists(color.getName(), findById(id).getStoreId());
+        }
 
-        Color updatedColor = colorRepository.create(oldColor);
+        Color previousColor = revision.previous();
+        Color updatedColor = revision.current();
+        if (!Objects.equals(previousColor.getName(), updatedColor.getName())
+                || !Objects.equals(previousColor.getValue(), updatedColor.getValue())) {
+            productRepository.refreshColorSnapshot(updatedColor);
+        }
 
-        log.info("Color updated: {}", updatedColor);
+        log.info("Color updated: {}", updatedColor.getId());
         return updatedColor;
     }
 
@@ -87,16 +120,29 @@ public class ColorServiceImpl implements ColorService {
     public void delete(String id) {
         log.debug("Attempting to delete color with id {}", id);
 
-        Color color = findById(id);
+        if (colorRepository.deleteById(id) == 0) {
+            String message = COLOR_WITH_ID_NOT_FOUND_TEMPLATE.formatted(id);
+            log.info(message);
+            throw new ResourceNotFoundException(message);
+        }
 
-        colorRepository.delete(color);
+        log.info("Color deleted: {}", id);
+    }
 
-        log.info("Color deleted: {}", color);
+    private RuntimeException updateFailure(String id, Long expectedVersion) {
+        if (colorRepository.findUpdatedAtById(id).isPresent()) {
+            String message = COLOR_VERSION_CONFLICT_TEMPLATE.formatted(id, expectedVersion);
+            log.info(message);
+            return new ResourceConflictException(message);
+        }
+        String message = COLOR_WITH_ID_NOT_FOUND_TEMPLATE.formatted(id);
+        log.info(message);
+        return new ResourceNotFoundException(message);
     }
 
-    private void updateColorFields(Color existing, Color updateData) {
-        existing.setName(updateData.getName());
-        existing.setValue(updateData.getValue());
-        existing.updateTimestamps();
+    private ResourceAlreadyExistsException alreadyExists(String name, String storeId) {
+        String message = COLOR_WITH_NAME_ALREADY_EXISTS_IN_STORE_WITH_ID_TEMPLATE.formatted(name, storeId);
+        log.info(message);
+        return new ResourceAlreadyExistsException(message);
     }
 }
\ No newline at end of file
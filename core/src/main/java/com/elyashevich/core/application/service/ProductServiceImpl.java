@@ -1,9 +1,21 @@
 package com.elyashevich.core.application.service;
 
 import com.elyashevich.core.application.port.in.ProductService;
+import com.elyashevich.core.application.port.out.ProductFacetIndex;
 import com.elyashevich.core.application.port.out.ProductRepository;
+import com.elyashevich.core.application.port.out.ProductSearchIndex;
+import com.elyashevich.core.application.port.out.ProductSuggestionIndex;
+import com.elyashevich.core.domain.exception.ResourceConflictException;
 import com.elyashevich.core.domain.exception.ResourceNotFoundException;
+import com.elyashevich.core.domain.exception.ValidationException;
+import com.elyashevich.core.domain.model.BulkResult;
+import com.elyashevich.core.domain.model.CursorPage;
+import com.elyashevich.core.domain.model.FilteredProducts;
+import com.elyashevich.core.domain.model.PriceOrder;
 import com.elyashevich.core.domain.model.Product;
+import com.elyashevich.core.domain.model.ProductFacets;
+import com.elyashevich.core.domain.model.ProductFilter;
+import com.elyashevich.core.domain.model.ProductSummary;
 import com.elyashevich.core.infrastructure.persistance.entity.ProductMongoEntity;
 import com.elyashevich.core.infrastructure.persistance.mapper.EntityMapper;
 import lombok.RequiredArgsConstructor;
@@ -11,7 +23,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -19,38 +34,155 @@ import java.util.List;
 public class ProductServiceImpl implements ProductService {
 
     public static final String PRODUCT_WITH_ID_NOT_FOUND_TEMPLATE = "Product with id '%s' not found";
+    public static final String PRODUCT_VERSION_CONFLICT_TEMPLATE =
+            "Product with id '%s' was modified concurrently, expected version %s";
+    public static final String PRODUCT_VERSION_REQUIRED_TEMPLATE =
+            "Product with id '%s' can only be updated with the version it was read at";
+    public static final String INVALID_PRICE_RANGE_TEMPLATE = "Minimum price '%s' must not exceed maximum price '%s'";
 
     private final ProductRepository productRepository;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductSuggestionIndex productSuggestionIndex;
+    private final ProductFacetIndex productFacetIndex;
     private final EntityMapper<Product, ProductMongoEntity> productMapper;
 
     @Override
-    public List<Product> findAll() {
-        log.debug("Attempting to find all products");
+    public CursorPage<Product> findAll(String cursor, int size) {
+        log.debug("Attempting to find products page after cursor {}", cursor);
 
-        List<Product> products = productRepository.findAll();
+        CursorPage<Product> page = productRepository.findAll(cursor, size);
 
-        log.info("Found {} products", products.size());
-        return products;
+        log.info("Found {} products", page.items().size());
+        return page;
     }
 
     @Override
-    public List<Product> findByStoreId(String storeId) {
-        log.debug("Attempting to find all products by store id {}", storeId);
+    public CursorPage<Product> findByStoreId(String storeId, String cursor, int size) {
+        log.debug("Attempting to find products page by store id {} after cursor {}", storeId, cursor);
 
-        List<Product> products = productRepository.findByStoreId(storeId);
+        CursorPage<Product> page = productRepository.findByStoreId(storeId, cursor, size);
 
-        log.info("Found {} products by store id: {}", products.size(), storeId);
-        return products;
+        log.info("Found {} products by store id: {}", page.items().size(), storeId);
+        return page;
     }
 
     @Override
-    public List<Product> findByCategoryId(String categoryId) {
-        log.debug("Attempting to find all products by category id {}", categoryId);
+    public CursorPage<Product> findByCategoryId(String categoryId, String cursor, int size) {
+        log.debug("Attempting to find products page by category id {} after cursor {}", categoryId, cursor);
 
-        List<Product> products = productRepository.findByCategoryId(categoryId);
+        CursorPage<Product> page = productRepository.findByCategoryId(categoryId, cursor, size);
 
-        log.info("Found {} products by category id {}", products.size(), categoryId);
-        return products;
+        log.info("Found {} products by category id {}", page.items().size(), categoryId);
+        return page;
+    }
+
+    @Override
+    public CursorPage<ProductSummary> findAllSummaries(String cursor, int size) {
+        log.debug("Attempting to find product summaries page after cursor {}", cursor);
+
+        CursorPage<ProductSummary> page = productRepository.findAllSummaries(cursor, size);
+
+        log.info("Found {} product summaries", page.items().size());
+        return page;
+    }
+
+    @Override
+    public CursorPage<ProductSummary> findSummariesByStoreId(String storeId, String cursor, int size) {
+        log.debug("Attempting to find product summaries page by store id {} after cursor {}", storeId, cursor);
+
+        CursorPage<ProductSummary> page = productRepository.findSummariesByStoreId(storeId, cursor, size);
+
+        log.info("Found {} product summaries by store id: {}", page.items().size(), storeId);
+        return page;
+    }
+
+    @Override
+    public CursorPage<ProductSummary> findSummariesByCategoryId(String categoryId, String cursor, int size) {
+        log.debug("Attempting to find product summaries page by category id {} after cursor {}", categoryId, cursor);
+
+        CursorPage<ProductSummary> page = productRepository.findSummariesByCategoryId(categoryId, cursor, size);
+
+        log.info("Found {} product summaries by category id {}", page.items().size(), categoryId);
+        return page;
+    }
+
+    @Override
+    public CursorPage<ProductSummary> findSummariesByStoreIdOrderByPrice(
+            String storeId,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            PriceOrder order,
+            String cursor,
+            int size
+    ) {
+        log.debug("Attempting to find product summaries by store id {} ordered by price {} after cursor {}",
+                storeId, order, cursor);
+
+        validatePriceRange(minPrice, maxPrice);
+        CursorPage<ProductSummary> page = productRepository.findSummariesByStoreIdOrderByPrice(
+                storeId, minPrice, maxPrice, order, cursor, size
+        );
+
+        log.info("Found {} product summaries by store id {} ordered by price", page.items().size(), storeId);
+        return page;
+    }
+
+    @Override
+    public CursorPage<ProductSummary> findSummariesByCategoryIdOrderByPrice(
+            String categoryId,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            PriceOrder order,
+            String cursor,
+            int size
+    ) {
+        log.debug("Attempting to find product summaries by category id {} ordered by price {} after cursor {}",
+                categoryId, order, cursor);
+
+        validatePriceRange(minPrice, maxPrice);
+        CursorPage<ProductSummary> page = productRepository.findSummariesByCategoryIdOrderByPrice(
+                categoryId, minPrice, maxPrice, order, cursor, size
+        );
+
+        log.info("Found {} product summaries by category id {} ordered by price", page.items().size(), categoryId);
+        return page;
+    }
+
+    @Override
+    public FilteredProducts filter(String storeId, ProductFilter filter, String cursor, int size) {
+        log.debug("Attempting to filter products in store {} by {} after cursor {}", storeId, filter, cursor);
+
+        validatePriceRange(filter.minPrice(), filter.maxPrice());
+
+        CursorPage<ProductSummary> page = productRepository.findSummariesByFilter(storeId, filter, cursor, size);
+        ProductFacets facets = productFacetIndex.facets(storeId, filter);
+
+        log.info("Found {} products in store {} by {}", page.items().size(), storeId, filter);
+        return new FilteredProducts(page, facets);
+    }
+
+    @Override
+    public List<ProductSummary> search(String storeId, String query, int size) {
+        log.debug("Attempting to search products in store {} by query '{}'", storeId, query);
+
+        List<ProductSummary> results = productSearchIndex.search(storeId, query, size);
+
+        log.info("Found {} products in store {} by query '{}'", results.size(), storeId, query);
+        return results;
+    }
+
+    @Override
+    public List<String> suggest(String storeId, String prefix, int size) {
+        log.debug("Attempting to suggest product titles in store {} by prefix '{}'", storeId, prefix);
+
+        return productSuggestionIndex.suggest(storeId, prefix, size);
+    }
+
+    @Override
+    public Stream<Product> streamByStoreId(String storeId) {
+        log.debug("Attempting to stream products by store id {}", storeId);
+
+        return productRepository.streamByStoreId(storeId);
     }
 
     @Override
@@ -63,35 +195,63 @@ public class ProductServiceImpl implements ProductService {
             return new ResourceNotFoundException(message);
         });
 
-        log.info("Found product by id {}", product);
+        log.info("Found product by id {}", id);
         return product;
     }
 
+    @Override
+    public LocalDateTime findUpdatedAtById(String id) {
+        log.debug("Attempting to find last update time of product with id {}", id);
+
+        return productRepository.findUpdatedAtById(id).orElseThrow(() -> {
+            String message = PRODUCT_WITH_ID_NOT_FOUND_TEMPLATE.formatted(id);
+            log.info(message);
+            return new ResourceNotFoundException(message);
+        });
+    }
+
     @Override
     @Transactional
     // TODO: impl images uploading with gridfs
     public Product create(Product product) {
-        log.debug("Attempting to create product {}", product);
+        log.debug("Attempting to create product in store {}", product.getStoreId());
 
         Product newProduct = productRepository.create(product);
+        index(newProduct);
 
-        log.info("Created product {}", newProduct);
+        log.info("Created product with id {}", newProduct.getId());
 
         return newProduct;
     }
 
+    @Override
+    @Transactional
+    public BulkResult<Product> createAll(List<Product> products) {
+        log.debug("Attempting to create {} products in bulk", products.size());
+
+        BulkResult<Product> result = productRepository.createAll(products);
+        result.created().forEach(this::index);
+
+        log.info("Created {} products in bulk, {} rejected", result.created().size(), result.errors().size());
+        return result;
+    }
+
     @Override
     @Transactional
     public Product update(String productId, Product product) {
         log.debug("Attempting to update product with id {}", productId);
 
-        Product oldProduct = findById(productId);
-
-        updateProductFields(oldProduct, product);
+        if (product.getVersion() == null) {
+            String message = PRODUCT_VERSION_REQUIRED_TEMPLATE.formatted(productId);
+            log.info(message);
+            throw new ValidationException(message);
+        }
 
-        Product updatedProduct = productRepository.create(oldProduct);
+        Product updatedProduct = productRepository.update(productId, product)
+                .orElseThrow(() -> updateFailure(productId, product.getVersion()));
+        index(updatedProduct);
 
-        log.info("Updated product with id {}", updatedProduct);
+        log.info("Updated product with id {}", updatedProduct.getId());
         return updatedProduct;
     }
 
@@ -100,19 +260,44 @@ public class ProductServiceImpl implements ProductService {
     public void delete(String productId) {
         log.debug("Attempting to delete product with id {}", productId);
 
-        Product product = findById(productId);
+        if (productRepository.deleteById(productId) == 0) {
+            String message = PRODUCT_WITH_ID_NOT_FOUND_TEMPLATE.formatted(productId);
+            log.info(message);
+            throw new ResourceNotFoundException(message);
+        }
+        removeFromIndexes(productId);
+
+        log.info("Deleted product with id {}", productId);
+    }
+
+    private void validatePriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+            String message = INVALID_PRICE_RANGE_TEMPLATE.formatted(minPrice, maxPrice);
+            log.info(message);
+            throw new ValidationException(message);
+        }
+    }
 
-        productRepository.delete(product);
+    private void index(Product product) {
+        productSearchIndex.index(product);
+        productSuggestionIndex.index(product);
+        productFacetIndex.index(product);
+    }
 
-        log.info("Deleted product with id {}", product);
+    private void removeFromIndexes(String productId) {
+        productSearchIndex.remove(productId);
+        productSuggestionIndex.remove(productId);
+        productFacetIndex.remove(productId);
     }
 
-    private void updateProductFields(Product existing, Product updateData) {
-        existing.setImages(updateData.getImages());
-        existing.setPrice(updateData.getPrice());
-        existing.setTitle(updateData.getTitle());
-        existing.setDescription(updateData.getDescription());
-        existing.setCategoryId(updateData.getCategoryId());
-        existing.setColorId(updateData.getColorId());
+    private RuntimeException updateFailure(String productId, Long expectedVersion) {
+        if (productRepository.findUpdatedAtById(productId).isPresent()) {
+            String message = PRODUCT_VERSION_CONFLICT_TEMPLATE.formatted(productId, expectedVersion);
+            log.info(message);
+            return new ResourceConflictException(message);
+        }
+        String message = PRODUCT_WITH_ID_NOT_FOUND_TEMPLATE.formatted(productId);
+        log.info(message);
+        return new ResourceNotFoundException(message);
     }
 }
@@ -0,0 +1,143 @@
+package com.elyashevich.core.application.service;
+
+import com.elyashevich.core.application.port.in.ReactiveProductService;
+import com.elyashevich.core.application.port.out.ProductFacetIndex;
+import com.elyashevich.core.application.port.out.ProductSearchIndex;
+import com.elyashevich.core.application.port.out.ProductSuggestionIndex;
+import com.elyashevich.core.application.port.out.ReactiveProductRepository;
+import com.elyashevich.core.domain.exception.ResourceConflictException;
+import com.elyashevich.core.domain.exception.ResourceNotFoundException;
+import com.elyashevich.core.domain.exception.ValidationException;
+import com.elyashevich.core.domain.model.CursorPage;
+import com.elyashevich.core.domain.model.Product;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+import static com.elyashevich.core.application.service.ProductServiceImpl.PRODUCT_VERSION_CONFLICT_TEMPLATE;
+import static com.elyashevich.core.application.service.ProductServiceImpl.PRODUCT_VERSION_REQUIRED_TEMPLATE;
+import static com.elyashevich.core.application.service.ProductServiceImpl.PRODUCT_WITH_ID_NOT_FOUND_TEMPLATE;
+
+@Slf4j
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveProductServiceImpl implements ReactiveProductService {
+
+    private final ReactiveProductRepository productRepository;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductSuggestionIndex productSuggestionIndex;
+    private final ProductFacetIndex productFacetIndex;
+
+    @Override
+    public Mono<CursorPage<Product>> findByStoreId(String storeId, String cursor, int size) {
+        log.debug("Attempting to find products page by store id {} after cursor {}", storeId, cursor);
+
+        return productRepository.findByStoreId(storeId, cursor, size)
+                .doOnNext(page -> log.info("Found {} products in store {}", page.items().size(), storeId));
+    }
+
+    @Override
+    public Mono<CursorPage<Product>> findByCategoryId(String categoryId, String cursor, int size) {
+        log.debug("Attempting to find products page by category id {} after cursor {}", categoryId, cursor);
+
+        return productRepository.findByCategoryId(categoryId, cursor, size)
+                .doOnNext(page -> log.info("Found {} products in category {}", page.items().size(), categoryId));
+    }
+
+    @Override
+    public Flux<Product> streamByStoreId(String storeId) {
+        log.debug("Attempting to stream products by store id {}", storeId);
+
+        return productRepository.streamByStoreId(storeId);
+    }
+
+    @Override
+    public Flux<Product> streamByCategoryId(String categoryId) {
+        log.debug("Attempting to stream products by category id {}", categoryId);
+
+        return productRepository.streamByCategoryId(categoryId);
+    }
+
+    @Override
+    public Mono<Product> findById(String id) {
+        log.debug("Attempting to find product with id {}", id);
+
+        return productRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> notFound(id)))
+                .doOnNext(product -> log.info("Found product with id {}", id));
+    }
+
+    @Override
+    public Mono<LocalDateTime> findUpdatedAtById(String id) {
+        log.debug("Attempting to find last update time of product with id {}", id);
+
+        return productRepository.findUpdatedAtById(id)
+                .switchIfEmpty(Mono.error(() -> notFound(id)));
+    }
+
+    @Override
+    public Mono<Product> create(Product product) {
+        log.debug("Attempting to create product in store {}", product.getStoreId());
+
+        return productRepository.create(product)
+                .doOnNext(this::index)
+                .doOnNext(newProduct -> log.info("Created product with id {}", newProduct.getId()));
+    }
+
+    @Override
+    public Mono<Product> update(String productId, Product product) {
+        log.debug("Attempting to update product with id {}", productId);
+
+        if (product.getVersion() == null) {
+            String message = PRODUCT_VERSION_REQUIRED_TEMPLATE.formatted(productId);
+            log.info(message);
+            return Mono.error(new ValidationException(message));
+        }
+        return productRepository.update(productId, product)
+                .switchIfEmpty(Mono.defer(() -> updateFailure(productId, product.getVersion())))
+                .doOnNext(this::index)
+                .doOnNext(updatedProduct -> log.info("Updated product with id {}", updatedProduct.getId()));
+    }
+
+    @Override
+    public Mono<Void> delete(String productId) {
+        log.debug("Attempting to delete product with id {}", productId);
+
+        return productRepository.deleteById(productId)
+                .flatMap(deleted -> deleted == 0 ? Mono.<Void>error(notFound(productId)) : Mono.<Void>empty())
+                .doOnSuccess(ignored -> {
+                    productSearchIndex.remove(productId);
+                    productSuggestionIndex.remove(productId);
+                    productFacetIndex.remove(productId);
+                    log.info("Deleted product with id {}", productId);
+                });
+    }
+
+    private Mono<Product> updateFailure(String productId, Long expectedVersion) {
+        return productRepository.findUpdatedAtById(productId)
+                .flatMap(updatedAt -> {
+                    String message = PRODUCT_VERSION_CONFLICT_TEMPLATE.formatted(productId, expectedVersion);
+                    log.info(message);
+                    return Mono.<Product>error(new ResourceConflictException(message));
+                })
+                .switchIfEmpty(Mono.error(() -> notFound(productId)));
+    }
+
+    private void index(Product product) {
+        productSearchIndex.index(product);
+        productSuggestionIndex.index(product);
+        productFacetIndex.index(product);
+    }
+
+    private ResourceNotFoundException notFound(String productId) {
+        String message = PRODUCT_WITH_ID_NOT_FOUND_TEMPLATE.formatted(productId);
+        log.info(message);
+        return new ResourceNotFoundException(message);
+    }
+}
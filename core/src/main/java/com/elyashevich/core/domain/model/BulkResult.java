@@ -0,0 +1,6 @@
+package com.elyashevich.core.domain.model;
+
+import java.util.List;
+
+public record BulkResult<T>(List<T> created, List<BulkItemError> errors) {
+}
@@ -14,6 +14,8 @@ import java.time.LocalDateTime;
 public class Category {
     private String id;
 
+    private Long version;
+
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
 
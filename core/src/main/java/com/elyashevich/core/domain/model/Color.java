@@ -15,6 +15,8 @@ public class Color {
 
     private String id;
 
+    private Long version;
+
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
 
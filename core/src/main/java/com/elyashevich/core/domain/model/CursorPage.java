@@ -0,0 +1,6 @@
+package com.elyashevich.core.domain.model;
+
+import java.util.List;
+
+public record CursorPage<T>(List<T> items, String next) {
+}
@@ -0,0 +1,4 @@
+package com.elyashevich.core.domain.model;
+
+public record FilteredProducts(CursorPage<ProductSummary> page, ProductFacets facets) {
+}
@@ -0,0 +1,6 @@
+package com.elyashevich.core.domain.model;
+
+import java.math.BigDecimal;
+
+public record PriceBucket(BigDecimal from, BigDecimal to, long count) {
+}
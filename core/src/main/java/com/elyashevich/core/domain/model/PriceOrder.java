@@ -0,0 +1,6 @@
+package com.elyashevich.core.domain.model;
+
+public enum PriceOrder {
+    ASC,
+    DESC
+}
@@ -18,6 +18,8 @@ public class Product {
 
     private String id;
 
+    private Long version;
+
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
 
@@ -39,8 +41,14 @@ public class Product {
 
     private String categoryId;
 
+    private String categoryTitle;
+
     private String colorId;
 
+    private String colorName;
+
+    private String colorValue;
+
     public void updateTimestamps() {
         this.updatedAt = LocalDateTime.now();
         if (this.createdAt == null) {
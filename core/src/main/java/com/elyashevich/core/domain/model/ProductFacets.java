@@ -0,0 +1,7 @@
+package com.elyashevich.core.domain.model;
+
+import java.util.List;
+import java.util.Map;
+
+public record ProductFacets(Map<String, Long> categories, Map<String, Long> colors, List<PriceBucket> prices) {
+}
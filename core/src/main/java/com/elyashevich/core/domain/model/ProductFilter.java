@@ -0,0 +1,15 @@
+package com.elyashevich.core.domain.model;
+
+import java.math.BigDecimal;
+
+public record ProductFilter(String categoryId, String colorId, BigDecimal minPrice, BigDecimal maxPrice) {
+
+    public boolean matchesPrice(BigDecimal price) {
+        if (minPrice == null && maxPrice == null) {
+            return true;
+        }
+        return price != null
+                && (minPrice == null || price.compareTo(minPrice) >= 0)
+                && (maxPrice == null || price.compareTo(maxPrice) <= 0);
+    }
+}
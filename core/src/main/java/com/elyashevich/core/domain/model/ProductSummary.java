@@ -0,0 +1,7 @@
+package com.elyashevich.core.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record ProductSummary(String id, String title, BigDecimal price, String image, LocalDateTime updatedAt) {
+}
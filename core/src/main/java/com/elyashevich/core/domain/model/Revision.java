@@ -0,0 +1,4 @@
+package com.elyashevich.core.domain.model;
+
+public record Revision<T>(T previous, T current) {
+}
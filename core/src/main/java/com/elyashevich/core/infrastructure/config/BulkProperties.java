@@ -0,0 +1,10 @@
+package com.elyashevich.core.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "application.bulk")
+public record BulkProperties(
+        @DefaultValue("1000") int chunkSize
+) {
+}
@@ -0,0 +1,20 @@
+package com.elyashevich.core.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "application.cache-invalidation")
+public record CacheInvalidationProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("core-service") String nodeId,
+        @DefaultValue("false") boolean forcePolling,
+        @DefaultValue("5s") Duration pollInterval,
+        @DefaultValue("30s") Duration pollOverlap,
+        @DefaultValue("1m") Duration fullRefreshInterval,
+        @DefaultValue("3") int changeStreamRetries,
+        @DefaultValue("1s") Duration changeStreamRetryBackoff,
+        @DefaultValue("1m") Duration changeStreamRecoveryInterval
+) {
+}
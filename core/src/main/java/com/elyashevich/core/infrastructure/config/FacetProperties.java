@@ -0,0 +1,15 @@
+package com.elyashevich.core.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "application.facets")
+public record FacetProperties(@DefaultValue({"25", "50", "100", "250", "500"}) List<BigDecimal> priceBounds) {
+
+    public FacetProperties {
+        priceBounds = priceBounds.stream().sorted().distinct().toList();
+    }
+}
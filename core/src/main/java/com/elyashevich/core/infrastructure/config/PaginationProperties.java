@@ -0,0 +1,18 @@
+package com.elyashevich.core.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "application.pagination")
+public record PaginationProperties(
+        @DefaultValue("20") int defaultSize,
+        @DefaultValue("100") int maxSize
+) {
+
+    public int resolveSize(Integer requestedSize) {
+        if (requestedSize == null) {
+            return defaultSize;
+        }
+        return Math.max(1, Math.min(requestedSize, maxSize));
+    }
+}
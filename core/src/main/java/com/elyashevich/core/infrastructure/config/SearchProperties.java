@@ -0,0 +1,18 @@
+package com.elyashevich.core.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "application.search")
+public record SearchProperties(
+        @DefaultValue("10") int maxSuggestions,
+        @DefaultValue("false") boolean rebuildOnStartup
+) {
+
+    public int resolveSuggestions(Integer requestedSize) {
+        if (requestedSize == null) {
+            return maxSuggestions;
+        }
+        return Math.max(1, Math.min(requestedSize, maxSuggestions));
+    }
+}
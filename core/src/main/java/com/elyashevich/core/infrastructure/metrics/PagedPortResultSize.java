@@ -0,0 +1,25 @@
+package com.elyashevich.core.infrastructure.metrics;
+
+import com.elyashevich.common.infrastructure.metrics.PortResultSize;
+import com.elyashevich.core.domain.model.BulkResult;
+import com.elyashevich.core.domain.model.CursorPage;
+import com.elyashevich.core.domain.model.FilteredProducts;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PagedPortResultSize implements PortResultSize {
+
+    @Override
+    public int sizeOf(Object result) {
+        if (result instanceof CursorPage<?> page) {
+            return page.items().size();
+        }
+        if (result instanceof FilteredProducts filtered) {
+            return filtered.page().items().size();
+        }
+        if (result instanceof BulkResult<?> bulk) {
+            return bulk.created().size();
+        }
+        return UNKNOWN;
+    }
+}
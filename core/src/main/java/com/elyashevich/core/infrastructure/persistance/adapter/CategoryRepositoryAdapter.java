@@ -2,12 +2,19 @@ package com.elyashevich.core.infrastructure.persistance.adapter;
 
 import com.elyashevich.core.application.port.out.CategoryRepository;
 import com.elyashevich.core.domain.model.Category;
+import com.elyashevich.core.domain.model.Revision;
+import com.elyashevich.core.infrastructure.persistance.cache.StoreSnapshotCache;
 import com.elyashevich.core.infrastructure.persistance.entity.CategoryMongoEntity;
 import com.elyashevich.core.infrastructure.persistance.mapper.EntityMapper;
 import com.elyashevich.core.infrastructure.persistance.repository.CategoryMongoRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,13 +22,22 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class CategoryRepositoryAdapter implements CategoryRepository {
 
+    private static final String ID_FIELD = "id";
+    private static final String STORE_ID_FIELD = "storeId";
+    private static final String UPDATED_AT_FIELD = "updatedAt";
+    private static final String VERSION_FIELD = "version";
+    private static final String TITLE_FIELD = "title";
+    private static final String DESCRIPTION_FIELD = "description";
+
     private final CategoryMongoRepository categoryMongoRepository;
     private final EntityMapper<Category, CategoryMongoEntity> categoryMapper;
+    private final MongoTemplate mongoTemplate;
+    private final StoreSnapshotCache<Category> snapshots =
+            new StoreSnapshotCache<>(this::loadByStoreId, Category::getId, Category::getTitle);
 
     @Override
     public List<Category> findByStoreId(String storeId) {
-        List<CategoryMongoEntity> entities = categoryMongoRepository.findByStoreId(storeId);
-        return categoryMapper.toDomain(entities);
+        return snapshots.get(storeId).items();
     }
 
     @Override
@@ -30,22 +46,85 @@ public class CategoryRepositoryAdapter implements CategoryRepository {
                 .map(categoryMapper::toDomain);
     }
 
+    @Override
+    public Optional<LocalDateTime> findUpdatedAtById(String id) {
+        Query query = new Query(Criteria.where(ID_FIELD).is(id));
+        query.fields().include(UPDATED_AT_FIELD);
+        return Optional.ofNullable(mongoTemplate.findOne(query, CategoryMongoEntity.class))
+                .map(CategoryMongoEntity::getUpdatedAt);
+    }
+
     @Override
     public Category create(Category category) {
         category.updateTimestamps();
         CategoryMongoEntity entity = categoryMapper.toEntity(category);
         CategoryMongoEntity savedEntity = categoryMongoRepository.save(entity);
+        snapshots.evict(savedEntity.getStoreId());
         return categoryMapper.toDomain(savedEntity);
     }
 
     @Override
-    public void delete(Category category) {
-        CategoryMongoEntity entity = categoryMapper.toEntity(category);
-        categoryMongoRepository.delete(entity);
+    public Optional<Revision<Category>> update(String id, Category changes) {
+        LocalDateTime now = LocalDateTime.now();
+        Update update = new Update()
+                .set(UPDATED_AT_FIELD, now)
+                .inc(VERSION_FIELD, 1);
+        if (changes.getTitle() != null) {
+            update.set(TITLE_FIELD, changes.getTitle());
+        }
+        if (changes.getDescription() != null) {
+            update.set(DESCRIPTION_FIELD, changes.getDescription());
+        }
+
+        Criteria criteria = withVersion(Criteria.where(ID_FIELD).is(id), changes.getVersion());
+
+        CategoryMongoEntity previous = mongoTemplate.findAndModify(new Query(criteria), update, CategoryMongoEntity.class);
+        if (previous == null) {
+            return Optional.empty();
+        }
+        snapshots.evict(previous.getStoreId());
+
+        Category current = categoryMapper.toDomain(previous);
+        current.setVersion(previous.getVersion() == null ? 1L : previous.getVersion() + 1);
+        current.setUpdatedAt(now);
+        if (changes.getTitle() != null) {
+            current.setTitle(changes.getTitle());
+        }
+        if (changes.getDescription() != null) {
+            current.setDescription(changes.getDescription());
+        }
+        return Optional.of(new Revision<>(categoryMapper.toDomain(previous), current));
+    }
+
+    @Override
+    public long deleteById(String id) {
+        Query query = new Query(Criteria.where(ID_FIELD).is(id));
+        query.fields().include(STORE_ID_FIELD);
+        CategoryMongoEntity deleted = mongoTemplate.findAndRemove(query, CategoryMongoEntity.class);
+        if (deleted == null) {
+            return 0;
+        }
+        snapshots.evict(deleted.getStoreId());
+        return 1;
     }
 
     @Override
     public boolean existsByTitleAndStoreId(String title, String storeId) {
-        return categoryMongoRepository.existsByTitleAndStoreId(title, storeId);
+        return snapshots.get(storeId).containsKey(title);
+    }
+
+    public void evictSnapshot(String storeId) {
+        snapshots.evict(storeId);
+    }
+
+    private List<Category> loadByStoreId(String storeId) {
+        List<CategoryMongoEntity> entities = categoryMongoRepository.findByStoreId(storeId);
+        return categoryMapper.toDomain(entities);
+    }
+
+    private static Criteria withVersion(Criteria criteria, long version) {
+        return version == 0
+                ? criteria.and(VERSION_FIELD).in(0L, null)
+                : criteria.and(VERSION_FIELD).is(version);
     }
 }
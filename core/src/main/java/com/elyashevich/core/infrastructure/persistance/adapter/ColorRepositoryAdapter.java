@@ -2,26 +2,43 @@ package com.elyashevich.core.infrastructure.persistance.adapter;
 
 import com.elyashevich.core.application.port.out.ColorRepository;
 import com.elyashevich.core.domain.model.Color;
+import com.elyashevich.core.domain.model.Revision;
+import com.elyashevich.core.infrastructure.persistance.cache.StoreSnapshotCache;
 import com.elyashevich.core.infrastructure.persistance.entity.ColorMongoEntity;
 import com.elyashevich.core.infrastructure.persistance.mapper.EntityMapper;
 import com.elyashevich.core.infrastructure.persistance.repository.ColorMongoRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
 public class ColorRepositoryAdapter implements ColorRepository {
 
+    private static final String ID_FIELD = "id";
+    private static final String STORE_ID_FIELD = "storeId";
+    private static final String UPDATED_AT_FIELD = "updatedAt";
+    private static final String VERSION_FIELD = "version";
+    private static final String NAME_FIELD = "name";
+    private static final String VALUE_FIELD = "value";
+
     private final ColorMongoRepository colorMongoRepository;
     private final EntityMapper<Color, ColorMongoEntity> entityMapper;
+    private final MongoTemplate mongoTemplate;
+    private final StoreSnapshotCache<Color> snapshots =
+            new StoreSnapshotCache<>(this::loadByStoreId, Color::getId, Color::getName);
 
     @Override
     public List<Color> findByStoreId(String storeId) {
-        List<ColorMongoEntity> entities = colorMongoRepository.findByStoreId(storeId);
-        return entityMapper.toDomain(entities);
+        return snapshots.get(storeId).items();
     }
 
     @Override
@@ -30,27 +47,91 @@ public class ColorRepositoryAdapter implements ColorRepository {
                 .map(entityMapper::toDomain);
     }
 
+    @Override
+    public Optional<LocalDateTime> findUpdatedAtById(String id) {
+        Query query = new Query(Criteria.where(ID_FIELD).is(id));
+        query.fields().include(UPDATED_AT_FIELD);
+        return Optional.ofNullable(mongoTemplate.findOne(query, ColorMongoEntity.class))
+                .map(ColorMongoEntity::getUpdatedAt);
+    }
+
     @Override
     public Color create(Color color) {
         color.updateTimestamps();
         ColorMongoEntity entity = entityMapper.toEntity(color);
         ColorMongoEntity savedEntity = colorMongoRepository.save(entity);
+        snapshots.evict(savedEntity.getStoreId());
         return entityMapper.toDomain(savedEntity);
     }
 
     @Override
-    public void delete(Color color) {
-        ColorMongoEntity entity = entityMapper.toEntity(color);
-        colorMongoRepository.delete(entity);
+    public Optional<Revision<Color>> update(String id, Color changes) {
+        LocalDateTime now = LocalDateTime.now();
+        Update update = new Update()
+                .set(UPDATED_AT_FIELD, now)
+                .inc(VERSION_FIELD, 1);
+        if (changes.getName() != null) {
+            update.set(NAME_FIELD, changes.getName());
+        }
+        if (changes.getValue() != null) {
+            update.set(VALUE_FIELD, changes.getValue());
+        }
+
+        Criteria criteria = withVersion(Criteria.where(ID_FIELD).is(id), changes.getVersion());
+
+        ColorMongoEntity previous = mongoTemplate.findAndModify(new Query(criteria), update, ColorMongoEntity.class);
+        if (previous == null) {
+            return Optional.empty();
+        }
+        snapshots.evict(previous.getStoreId());
+
+        Color current = entityMapper.toDomain(previous);
+        current.setVersion(previous.getVersion() == null ? 1L : previous.getVersion() + 1);
+        current.setUpdatedAt(now);
+        if (changes.getName() != null) {
+            current.setName(changes.getName());
+        }
+        if (changes.getValue() != null) {
+            current.setValue(changes.getValue());
+        }
+        return Optional.of(new Revision<>(entityMapper.toDomain(previous), current));
+    }
+
+    @Override
+    public long deleteById(String id) {
+        Query query = new Query(Criteria.where(ID_FIELD).is(id));
+        query.fields().include(STORE_ID_FIELD);
+        ColorMongoEntity deleted = mongoTemplate.findAndRemove(query, ColorMongoEntity.class);
+        if (deleted == null) {
+            return 0;
+        }
+        snapshots.evict(deleted.getStoreId());
+        return 1;
     }
 
     @Override
     public boolean existsByNameAndStoreId(String name, String storeId) {
-        return colorMongoRepository.existsByNameAndStoreId(name, storeId);
+        return snapshots.get(storeId).containsKey(name);
     }
 
     @Override
     public boolean existsByValueAndStoreId(String value, String storeId) {
-        return colorMongoRepository.existsByValueAndStoreId(value, storeId);
+        return snapshots.get(storeId).items().stream()
+                .anyMatch(color -> Objects.equals(color.getValue(), value));
+    }
+
+    public void evictSnapshot(String storeId) {
+        snapshots.evict(storeId);
+    }
+
+    private List<Color> loadByStoreId(String storeId) {
+        List<ColorMongoEntity> entities = colorMongoRepository.findByStoreId(storeId);
+        return entityMapper.toDomain(entities);
+    }
+
+    private static Criteria withVersion(Criteria criteria, long version) {
+        return version == 0
+                ? criteria.and(VERSION_FIELD).in(0L, null)
+                : criteria.and(VERSION_FIELD).is(version);
     }
 }
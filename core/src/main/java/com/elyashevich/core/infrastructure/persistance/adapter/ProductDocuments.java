@@ -0,0 +1,108 @@
+package com.elyashevich.core.infrastructure.persistance.adapter;
+
+import com.elyashevich.core.domain.model.Product;
+import com.elyashevich.core.infrastructure.persistance.entity.CategoryMongoEntity;
+import com.elyashevich.core.infrastructure.persistance.entity.CategorySnapshot;
+import com.elyashevich.core.infrastructure.persistance.entity.ColorMongoEntity;
+import com.elyashevich.core.infrastructure.persistance.entity.ColorSnapshot;
+import com.elyashevich.core.infrastructure.persistance.entity.ProductMongoEntity;
+import org.bson.types.Decimal128;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+final class ProductDocuments {
+
+    static final String ID_FIELD = "id";
+    static final String STORE_ID_FIELD = "storeId";
+    static final String UPDATED_AT_FIELD = "updatedAt";
+    static final String VERSION_FIELD = "version";
+    static final String TITLE_FIELD = "title";
+    static final String DESCRIPTION_FIELD = "description";
+    static final String PRICE_FIELD = "price";
+    static final String IMAGES_FIELD = "images";
+    static final String CATEGORY_ID_FIELD = "categoryId";
+    static final String COLOR_ID_FIELD = "colorId";
+    static final String CATEGORY_SNAPSHOT_FIELD = "categorySnapshot";
+    static final String COLOR_SNAPSHOT_FIELD = "colorSnapshot";
+    static final String CATEGORY_TITLE_FIELD = "categorySnapshot.title";
+    static final String COLOR_NAME_FIELD = "colorSnapshot.name";
+    static final String COLOR_VALUE_FIELD = "colorSnapshot.value";
+
+    private static final String CATEGORY_NOT_FOUND_IN_STORE_TEMPLATE = "Category with id '%s' not found in store '%s'";
+    private static final String COLOR_NOT_FOUND_IN_STORE_TEMPLATE = "Color with id '%s' not found in store '%s'";
+
+    private ProductDocuments() {
+    }
+
+    static Update changes(Product changes) {
+        Update update = new Update()
+                .set(UPDATED_AT_FIELD, LocalDateTime.now())
+                .inc(VERSION_FIELD, 1);
+        if (changes.getTitle() != null) {
+            update.set(TITLE_FIELD, changes.getTitle());
+        }
+        if (changes.getDescription() != null) {
+            update.set(DESCRIPTION_FIELD, changes.getDescription());
+        }
+        if (changes.getPrice() != null) {
+            update.set(PRICE_FIELD, decimal(changes.getPrice()));
+        }
+        if (changes.getImages() != null && !changes.getImages().isEmpty()) {
+            update.set(IMAGES_FIELD, changes.getImages());
+        }
+        return update;
+    }
+
+    static boolean changesRelations(Product changes) {
+        return changes.getCategoryId() != null || changes.getColorId() != null;
+    }
+
+    static Criteria withVersion(Criteria criteria, long version) {
+        return version == 0
+                ? criteria.and(VERSION_FIELD).in(0L, null)
+                : criteria.and(VERSION_FIELD).is(version);
+    }
+
+    static String validateRelations(
+            Product product,
+            String storeId,
+            CategoryMongoEntity category,
+            ColorMongoEntity color
+    ) {
+        if (product.getCategoryId() != null
+                && (category == null || !Objects.equals(category.getStoreId(), storeId))) {
+            return CATEGORY_NOT_FOUND_IN_STORE_TEMPLATE.formatted(product.getCategoryId(), storeId);
+        }
+        if (product.getColorId() != null
+                && (color == null || !Objects.equals(color.getStoreId(), storeId))) {
+            return COLOR_NOT_FOUND_IN_STORE_TEMPLATE.formatted(product.getColorId(), storeId);
+        }
+        return null;
+    }
+
+    static void embedRelations(ProductMongoEntity entity, CategoryMongoEntity category, ColorMongoEntity color) {
+        entity.setCategoryId(category == null ? null : category.getId());
+        entity.setCategorySnapshot(category == null ? null : new CategorySnapshot(category.getTitle()));
+        entity.setColorId(color == null ? null : color.getId());
+        entity.setColorSnapshot(color == null ? null : new ColorSnapshot(color.getName(), color.getValue()));
+    }
+
+    static void setRelations(Update update, CategoryMongoEntity category, ColorMongoEntity color) {
+        if (category != null) {
+            update.set(CATEGORY_ID_FIELD, category.getId())
+                    .set(CATEGORY_SNAPSHOT_FIELD, new CategorySnapshot(category.getTitle()));
+        }
+        if (color != null) {
+            update.set(COLOR_ID_FIELD, color.getId())
+                    .set(COLOR_SNAPSHOT_FIELD, new ColorSnapshot(color.getName(), color.getValue()));
+        }
+    }
+
+    static Decimal128 decimal(BigDecimal value) {
+        return new Decimal128(value);
+    }
+}
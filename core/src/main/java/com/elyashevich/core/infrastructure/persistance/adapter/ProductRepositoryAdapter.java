@@ -1,55 +1,198 @@
 package com.elyashevich.core.infrastructure.persistance.adapter;
 
 import com.elyashevich.core.application.port.out.ProductRepository;
+import com.elyashevich.core.domain.exception.ValidationException;
+import com.elyashevich.core.domain.model.BulkItemError;
+import com.elyashevich.core.domain.model.BulkResult;
+import com.elyashevich.core.domain.model.Category;
+import com.elyashevich.core.domain.model.Color;
+import com.elyashevich.core.domain.model.CursorPage;
+import com.elyashevich.core.domain.model.PriceOrder;
 import com.elyashevich.core.domain.model.Product;
+import com.elyashevich.core.domain.model.ProductFilter;
+import com.elyashevich.core.domain.model.ProductSummary;
+import com.elyashevich.core.infrastructure.config.BulkProperties;
+import com.elyashevich.core.infrastructure.persistance.entity.CategoryMongoEntity;
+import com.elyashevich.core.infrastructure.persistance.entity.ColorMongoEntity;
 import com.elyashevich.core.infrastructure.persistance.entity.ProductMongoEntity;
 import com.elyashevich.core.infrastructure.persistance.mapper.EntityMapper;
+import com.elyashevich.core.infrastructure.persistance.pagination.CursorCodec;
+import com.elyashevich.core.infrastructure.persistance.pagination.PriceCursor;
 import com.elyashevich.core.infrastructure.persistance.repository.CategoryMongoRepository;
 import com.elyashevich.core.infrastructure.persistance.repository.ColorMongoRepository;
 import com.elyashevich.core.infrastructure.persistance.repository.ProductMongoRepository;
+import com.mongodb.bulk.BulkWriteError;
 import lombok.RequiredArgsConstructor;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.elyashevich.core.infrastructure.persistance.adapter.ProductDocuments.CATEGORY_ID_FIELD;
+import static com.elyashevich.core.infrastructure.persistance.adapter.ProductDocuments.CATEGORY_SNAPSHOT_FIELD;
+import static com.elyashevich.core.infrastructure.persistance.adapter.ProductDocuments.CATEGORY_TITLE_FIELD;
+import static com.elyashevich.core.infrastructure.persistance.adapter.ProductDocuments.COLOR_ID_FIELD;
+import static com.elyashevich.core.infrastructure.persistance.adapter.ProductDocuments.COLOR_NAME_FIELD;
+import static com.elyashevich.core.infrastructure.persistance.adapter.ProductDocuments.COLOR_VALUE_FIELD;
+import static com.elyashevich.core.infrastructure.persistance.adapter.ProductDocuments.ID_FIELD;
+import static com.elyashevich.core.infrastructure.persistance.adapter.ProductDocuments.IMAGES_FIELD;
+import static com.elyashevich.core.infrastructure.persistance.adapter.ProductDocuments.PRICE_FIELD;
+import static com.elyashevich.core.infrastructure.persistance.adapter.ProductDocuments.STORE_ID_FIELD;
+import static com.elyashevich.core.infrastructure.persistance.adapter.ProductDocuments.TITLE_FIELD;
+import static com.elyashevich.core.infrastructure.persistance.adapter.ProductDocuments.UPDATED_AT_FIELD;
+import static com.elyashevich.core.infrastructure.persistance.adapter.ProductDocuments.VERSION_FIELD;
+import static com.elyashevich.core.infrastructure.persistance.adapter.ProductDocuments.changesRelations;
+import static com.elyashevich.core.infrastructure.persistance.adapter.ProductDocuments.decimal;
+import static com.elyashevich.core.infrastructure.persistance.adapter.ProductDocuments.embedRelations;
+import static com.elyashevich.core.infrastructure.persistance.adapter.ProductDocuments.validateRelations;
+import static com.elyashevich.core.infrastructure.persistance.adapter.ProductDocuments.withVersion;
 
 @Component
 @RequiredArgsConstructor
 public class ProductRepositoryAdapter implements ProductRepository {
 
+    public static final String PRODUCTS_CACHE = "products";
+
     private final ProductMongoRepository productMongoRepository;
     private final EntityMapper<Product, ProductMongoEntity> productMapper;
     private final CategoryMongoRepository categoryMongoRepository;
     private final ColorMongoRepository colorMongoRepository;
+    private final MongoTemplate mongoTemplate;
+    private final BulkProperties bulkProperties;
 
     @Override
-    public List<Product> findAll() {
-        return productMapper.toDomain(productMongoRepository.findAll());
+    public CursorPage<Product> findAll(String cursor, int size) {
+        return findPage(new Query(), cursor, size);
     }
 
     @Override
-    public List<Product> findByStoreId(String storeId) {
-        return productMapper.toDomain(
-                productMongoRepository.findByStoreId(storeId)
-        );
+    public CursorPage<Product> findByStoreId(String storeId, String cursor, int size) {
+        return findPage(new Query(Criteria.where(STORE_ID_FIELD).is(storeId)), cursor, size);
     }
 
     @Override
-    public List<Product> findByCategoryId(String categoryId) {
-        return productMapper.toDomain(
-                productMongoRepository.findByCategoryId(categoryId)
-        );
+    public CursorPage<Product> findByCategoryId(String categoryId, String cursor, int size) {
+        return findPage(new Query(Criteria.where(CATEGORY_ID_FIELD).is(categoryId)), cursor, size);
+    }
+
+    @Override
+    public CursorPage<ProductSummary> findAllSummaries(String cursor, int size) {
+        return findSummaryPage(new Query(), cursor, size);
     }
 
     @Override
+    public CursorPage<ProductSummary> findSummariesByStoreId(String storeId, String cursor, int size) {
+        return findSummaryPage(new Query(Criteria.where(STORE_ID_FIELD).is(storeId)), cursor, size);
+    }
+
+    @Override
+    public CursorPage<ProductSummary> findSummariesByCategoryId(String categoryId, String cursor, int size) {
+        return findSummaryPage(new Query(Criteria.where(CATEGORY_ID_FIELD).is(categoryId)), cursor, size);
+    }
+
+    @Override
+    public CursorPage<ProductSummary> findSummariesByStoreIdOrderByPrice(
+            String storeId,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            PriceOrder order,
+            String cursor,
+            int size
+    ) {
+        Criteria scope = Criteria.where(STORE_ID_FIELD).is(storeId);
+        return findSummaryPageByPrice(pricePageQuery(scope, minPrice, maxPrice, order, cursor, size), size);
+    }
+
+    @Override
+    public CursorPage<ProductSummary> findSummariesByCategoryIdOrderByPrice(
+            String categoryId,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            PriceOrder order,
+            String cursor,
+            int size
+    ) {
+        Criteria scope = Criteria.where(CATEGORY_ID_FIELD).is(categoryId);
+        return findSummaryPageByPrice(pricePageQuery(scope, minPrice, maxPrice, order, cursor, size), size);
+    }
+
+    @Override
+    public CursorPage<ProductSummary> findSummariesByFilter(String storeId, ProductFilter filter, String cursor, int size) {
+        Criteria criteria = Criteria.where(STORE_ID_FIELD).is(storeId);
+        if (filter.categoryId() != null) {
+            criteria.and(CATEGORY_ID_FIELD).is(filter.categoryId());
+        }
+        if (filter.colorId() != null) {
+            criteria.and(COLOR_ID_FIELD).is(filter.colorId());
+        }
+        if (filter.minPrice() != null || filter.maxPrice() != null) {
+            Criteria price = criteria.and(PRICE_FIELD);
+            if (filter.minPrice() != null) {
+                price.gte(decimal(filter.minPrice()));
+            }
+            if (filter.maxPrice() != null) {
+                price.lte(decimal(filter.maxPrice()));
+            }
+        }
+        return findSummaryPage(new Query(criteria), cursor, size);
+    }
+
+    @Override
+    public Stream<Product> streamByStoreId(String storeId) {
+        Query query = new Query(Criteria.where(STORE_ID_FIELD).is(storeId))
+                .with(Sort.by(Sort.Direction.ASC, ID_FIELD));
+        return mongoTemplate.stream(query, ProductMongoEntity.class)
+                .map(productMapper::toDomain);
+    }
+
+    @Override
+    @Cacheable(cacheNames = PRODUCTS_CACHE, unless = "#result == null")
     public Optional<Product> findById(String id) {
         return productMongoRepository.findById(id)
                 .map(productMapper::toDomain);
     }
 
+    @Override
+    public Optional<LocalDateTime> findUpdatedAtById(String id) {
+        Query query = new Query(Criteria.where(ID_FIELD).is(id));
+        query.fields().include(UPDATED_AT_FIELD);
+        return Optional.ofNullable(mongoTemplate.findOne(query, ProductMongoEntity.class))
+                .map(ProductMongoEntity::getUpdatedAt);
+    }
+
     @Override
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = PRODUCTS_CACHE, key = "#product.id", condition = "#product.id != null", beforeInvocation = true),
+            @CacheEvict(cacheNames = PRODUCTS_CACHE, key = "#product.id", condition = "#product.id != null")
+    })
     public Product create(Product product) {
         product.updateTimestamps();
 
@@ -61,18 +204,290 @@ public class ProductRepositoryAdapter implements ProductRepository {
     }
 
     @Override
-    public void delete(Product product) {
-        ProductMongoEntity entity = productMapper.toEntity(product);
-        productMongoRepository.delete(entity);
+    public BulkResult<Product> createAll(List<Product> products) {
+        Map<String, CategoryMongoEntity> categories = findAllById(
+                categoryMongoRepository, products, Product::getCategoryId, CategoryMongoEntity::getId
+        );
+        Map<String, ColorMongoEntity> colors = findAllById(
+                colorMongoRepository, products, Product::getColorId, ColorMongoEntity::getId
+        );
+
+        List<BulkItemError> errors = new ArrayList<>();
+        List<ProductMongoEntity> entities = new ArrayList<>(products.size());
+        List<Integer> entityIndexes = new ArrayList<>(products.size());
+
+        for (int index = 0; index < products.size(); index++) {
+            Product product = products.get(index);
+            CategoryMongoEntity category = product.getCategoryId() == null ? null : categories.get(product.getCategoryId());
+            ColorMongoEntity color = product.getColorId() == null ? null : colors.get(product.getColorId());
+
+            String error = validateRelations(product, product.getStoreId(), category, color);
+            if (error != null) {
+                errors.add(new BulkItemError(index, error));
+                continue;
+            }
+
+            product.updateTimestamps();
+            ProductMongoEntity entity = productMapper.toEntity(product);
+            entity.setId(new ObjectId().toHexString());
+            embedRelations(entity, category, color);
+
+            entities.add(entity);
+            entityIndexes.add(index);
+        }
+
+        List<ProductMongoEntity> inserted = new ArrayList<>(entities.size());
+        int chunkSize = bulkProperties.chunkSize();
+        for (int from = 0; from < entities.size(); from += chunkSize) {
+            int to = Math.min(from + chunkSize, entities.size());
+            insertChunk(entities.subList(from, to), entityIndexes.subList(from, to), inserted, errors);
+        }
+
+        errors.sort(Comparator.comparingInt(BulkItemError::index));
+        return new BulkResult<>(productMapper.toDomain(inserted), errors);
+    }
+
+    @Override
+    @CacheEvict(cacheNames = PRODUCTS_CACHE, key = "#id")
+    public Optional<Product> update(String id, Product changes) {
+        Update update = ProductDocuments.changes(changes);
+        if (changesRelations(changes)) {
+            Optional<String> storeId = findStoreIdById(id);
+            if (storeId.isEmpty()) {
+                return Optional.empty();
+            }
+            setRelations(update, changes, storeId.get());
+        }
+
+        Criteria criteria = withVersion(Criteria.where(ID_FIELD).is(id), changes.getVersion());
+
+        ProductMongoEntity updated = mongoTemplate.findAndModify(
+                new Query(criteria),
+                update,
+                FindAndModifyOptions.options().returnNew(true),
+                ProductMongoEntity.class
+        );
+        return Optional.ofNullable(updated).map(productMapper::toDomain);
+    }
+
+    @Override
+    @CacheEvict(cacheNames = PRODUCTS_CACHE, key = "#id")
+    public long deleteById(String id) {
+        return mongoTemplate.remove(new Query(Criteria.where(ID_FIELD).is(id)), ProductMongoEntity.class)
+                .getDeletedCount();
+    }
+
+    @Override
+    @CacheEvict(cacheNames = PRODUCTS_CACHE, allEntries = true)
+    public long detachCategory(String categoryId) {
+        return mongoTemplate.updateMulti(
+                new Query(Criteria.where(CATEGORY_ID_FIELD).is(categoryId)),
+                new Update()
+                        .unset(CATEGORY_ID_FIELD)
+                        .unset(CATEGORY_SNAPSHOT_FIELD)
+                        .set(UPDATED_AT_FIELD, LocalDateTime.now())
+                        .inc(VERSION_FIELD, 1),
+                ProductMongoEntity.class
+        ).getModifiedCount();
+    }
+
+    @Override
+    @CacheEvict(cacheNames = PRODUCTS_CACHE, allEntries = true)
+    public void refreshCategorySnapshot(Category category) {
+        mongoTemplate.updateMulti(
+                new Query(Criteria.where(CATEGORY_ID_FIELD).is(category.getId())),
+                new Update()
+                        .set(CATEGORY_TITLE_FIELD, category.getTitle())
+                        .set(UPDATED_AT_FIELD, LocalDateTime.now())
+                        .inc(VERSION_FIELD, 1),
+                ProductMongoEntity.class
+        );
+    }
+
+    @Override
+    @CacheEvict(cacheNames = PRODUCTS_CACHE, allEntries = true)
+    public void refreshColorSnapshot(Color color) {
+        mongoTemplate.updateMulti(
+                new Query(Criteria.where(COLOR_ID_FIELD).is(color.getId())),
+                new Update()
+                        .set(COLOR_NAME_FIELD, color.getName())
+                        .set(COLOR_VALUE_FIELD, color.getValue())
+                        .set(UPDATED_AT_FIELD, LocalDateTime.now())
+                        .inc(VERSION_FIELD, 1),
+                ProductMongoEntity.class
+        );
+    }
+
+    private void setRelations(Update update, Product changes, String storeId) {
+        CategoryMongoEntity category = changes.getCategoryId() == null
+                ? null
+                : categoryMongoRepository.findById(changes.getCategoryId()).orElse(null);
+        ColorMongoEntity color = changes.getColorId() == null
+                ? null
+                : colorMongoRepository.findById(changes.getColorId()).orElse(null);
+
+        String error = validateRelations(changes, storeId, category, color);
+        if (error != null) {
+            throw new ValidationException(error);
+        }
+        ProductDocuments.setRelations(update, category, color);
+    }
+
+    private Optional<String> findStoreIdById(String id) {
+        Query query = new Query(Criteria.where(ID_FIELD).is(id));
+        query.fields().include(STORE_ID_FIELD);
+        return Optional.ofNullable(mongoTemplate.findOne(query, ProductMongoEntity.class))
+                .map(ProductMongoEntity::getStoreId);
     }
 
     private void setRelations(Product product, ProductMongoEntity entity) {
-        if (product.getCategoryId() != null) {
-            entity.setCategory(categoryMongoRepository.findById(product.getCategoryId()).orElse(null));
+        CategoryMongoEntity category = product.getCategoryId() == null
+                ? null
+                : categoryMongoRepository.findById(product.getCategoryId()).orElse(null);
+        ColorMongoEntity color = product.getColorId() == null
+                ? null
+                : colorMongoRepository.findById(product.getColorId()).orElse(null);
+
+        embedRelations(entity, category, color);
+    }
+
+    private void insertChunk(
+            List<ProductMongoEntity> chunk,
+            List<Integer> chunkIndexes,
+            List<ProductMongoEntity> inserted,
+            List<BulkItemError> errors
+    ) {
+        Set<Integer> failed = new HashSet<>();
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ProductMongoEntity.class)
+                    .insert(chunk)
+                    .execute();
+        } catch (BulkOperationException e) {
+            for (BulkWriteError error : e.getErrors()) {
+                failed.add(error.getIndex());
+                errors.add(new BulkItemError(chunkIndexes.get(error.getIndex()), error.getMessage()));
+            }
+        }
+
+        for (int i = 0; i < chunk.size(); i++) {
+            if (!failed.contains(i)) {
+                inserted.add(chunk.get(i));
+            }
+        }
+    }
+
+    private <E> Map<String, E> findAllById(
+            MongoRepository<E, String> repository,
+            List<Product> products,
+            Function<Product, String> relationId,
+            Function<E, String> entityId
+    ) {
+        Set<String> ids = products.stream()
+                .map(relationId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return Map.of();
         }
 
-        if (product.getColorId() != null) {
-            entity.setColor(colorMongoRepository.findById(product.getColorId()).orElse(null));
+        Map<String, E> entities = new HashMap<>(ids.size());
+        repository.findAllById(ids).forEach(entity -> entities.put(entityId.apply(entity), entity));
+        return entities;
+    }
+
+    private CursorPage<Product> findPage(Query query, String cursor, int size) {
+        return findPage(query, cursor, size, productMapper::toDomain);
+    }
+
+    private CursorPage<ProductSummary> findSummaryPage(Query query, String cursor, int size) {
+        query.fields()
+                .include(TITLE_FIELD, PRICE_FIELD, UPDATED_AT_FIELD)
+                .slice(IMAGES_FIELD, 1);
+        return findPage(query, cursor, size, entities -> entities.stream().map(this::toSummary).toList());
+    }
+
+    Query pricePageQuery(
+            Criteria scope,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            PriceOrder order,
+            String cursor,
+            int size
+    ) {
+        boolean descending = order == PriceOrder.DESC;
+        PriceCursor after = cursor == null ? null : CursorCodec.decodePrice(cursor);
+
+        BigDecimal lower = minPrice;
+        BigDecimal upper = maxPrice;
+        if (after != null && descending) {
+            upper = upper == null ? after.price() : upper.min(after.price());
+        } else if (after != null) {
+            lower = lower == null ? after.price() : lower.max(after.price());
+        }
+
+        Criteria price = scope.and(PRICE_FIELD).ne(null);
+        if (lower != null) {
+            price.gte(decimal(lower));
+        }
+        if (upper != null) {
+            price.lte(decimal(upper));
+        }
+        if (after != null) {
+            Decimal128 afterPrice = decimal(after.price());
+            scope.orOperator(
+                    descending ? Criteria.where(PRICE_FIELD).lt(afterPrice) : Criteria.where(PRICE_FIELD).gt(afterPrice),
+                    descending ? Criteria.where(ID_FIELD).lt(after.id()) : Criteria.where(ID_FIELD).gt(after.id())
+            );
+        }
+
+        Sort.Direction direction = descending ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Query query = new Query(scope)
+                .with(Sort.by(direction, PRICE_FIELD, ID_FIELD))
+                .limit(size + 1);
+        query.fields()
+                .include(TITLE_FIELD, PRICE_FIELD, UPDATED_AT_FIELD)
+                .slice(IMAGES_FIELD, 1);
+        return query;
+    }
+
+    private CursorPage<ProductSummary> findSummaryPageByPrice(Query query, int size) {
+        List<ProductMongoEntity> entities = mongoTemplate.find(query, ProductMongoEntity.class);
+
+        if (entities.size() <= size) {
+            return new CursorPage<>(entities.stream().map(this::toSummary).toList(), null);
         }
+
+        List<ProductMongoEntity> pageEntities = entities.subList(0, size);
+        ProductMongoEntity last = pageEntities.get(size - 1);
+        String next = CursorCodec.encode(last.getPrice(), last.getId());
+        return new CursorPage<>(pageEntities.stream().map(this::toSummary).toList(), next);
+    }
+
+    private ProductSummary toSummary(ProductMongoEntity entity) {
+        List<String> images = entity.getImages();
+        String image = images == null || images.isEmpty() ? null : images.get(0);
+        return new ProductSummary(entity.getId(), entity.getTitle(), entity.getPrice(), image, entity.getUpdatedAt());
+    }
+
+    private <T> CursorPage<T> findPage(
+            Query query,
+            String cursor,
+            int size,
+            Function<List<ProductMongoEntity>, List<T>> mapper
+    ) {
+        if (cursor != null) {
+            query.addCriteria(Criteria.where(ID_FIELD).gt(CursorCodec.decode(cursor)));
+        }
+        query.with(Sort.by(Sort.Direction.ASC, ID_FIELD)).limit(size + 1);
+
+        List<ProductMongoEntity> entities = mongoTemplate.find(query, ProductMongoEntity.class);
+
+        if (entities.size() <= size) {
+            return new CursorPage<>(mapper.apply(entities), null);
+        }
+
+        List<ProductMongoEntity> pageEntities = entities.subList(0, size);
+        String next = CursorCodec.encode(pageEntities.get(size - 1).getId());
+        return new CursorPage<>(mapper.apply(pageEntities), next);
     }
 }
@@ -0,0 +1,186 @@
+package com.elyashevich.core.infrastructure.persistance.adapter;
+
+import com.elyashevich.core.application.port.out.ReactiveProductRepository;
+import com.elyashevich.core.domain.exception.ValidationException;
+import com.elyashevich.core.domain.model.CursorPage;
+import com.elyashevich.core.domain.model.Product;
+import com.elyashevich.core.infrastructure.persistance.entity.CategoryMongoEntity;
+import com.elyashevich.core.infrastructure.persistance.entity.ColorMongoEntity;
+import com.elyashevich.core.infrastructure.persistance.entity.ProductMongoEntity;
+import com.elyashevich.core.infrastructure.persistance.mapper.EntityMapper;
+import com.elyashevich.core.infrastructure.persistance.pagination.CursorCodec;
+import com.mongodb.client.result.DeleteResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static com.elyashevich.core.infrastructure.persistance.adapter.ProductDocuments.CATEGORY_ID_FIELD;
+import static com.elyashevich.core.infrastructure.persistance.adapter.ProductDocuments.ID_FIELD;
+import static com.elyashevich.core.infrastructure.persistance.adapter.ProductDocuments.STORE_ID_FIELD;
+import static com.elyashevich.core.infrastructure.persistance.adapter.ProductDocuments.UPDATED_AT_FIELD;
+import static com.elyashevich.core.infrastructure.persistance.adapter.ProductDocuments.changesRelations;
+import static com.elyashevich.core.infrastructure.persistance.adapter.ProductDocuments.embedRelations;
+import static com.elyashevich.core.infrastructure.persistance.adapter.ProductDocuments.validateRelations;
+import static com.elyashevich.core.infrastructure.persistance.adapter.ProductDocuments.withVersion;
+import static com.elyashevich.core.infrastructure.persistance.adapter.ProductRepositoryAdapter.PRODUCTS_CACHE;
+
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveProductRepositoryAdapter implements ReactiveProductRepository {
+
+    private final EntityMapper<Product, ProductMongoEntity> productMapper;
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Override
+    public Mono<CursorPage<Product>> findByStoreId(String storeId, String cursor, int size) {
+        return findPage(new Query(Criteria.where(STORE_ID_FIELD).is(storeId)), cursor, size);
+    }
+
+    @Override
+    public Mono<CursorPage<Product>> findByCategoryId(String categoryId, String cursor, int size) {
+        return findPage(new Query(Criteria.where(CATEGORY_ID_FIELD).is(categoryId)), cursor, size);
+    }
+
+    @Override
+    public Flux<Product> streamByStoreId(String storeId) {
+        return stream(Criteria.where(STORE_ID_FIELD).is(storeId));
+    }
+
+    @Override
+    public Flux<Product> streamByCategoryId(String categoryId) {
+        return stream(Criteria.where(CATEGORY_ID_FIELD).is(categoryId));
+    }
+
+    @Override
+    public Mono<Product> findById(String id) {
+        return reactiveMongoTemplate.findById(id, ProductMongoEntity.class)
+                .map(productMapper::toDomain);
+    }
+
+    @Override
+    public Mono<LocalDateTime> findUpdatedAtById(String id) {
+        Query query = new Query(Criteria.where(ID_FIELD).is(id));
+        query.fields().include(UPDATED_AT_FIELD);
+        return reactiveMongoTemplate.findOne(query, ProductMongoEntity.class)
+                .mapNotNull(ProductMongoEntity::getUpdatedAt);
+    }
+
+    @Override
+    public Mono<Product> create(Product product) {
+        product.updateTimestamps();
+        ProductMongoEntity entity = productMapper.toEntity(product);
+
+        return Mono.zip(findCategory(product.getCategoryId()), findColor(product.getColorId()))
+                .flatMap(relations -> {
+                    embedRelations(entity, relations.getT1().orElse(null), relations.getT2().orElse(null));
+                    return reactiveMongoTemplate.insert(entity);
+                })
+                .map(productMapper::toDomain);
+    }
+
+    @Override
+    @CacheEvict(cacheNames = PRODUCTS_CACHE, key = "#id")
+    public Mono<Product> update(String id, Product changes) {
+        Update update = ProductDocuments.changes(changes);
+        Criteria criteria = withVersion(Criteria.where(ID_FIELD).is(id), changes.getVersion());
+        Mono<Update> withRelations = changesRelations(changes)
+                ? findStoreIdById(id).flatMap(storeId -> setRelations(update, changes, storeId))
+                : Mono.just(update);
+
+        return withRelations
+                .flatMap(ready -> reactiveMongoTemplate.findAndModify(
+                        new Query(criteria),
+                        ready,
+                        FindAndModifyOptions.options().returnNew(true),
+                        ProductMongoEntity.class
+                ))
+                .map(productMapper::toDomain);
+    }
+
+    @Override
+    @CacheEvict(cacheNames = PRODUCTS_CACHE, key = "#id")
+    public Mono<Long> deleteById(String id) {
+        return reactiveMongoTemplate.remove(new Query(Criteria.where(ID_FIELD).is(id)), ProductMongoEntity.class)
+                .map(DeleteResult::getDeletedCount);
+    }
+
+    private Mono<Update> setRelations(Update update, Product changes, String storeId) {
+        return Mono.zip(findCategory(changes.getCategoryId()), findColor(changes.getColorId()))
+                .<Update>handle((relations, sink) -> {
+                    CategoryMongoEntity category = relations.getT1().orElse(null);
+                    ColorMongoEntity color = relations.getT2().orElse(null);
+
+                    String error = validateRelations(changes, storeId, category, color);
+                    if (error != null) {
+                        sink.error(new ValidationException(error));
+                        return;
+                    }
+                    ProductDocuments.setRelations(update, category, color);
+                    sink.next(update);
+                });
+    }
+
+    private Mono<String> findStoreIdById(String id) {
+        Query query = new Query(Criteria.where(ID_FIELD).is(id));
+        query.fields().include(STORE_ID_FIELD);
+        return reactiveMongoTemplate.findOne(query, ProductMongoEntity.class)
+                .mapNotNull(ProductMongoEntity::getStoreId);
+    }
+
+    private Flux<Product> stream(Criteria criteria) {
+        Query query = new Query(criteria).with(Sort.by(Sort.Direction.ASC, ID_FIELD));
+        return reactiveMongoTemplate.find(query, ProductMongoEntity.class)
+                .map(productMapper::toDomain);
+    }
+
+    private Mono<CursorPage<Product>> findPage(Query query, String cursor, int size) {
+        if (cursor != null) {
+            query.addCriteria(Criteria.where(ID_FIELD).gt(CursorCodec.decode(cursor)));
+        }
+        query.with(Sort.by(Sort.Direction.ASC, ID_FIELD)).limit(size + 1);
+
+        return reactiveMongoTemplate.find(query, ProductMongoEntity.class)
+                .collectList()
+                .map(entities -> toPage(entities, size));
+    }
+
+    private CursorPage<Product> toPage(List<ProductMongoEntity> entities, int size) {
+        if (entities.size() <= size) {
+            return new CursorPage<>(productMapper.toDomain(entities), null);
+        }
+
+        List<ProductMongoEntity> pageEntities = entities.subList(0, size);
+        String next = CursorCodec.encode(pageEntities.get(size - 1).getId());
+        return new CursorPage<>(productMapper.toDomain(pageEntities), next);
+    }
+
+    private Mono<Optional<CategoryMongoEntity>> findCategory(String categoryId) {
+        return categoryId == null
+                ? Mono.just(Optional.empty())
+                : reactiveMongoTemplate.findById(categoryId, CategoryMongoEntity.class)
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty());
+    }
+
+    private Mono<Optional<ColorMongoEntity>> findColor(String colorId) {
+        return colorId == null
+                ? Mono.just(Optional.empty())
+                : reactiveMongoTemplate.findById(colorId, ColorMongoEntity.class)
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty());
+    }
+}
@@ -0,0 +1,35 @@
+package com.elyashevich.core.infrastructure.persistance.cache;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public record StoreSnapshot<T>(List<T> items, Map<String, T> byId, Set<String> keys) {
+
+    public StoreSnapshot {
+        items = List.copyOf(items);
+        byId = Map.copyOf(byId);
+        keys = Set.copyOf(keys);
+    }
+
+    public static <T> StoreSnapshot<T> of(
+            List<T> items,
+            Function<T, String> idExtractor,
+            Function<T, String> keyExtractor
+    ) {
+        Map<String, T> byId = items.stream()
+                .collect(Collectors.toMap(idExtractor, Function.identity()));
+        Set<String> keys = items.stream()
+                .map(keyExtractor)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        return new StoreSnapshot<>(items, byId, keys);
+    }
+
+    public boolean containsKey(String key) {
+        return keys.contains(key);
+    }
+}
@@ -0,0 +1,57 @@
+package com.elyashevich.core.infrastructure.persistance.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+public class StoreSnapshotCache<T> {
+
+    private static final long MAXIMUM_STORES = 10_000;
+    private static final Duration REFRESH_AFTER_WRITE = Duration.ofMinutes(1);
+    private static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(10);
+
+    private final Function<String, List<T>> loader;
+    private final Function<T, String> idExtractor;
+    private final Function<T, String> keyExtractor;
+    private final LoadingCache<String, StoreSnapshot<T>> snapshots;
+
+    public StoreSnapshotCache(
+            Function<String, List<T>> loader,
+            Function<T, String> idExtractor,
+            Function<T, String> keyExtractor
+    ) {
+        this.loader = loader;
+        this.idExtractor = idExtractor;
+        this.keyExtractor = keyExtractor;
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_STORES)
+                .refreshAfterWrite(REFRESH_AFTER_WRITE)
+                .expireAfterWrite(EXPIRE_AFTER_WRITE)
+                .build(this::load);
+    }
+
+    public StoreSnapshot<T> get(String storeId) {
+        return storeId == null ? load(null) : snapshots.get(storeId);
+    }
+
+    public void refresh(String storeId) {
+        if (storeId != null) {
+            snapshots.asMap().compute(storeId, (key, previous) -> load(key));
+        }
+    }
+
+    public void evict(String storeId) {
+        if (storeId == null) {
+            snapshots.invalidateAll();
+        } else {
+            snapshots.invalidate(storeId);
+        }
+    }
+
+    private StoreSnapshot<T> load(String storeId) {
+        return StoreSnapshot.of(loader.apply(storeId), idExtractor, keyExtractor);
+    }
+}
@@ -0,0 +1,17 @@
+package com.elyashevich.core.infrastructure.persistance.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CategorySnapshot {
+
+    @Field
+    private String title;
+}
@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
@@ -12,6 +14,7 @@ import org.springframework.data.mongodb.core.mapping.Field;
 import java.time.LocalDateTime;
 
 @Document(collection = "colors")
+@CompoundIndex(name = "store_name_idx", def = "{'storeId': 1, 'name': 1}", unique = true)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -21,11 +24,15 @@ public class ColorMongoEntity {
     @Id
     private String id;
 
+    @Version
+    private Long version;
+
     @Field("created_at")
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
 
     @Field("updated_at")
+    @Indexed
     @Builder.Default
     private LocalDateTime updatedAt = LocalDateTime.now();
 
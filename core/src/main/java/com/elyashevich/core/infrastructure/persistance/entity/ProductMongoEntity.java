@@ -5,10 +5,12 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
-import org.springframework.data.mongodb.core.mapping.DBRef;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.FieldType;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -16,6 +18,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Document(collection = "products")
+@CompoundIndex(name = "store_id_idx", def = "{'storeId': 1, '_id': 1}")
+@CompoundIndex(name = "category_id_idx", def = "{'category_id': 1, '_id': 1}")
+@CompoundIndex(name = "store_price_idx", def = "{'storeId': 1, 'price': 1, '_id': 1}")
+@CompoundIndex(name = "category_price_idx", def = "{'category_id': 1, 'price': 1, '_id': 1}")
+@CompoundIndex(name = "store_category_color_idx", def = "{'storeId': 1, 'category_id': 1, 'color_id': 1, '_id': 1}")
+@CompoundIndex(name = "store_color_idx", def = "{'storeId': 1, 'color_id': 1, '_id': 1}")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -25,11 +33,15 @@ public class ProductMongoEntity {
     @Id
     private String id;
 
+    @Version
+    private Long version;
+
     @Field("created_at")
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
 
     @Field("updated_at")
+    @Indexed
     @Builder.Default
     private LocalDateTime updatedAt = LocalDateTime.now();
 
@@ -40,7 +52,7 @@ public class ProductMongoEntity {
     @Field
     private String description;
 
-    @Field
+    @Field(targetType = FieldType.DECIMAL128)
     private BigDecimal price;
 
     @Builder.Default
@@ -52,9 +64,16 @@ public class ProductMongoEntity {
     @Field
     private String storeId;
 
-    @DBRef
-    private CategoryMongoEntity category;
+    @Field("category_id")
+    private String categoryId;
+
+    @Field("category_snapshot")
+    private CategorySnapshot categorySnapshot;
+
+    @Field("color_id")
+    @Indexed
+    private String colorId;
 
-    @DBRef
-    private ColorMongoEntity color;
+    @Field("color_snapshot")
+    private ColorSnapshot colorSnapshot;
 }
\ No newline at end of file
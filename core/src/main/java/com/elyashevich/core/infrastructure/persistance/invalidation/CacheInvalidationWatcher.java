@@ -0,0 +1,326 @@
+package com.elyashevich.core.infrastructure.persistance.invalidation;
+
+import com.elyashevich.core.infrastructure.config.CacheInvalidationProperties;
+import com.mongodb.MongoException;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.messaging.ChangeStreamRequest;
+import org.springframework.data.mongodb.core.messaging.MessageListener;
+import org.springframework.data.mongodb.core.messaging.MessageListenerContainer;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "application.cache-invalidation.enabled", havingValue = "true", matchIfMissing = true)
+public class CacheInvalidationWatcher implements SmartLifecycle {
+
+    private static final String PRODUCTS_COLLECTION = "products";
+    private static final String CATEGORIES_COLLECTION = "categories";
+    private static final String COLORS_COLLECTION = "colors";
+    private static final String ID_FIELD = "_id";
+    private static final String STORE_ID_FIELD = "storeId";
+    private static final String UPDATED_AT_FIELD = "updated_at";
+    private static final int CHANGE_STREAM_HISTORY_LOST = 286;
+    private static final int CHANGE_STREAM_FATAL_ERROR = 280;
+
+    private final MongoTemplate mongoTemplate;
+    private final ChangeStreamContainerFactory containerFactory;
+    private final CacheInvalidator cacheInvalidator;
+    private final ResumeTokenStore resumeTokenStore;
+    private final CacheInvalidationProperties properties;
+
+    private final Map<String, Date> lastSeen = new ConcurrentHashMap<>();
+    private final AtomicInteger changeStreamFailures = new AtomicInteger();
+    private volatile boolean running;
+    private MessageListenerContainer container;
+    private ScheduledExecutorService scheduler;
+    private ScheduledFuture<?> pollTask;
+    private ScheduledFuture<?> refreshTask;
+    private ScheduledFuture<?> recoveryTask;
+    private boolean restartPending;
+
+    @Override
+    public synchronized void start() {
+        running = true;
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("cache-invalidation-scheduler").daemon().factory()
+        );
+        if (!properties.forcePolling() && supportsChangeStreams()) {
+            startChangeStreams();
+        } else {
+            startPolling();
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        stopChangeStreams();
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        pollTask = null;
+        refreshTask = null;
+        recoveryTask = null;
+        restartPending = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private Map<String, BiConsumer<String, Document>> handlers() {
+        return Map.of(
+                PRODUCTS_COLLECTION, cacheInvalidator::productChanged,
+                CATEGORIES_COLLECTION, (id, document) -> cacheInvalidator.categoryChanged(storeId(document)),
+                COLORS_COLLECTION, (id, document) -> cacheInvalidator.colorChanged(storeId(document))
+        );
+    }
+
+    private boolean supportsChangeStreams() {
+        try {
+            Document hello = mongoTemplate.executeCommand(new Document("hello", 1));
+            return hello.containsKey("setName") || "isdbgrid".equals(hello.getString("msg"));
+        } catch (DataAccessException e) {
+            log.warn("Could not detect Mongo topology, falling back to polling", e);
+            return false;
+        }
+    }
+
+    private void startChangeStreams() {
+        log.info("Watching {} with change streams for cache invalidation", handlers().keySet());
+
+        container = containerFactory.create();
+        handlers().forEach((collection, handler) ->
+                container.register(changeStreamRequest(collection, handler), Document.class, this::onChangeStreamError)
+        );
+        container.start();
+    }
+
+    private void stopChangeStreams() {
+        if (container != null) {
+            container.stop();
+            container = null;
+        }
+    }
+
+    private ChangeStreamRequest<Document> changeStreamRequest(String collection, BiConsumer<String, Document> handler) {
+        MessageListener<ChangeStreamDocument<Document>, Document> listener =
+                message -> onChange(collection, handler, message.getRaw());
+
+        ChangeStreamRequest.ChangeStreamRequestBuilder<Document> builder = ChangeStreamRequest.builder(listener)
+                .collection(collection)
+                .fullDocumentLookup(FullDocument.UPDATE_LOOKUP);
+        resumeTokenStore.load(tokenKey(collection)).ifPresent(builder::resumeToken);
+        return builder.build();
+    }
+
+    private void onChange(String collection, BiConsumer<String, Document> handler, ChangeStreamDocument<Document> event) {
+        if (event == null) {
+            return;
+        }
+        changeStreamFailures.set(0);
+
+        try {
+            handler.accept(documentId(event.getDocumentKey()), event.getFullDocument());
+        } catch (RuntimeException e) {
+            log.warn("Handling {} change on {} failed, evicting all caches", event.getOperationType(), collection, e);
+            cacheInvalidator.invalidateAll();
+        }
+
+        if (event.getResumeToken() != null) {
+            resumeTokenStore.save(tokenKey(collection), event.getResumeToken());
+        }
+    }
+
+    synchronized void onChangeStreamError(Throwable error) {
+        if (!running || container == null) {
+            return;
+        }
+        if (isHistoryLost(error)) {
+            log.warn("Change stream resume point is no longer in the oplog, restarting from now", error);
+            handlers().keySet().forEach(collection -> resumeTokenStore.clear(tokenKey(collection)));
+            cacheInvalidator.invalidateAll();
+        }
+        if (restartPending) {
+            return;
+        }
+        restartPending = true;
+
+        int failures = changeStreamFailures.incrementAndGet();
+        if (failures > properties.changeStreamRetries()) {
+            log.warn("Change stream failed {} times in a row, switching cache invalidation to polling", failures, error);
+            scheduler.execute(this::fallBackToPolling);
+            return;
+        }
+
+        Duration backoff = properties.changeStreamRetryBackoff().multipliedBy(1L << (failures - 1));
+        log.warn("Change stream failed, resuming in {} (attempt {} of {})",
+                backoff, failures, properties.changeStreamRetries(), error);
+        scheduler.schedule(this::restartChangeStreams, backoff.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void restartChangeStreams() {
+        restartPending = false;
+        if (!running) {
+            return;
+        }
+        stopChangeStreams();
+        startChangeStreams();
+    }
+
+    private synchronized void fallBackToPolling() {
+        restartPending = false;
+        if (!running) {
+            return;
+        }
+        stopChangeStreams();
+        cacheInvalidator.invalidateAll();
+        startPolling();
+
+        long interval = properties.changeStreamRecoveryInterval().toMillis();
+        recoveryTask = scheduler.scheduleWithFixedDelay(this::recoverChangeStreams, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    synchronized void recoverChangeStreams() {
+        if (!running || container != null || !supportsChangeStreams()) {
+            return;
+        }
+        log.info("Change streams are available again, resuming from saved tokens");
+
+        stopPolling();
+        if (recoveryTask != null) {
+            recoveryTask.cancel(false);
+            recoveryTask = null;
+        }
+        changeStreamFailures.set(0);
+        startChangeStreams();
+    }
+
+    private synchronized void startPolling() {
+        if (pollTask != null || !running) {
+            return;
+        }
+        log.info("Polling {} on {} every {} with a full refresh every {} for cache invalidation",
+                handlers().keySet(), UPDATED_AT_FIELD, properties.pollInterval(), properties.fullRefreshInterval());
+
+        Date now = new Date();
+        handlers().keySet().forEach(collection -> lastSeen.putIfAbsent(collection, now));
+
+        long interval = properties.pollInterval().toMillis();
+        pollTask = scheduler.scheduleWithFixedDelay(this::poll, interval, interval, TimeUnit.MILLISECONDS);
+
+        long refreshInterval = properties.fullRefreshInterval().toMillis();
+        refreshTask = scheduler.scheduleWithFixedDelay(
+                this::refresh, refreshInterval, refreshInterval, TimeUnit.MILLISECONDS
+        );
+    }
+
+    private void stopPolling() {
+        if (pollTask != null) {
+            pollTask.cancel(false);
+            pollTask = null;
+        }
+        if (refreshTask != null) {
+            refreshTask.cancel(false);
+            refreshTask = null;
+        }
+    }
+
+    void poll() {
+        handlers().forEach((collection, handler) -> {
+            try {
+                pollCollection(collection, handler);
+            } catch (DataAccessException e) {
+                log.warn("Polling {} for changes failed", collection, e);
+            }
+        });
+    }
+
+    void refresh() {
+        try {
+            cacheInvalidator.invalidateAll();
+        } catch (RuntimeException e) {
+            log.warn("Periodic cache refresh failed", e);
+        }
+    }
+
+    private void pollCollection(String collection, BiConsumer<String, Document> handler) {
+        Date since = lastSeen.get(collection);
+        Date from = new Date(since.getTime() - properties.pollOverlap().toMillis());
+        Query query = new Query(Criteria.where(UPDATED_AT_FIELD).gt(from));
+        if (!PRODUCTS_COLLECTION.equals(collection)) {
+            query.fields().include(ID_FIELD, STORE_ID_FIELD, UPDATED_AT_FIELD);
+        }
+
+        List<Document> changed = mongoTemplate.find(query, Document.class, collection);
+
+        Date latest = since;
+        for (Document document : changed) {
+            Object id = document.get(ID_FIELD);
+            handler.accept(id == null ? null : id.toString(), document);
+
+            Date updatedAt = document.getDate(UPDATED_AT_FIELD);
+            if (updatedAt != null && updatedAt.after(latest)) {
+                latest = updatedAt;
+            }
+        }
+        lastSeen.put(collection, latest);
+    }
+
+    private static boolean isHistoryLost(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof MongoException mongoException
+                    && (mongoException.getCode() == CHANGE_STREAM_HISTORY_LOST
+                    || mongoException.getCode() == CHANGE_STREAM_FATAL_ERROR)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String storeId(Document document) {
+        return document == null ? null : document.getString(STORE_ID_FIELD);
+    }
+
+    private String tokenKey(String collection) {
+        return properties.nodeId() + ":" + collection;
+    }
+
+    private static String documentId(BsonDocument documentKey) {
+        if (documentKey == null || !documentKey.containsKey(ID_FIELD)) {
+            return null;
+        }
+        BsonValue id = documentKey.get(ID_FIELD);
+        if (id.isObjectId()) {
+            return id.asObjectId().getValue().toHexString();
+        }
+        return id.isString() ? id.asString().getValue() : id.toString();
+    }
+}
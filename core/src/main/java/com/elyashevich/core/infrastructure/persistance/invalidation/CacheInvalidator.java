@@ -0,0 +1,95 @@
+package com.elyashevich.core.infrastructure.persistance.invalidation;
+
+import com.elyashevich.core.application.port.out.ProductFacetIndex;
+import com.elyashevich.core.application.port.out.ProductSearchIndex;
+import com.elyashevich.core.application.port.out.ProductSuggestionIndex;
+import com.elyashevich.core.domain.model.Product;
+import com.elyashevich.core.infrastructure.persistance.adapter.CategoryRepositoryAdapter;
+import com.elyashevich.core.infrastructure.persistance.adapter.ColorRepositoryAdapter;
+import com.elyashevich.core.infrastructure.persistance.adapter.ProductRepositoryAdapter;
+import com.elyashevich.core.infrastructure.persistance.entity.ProductMongoEntity;
+import com.elyashevich.core.infrastructure.persistance.mapper.EntityMapper;
+import com.elyashevich.core.infrastructure.search.ProductIndexRebuilder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidator {
+
+    private final CacheManager cacheManager;
+    private final CategoryRepositoryAdapter categoryRepositoryAdapter;
+    private final ColorRepositoryAdapter colorRepositoryAdapter;
+    private final MongoConverter mongoConverter;
+    private final EntityMapper<Product, ProductMongoEntity> productMapper;
+    private final ProductIndexRebuilder productIndexRebuilder;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductSuggestionIndex productSuggestionIndex;
+    private final ProductFacetIndex productFacetIndex;
+
+    public void productChanged(String productId, Document document) {
+        log.debug("Evicting product {} from cache", productId);
+
+        Cache products = productsCache();
+        if (productId == null) {
+            products.clear();
+            return;
+        }
+        products.evict(productId);
+        if (document == null) {
+            remove(productId);
+        } else {
+            index(productMapper.toDomain(mongoConverter.read(ProductMongoEntity.class, document)));
+        }
+    }
+
+    public void categoryChanged(String storeId) {
+        log.debug("Evicting category snapshot for store {}", storeId);
+
+        categoryRepositoryAdapter.evictSnapshot(storeId);
+        productsCache().clear();
+    }
+
+    public void colorChanged(String storeId) {
+        log.debug("Evicting color snapshot for store {}", storeId);
+
+        colorRepositoryAdapter.evictSnapshot(storeId);
+        productsCache().clear();
+    }
+
+    public void invalidateAll() {
+        log.info("Evicting all product, category and color caches");
+
+        productsCache().clear();
+        categoryRepositoryAdapter.evictSnapshot(null);
+        colorRepositoryAdapter.evictSnapshot(null);
+        try {
+            productIndexRebuilder.rebuild();
+        } catch (DataAccessException e) {
+            log.warn("Could not reconcile product indexes with the database", e);
+        }
+    }
+
+    private void index(Product product) {
+        productSearchIndex.index(product);
+        productSuggestionIndex.index(product);
+        productFacetIndex.index(product);
+    }
+
+    private void remove(String productId) {
+        productSearchIndex.remove(productId);
+        productSuggestionIndex.remove(productId);
+        productFacetIndex.remove(productId);
+    }
+
+    private Cache productsCache() {
+        return cacheManager.getCache(ProductRepositoryAdapter.PRODUCTS_CACHE);
+    }
+}
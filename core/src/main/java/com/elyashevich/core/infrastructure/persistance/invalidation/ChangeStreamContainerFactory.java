@@ -0,0 +1,18 @@
+package com.elyashevich.core.infrastructure.persistance.invalidation;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.messaging.DefaultMessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.MessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ChangeStreamContainerFactory {
+
+    private final MongoTemplate mongoTemplate;
+
+    public MessageListenerContainer create() {
+        return new DefaultMessageListenerContainer(mongoTemplate);
+    }
+}
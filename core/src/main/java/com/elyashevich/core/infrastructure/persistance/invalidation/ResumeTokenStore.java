@@ -0,0 +1,44 @@
+package com.elyashevich.core.infrastructure.persistance.invalidation;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOptions;
+import lombok.RequiredArgsConstructor;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class ResumeTokenStore {
+
+    static final String COLLECTION = "cache_invalidation_tokens";
+    private static final String ID_FIELD = "_id";
+    private static final String TOKEN_FIELD = "token";
+
+    private final MongoTemplate mongoTemplate;
+
+    public Optional<BsonDocument> load(String key) {
+        Document document = mongoTemplate.getCollection(COLLECTION)
+                .find(Filters.eq(ID_FIELD, key))
+                .first();
+        return Optional.ofNullable(document)
+                .map(found -> found.get(TOKEN_FIELD, Document.class))
+                .map(token -> token.toBsonDocument(BsonDocument.class, MongoClientSettings.getDefaultCodecRegistry()));
+    }
+
+    public void save(String key, BsonDocument token) {
+        mongoTemplate.getCollection(COLLECTION).replaceOne(
+                Filters.eq(ID_FIELD, key),
+                new Document(ID_FIELD, key).append(TOKEN_FIELD, token),
+                new ReplaceOptions().upsert(true)
+        );
+    }
+
+    public void clear(String key) {
+        mongoTemplate.getCollection(COLLECTION).deleteOne(Filters.eq(ID_FIELD, key));
+    }
+}
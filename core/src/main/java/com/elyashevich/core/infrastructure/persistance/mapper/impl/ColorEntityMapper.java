@@ -1,66 +1,28 @@
 package com.elyashevich.core.infrastructure.persistance.mapper.impl;
 
+import com.elyashevich.common.infrastructure.persistance.mapper.EntityMapperConfig;
 import com.elyashevich.core.domain.model.Color;
 import com.elyashevich.core.infrastructure.persistance.entity.ColorMongoEntity;
 import com.elyashevich.core.infrastructure.persistance.mapper.EntityMapper;
-import org.springframework.stereotype.Component;
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 
-import java.util.List;
-
-@Component
-public class ColorEntityMapper implements EntityMapper<Color, ColorMongoEntity> {
-
-    @Override
-    public Color toDomain(ColorMongoEntity entity) {
-        if (entity == null) {
-            return null;
-        }
-
-        return Color.builder()
-                .id(entity.getId())
-                .createdAt(entity.getCreatedAt())
-                .updatedAt(entity.getUpdatedAt())
-                .name(entity.getName())
-                .value(entity.getValue())
-                .storeId(entity.getStoreId())
-                .build();
-    }
+@Mapper(config = EntityMapperConfig.class)
+public interface ColorEntityMapper extends EntityMapper<Color, ColorMongoEntity> {
 
     @Override
-    public ColorMongoEntity toEntity(Color domain) {
-        if (domain == null) {
-            return null;
-        }
-
-        return ColorMongoEntity.builder()
-                .id(domain.getId())
-                .createdAt(domain.getCreatedAt())
-                .updatedAt(domain.getUpdatedAt())
-                .name(domain.getName())
-                .value(domain.getValue())
-                .storeId(domain.getStoreId())
-                .build();
-    }
-
-    @Override
-    public void updateEntity(Color domain, ColorMongoEntity entity) {
-        if (domain == null || entity == null) {
-            return;
-        }
-
-        entity.setName(domain.getName());
-        entity.setValue(domain.getValue());
-        entity.setStoreId(domain.getStoreId());
-        entity.setUpdatedAt(domain.getUpdatedAt());
-    }
+    Color toDomain(ColorMongoEntity entity);
 
     @Override
-    public List<Color> toDomain(List<ColorMongoEntity> entities) {
-        return entities.stream().map(this::toDomain).toList();
-    }
+    ColorMongoEntity toEntity(Color domain);
 
     @Override
-    public List<ColorMongoEntity> toEntity(List<Color> domains) {
-        return domains.stream().map(this::toEntity).toList();
-    }
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "name")
+    @Mapping(target = "value")
+    @Mapping(target = "storeId")
+    @Mapping(target = "updatedAt")
+    void updateEntity(Color domain, @MappingTarget ColorMongoEntity entity);
 }
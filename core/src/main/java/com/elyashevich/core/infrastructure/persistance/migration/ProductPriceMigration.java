@@ -0,0 +1,83 @@
+package com.elyashevich.core.infrastructure.persistance.migration;
+
+import com.elyashevich.core.infrastructure.persistance.entity.ProductMongoEntity;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonType;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "application.migration.product-price.enabled", havingValue = "true")
+public class ProductPriceMigration implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String ID_FIELD = "_id";
+    private static final String PRICE_FIELD = "price";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        MongoCollection<Document> products =
+                mongoTemplate.getCollection(mongoTemplate.getCollectionName(ProductMongoEntity.class));
+
+        List<WriteModel<Document>> batch = new ArrayList<>(BATCH_SIZE);
+        long migrated = 0;
+        long skipped = 0;
+
+        for (Document product : products.find(Filters.type(PRICE_FIELD, BsonType.STRING))
+                .projection(Projections.include(PRICE_FIELD))) {
+            Decimal128 price = toDecimal(product.getString(PRICE_FIELD));
+            if (price == null) {
+                log.warn("Skipping product {} with non-numeric price '{}'", product.get(ID_FIELD), product.get(PRICE_FIELD));
+                skipped++;
+                continue;
+            }
+            batch.add(new UpdateOneModel<>(Filters.eq(ID_FIELD, product.get(ID_FIELD)), Updates.set(PRICE_FIELD, price)));
+
+            if (batch.size() == BATCH_SIZE) {
+                migrated += write(products, batch);
+            }
+        }
+        migrated += write(products, batch);
+
+        log.info("Migrated {} product prices from strings to Decimal128, skipped {}", migrated, skipped);
+    }
+
+    private Decimal128 toDecimal(String price) {
+        try {
+            return new Decimal128(new BigDecimal(price.strip()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private long write(MongoCollection<Document> products, List<WriteModel<Document>> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        long modified = products.bulkWrite(batch, new BulkWriteOptions().ordered(false)).getModifiedCount();
+        batch.clear();
+        return modified;
+    }
+}
@@ -0,0 +1,130 @@
+package com.elyashevich.core.infrastructure.persistance.migration;
+
+import com.elyashevich.core.infrastructure.persistance.entity.CategoryMongoEntity;
+import com.elyashevich.core.infrastructure.persistance.entity.ColorMongoEntity;
+import com.elyashevich.core.infrastructure.persistance.entity.ProductMongoEntity;
+import com.mongodb.DBRef;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "application.migration.product-relations.enabled", havingValue = "true")
+public class ProductRelationsMigration implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String ID_FIELD = "_id";
+    private static final String LEGACY_CATEGORY_FIELD = "category";
+    private static final String LEGACY_COLOR_FIELD = "color";
+    private static final String CATEGORY_ID_FIELD = "category_id";
+    private static final String CATEGORY_SNAPSHOT_FIELD = "category_snapshot";
+    private static final String COLOR_ID_FIELD = "color_id";
+    private static final String COLOR_SNAPSHOT_FIELD = "color_snapshot";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        MongoCollection<Document> products = collection(ProductMongoEntity.class);
+        Bson legacyFilter = Filters.or(Filters.exists(LEGACY_CATEGORY_FIELD), Filters.exists(LEGACY_COLOR_FIELD));
+
+        Map<Object, Optional<Document>> categories = new HashMap<>();
+        Map<Object, Optional<Document>> colors = new HashMap<>();
+        List<WriteModel<Document>> batch = new ArrayList<>(BATCH_SIZE);
+        long migrated = 0;
+
+        for (Document product : products.find(legacyFilter)
+                .projection(Projections.include(LEGACY_CATEGORY_FIELD, LEGACY_COLOR_FIELD))) {
+            batch.add(new UpdateOneModel<>(
+                    Filters.eq(ID_FIELD, product.get(ID_FIELD)),
+                    toUpdate(product, categories, colors)
+            ));
+
+            if (batch.size() == BATCH_SIZE) {
+                migrated += write(products, batch);
+            }
+        }
+        migrated += write(products, batch);
+
+        log.info("Migrated {} products from DBRef relations to embedded snapshots", migrated);
+    }
+
+    private Document toUpdate(
+            Document product,
+            Map<Object, Optional<Document>> categories,
+            Map<Object, Optional<Document>> colors
+    ) {
+        Document set = new Document();
+        Document unset = new Document(LEGACY_CATEGORY_FIELD, "").append(LEGACY_COLOR_FIELD, "");
+
+        referencedId(product.get(LEGACY_CATEGORY_FIELD)).ifPresent(categoryId ->
+                categories.computeIfAbsent(categoryId, id -> lookup(CategoryMongoEntity.class, id, "title"))
+                        .ifPresent(category -> set
+                                .append(CATEGORY_ID_FIELD, categoryId.toString())
+                                .append(CATEGORY_SNAPSHOT_FIELD, new Document("title", category.get("title")))));
+
+        referencedId(product.get(LEGACY_COLOR_FIELD)).ifPresent(colorId ->
+                colors.computeIfAbsent(colorId, id -> lookup(ColorMongoEntity.class, id, "name", "value"))
+                        .ifPresent(color -> set
+                                .append(COLOR_ID_FIELD, colorId.toString())
+                                .append(COLOR_SNAPSHOT_FIELD, new Document("name", color.get("name"))
+                                        .append("value", color.get("value")))));
+
+        Document update = new Document("$unset", unset);
+        if (!set.isEmpty()) {
+            update.append("$set", set);
+        }
+        return update;
+    }
+
+    private Optional<Object> referencedId(Object reference) {
+        if (reference instanceof DBRef dbRef) {
+            return Optional.ofNullable(dbRef.getId());
+        }
+        if (reference instanceof Document document) {
+            return Optional.ofNullable(document.get("$id"));
+        }
+        return Optional.empty();
+    }
+
+    private Optional<Document> lookup(Class<?> entityClass, Object id, String... fields) {
+        return Optional.ofNullable(collection(entityClass)
+                .find(Filters.eq(ID_FIELD, id))
+                .projection(Projections.include(fields))
+                .first());
+    }
+
+    private long write(MongoCollection<Document> products, List<WriteModel<Document>> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        long modified = products.bulkWrite(batch, new BulkWriteOptions().ordered(false)).getModifiedCount();
+        batch.clear();
+        return modified;
+    }
+
+    private MongoCollection<Document> collection(Class<?> entityClass) {
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(entityClass));
+    }
+}
@@ -0,0 +1,63 @@
+package com.elyashevich.core.infrastructure.persistance.pagination;
+
+import com.elyashevich.core.domain.exception.ValidationException;
+import org.bson.types.ObjectId;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+
+public final class CursorCodec {
+
+    public static final String INVALID_CURSOR_TEMPLATE = "Invalid cursor: '%s'";
+
+    private static final int OBJECT_ID_LENGTH = 12;
+
+    private CursorCodec() {
+    }
+
+    public static String encode(String id) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(new ObjectId(id).toByteArray());
+    }
+
+    public static String encode(BigDecimal price, String id) {
+        byte[] priceBytes = price.toPlainString().getBytes(StandardCharsets.US_ASCII);
+        byte[] bytes = ByteBuffer.allocate(OBJECT_ID_LENGTH + priceBytes.length)
+                .put(new ObjectId(id).toByteArray())
+                .put(priceBytes)
+                .array();
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(bytes);
+    }
+
+    public static PriceCursor decodePrice(String cursor) {
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(cursor);
+            if (bytes.length > OBJECT_ID_LENGTH) {
+                String id = new ObjectId(Arrays.copyOf(bytes, OBJECT_ID_LENGTH)).toHexString();
+                String price = new String(bytes, OBJECT_ID_LENGTH, bytes.length - OBJECT_ID_LENGTH, StandardCharsets.US_ASCII);
+                return new PriceCursor(new BigDecimal(price), id);
+            }
+        } catch (IllegalArgumentException ignored) {
+            // fall through to the validation error below
+        }
+        throw new ValidationException(INVALID_CURSOR_TEMPLATE.formatted(cursor));
+    }
+
+    public static String decode(String cursor) {
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(cursor);
+            if (bytes.length == OBJECT_ID_LENGTH) {
+                return new ObjectId(bytes).toHexString();
+            }
+        } catch (IllegalArgumentException ignored) {
+            // fall through to the validation error below
+        }
+        throw new ValidationException(INVALID_CURSOR_TEMPLATE.formatted(cursor));
+    }
+}
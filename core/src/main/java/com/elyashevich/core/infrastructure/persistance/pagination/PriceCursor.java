@@ -0,0 +1,6 @@
+package com.elyashevich.core.infrastructure.persistance.pagination;
+
+import java.math.BigDecimal;
+
+public record PriceCursor(BigDecimal price, String id) {
+}
@@ -0,0 +1,64 @@
+package com.elyashevich.core.infrastructure.search;
+
+import com.elyashevich.core.application.port.out.ProductFacetIndex;
+import com.elyashevich.core.domain.model.Product;
+import com.elyashevich.core.domain.model.ProductFacets;
+import com.elyashevich.core.domain.model.ProductFilter;
+import com.elyashevich.core.infrastructure.config.FacetProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@RequiredArgsConstructor
+public class InMemoryProductFacetIndex implements ProductFacetIndex {
+
+    private final FacetProperties facetProperties;
+
+    private final Map<String, StoreFacetCounts> stores = new ConcurrentHashMap<>();
+    private final Map<String, String> storeIdsByProductId = new ConcurrentHashMap<>();
+
+    @Override
+    public void index(Product product) {
+        put(product.getId(), product.getStoreId(), product.getCategoryId(), product.getColorId(), product.getPrice());
+    }
+
+    @Override
+    public void remove(String productId) {
+        String storeId = storeIdsByProductId.remove(productId);
+        if (storeId != null) {
+            storeCounts(storeId).remove(productId);
+        }
+    }
+
+    @Override
+    public Set<String> productIds() {
+        return Set.copyOf(storeIdsByProductId.keySet());
+    }
+
+    @Override
+    public ProductFacets facets(String storeId, ProductFilter filter) {
+        StoreFacetCounts counts = stores.getOrDefault(storeId, new StoreFacetCounts(facetProperties.priceBounds()));
+        return counts.facets(filter);
+    }
+
+    private void put(String productId, String storeId, String categoryId, String colorId, BigDecimal price) {
+        if (productId == null || storeId == null) {
+            return;
+        }
+
+        String previousStoreId = storeIdsByProductId.put(productId, storeId);
+        if (previousStoreId != null && !previousStoreId.equals(storeId)) {
+            storeCounts(previousStoreId).remove(productId);
+        }
+        storeCounts(storeId).put(productId, categoryId, colorId, price);
+    }
+
+    private StoreFacetCounts storeCounts(String storeId) {
+        return stores.computeIfAbsent(storeId, id -> new StoreFacetCounts(facetProperties.priceBounds()));
+    }
+}
@@ -0,0 +1,54 @@
+package com.elyashevich.core.infrastructure.search;
+
+import com.elyashevich.core.application.port.out.ProductSearchIndex;
+import com.elyashevich.core.domain.model.Product;
+import com.elyashevich.core.domain.model.ProductSummary;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class InMemoryProductSearchIndex implements ProductSearchIndex {
+
+    private final Map<String, StoreSearchIndex> stores = new ConcurrentHashMap<>();
+    private final Map<String, String> storeIdsByProductId = new ConcurrentHashMap<>();
+
+    @Override
+    public void index(Product product) {
+        if (product.getId() == null || product.getStoreId() == null) {
+            return;
+        }
+
+        String previousStoreId = storeIdsByProductId.put(product.getId(), product.getStoreId());
+        if (previousStoreId != null && !previousStoreId.equals(product.getStoreId())) {
+            storeIndex(previousStoreId).remove(product.getId());
+        }
+        storeIndex(product.getStoreId()).put(product);
+    }
+
+    @Override
+    public void remove(String productId) {
+        String storeId = storeIdsByProductId.remove(productId);
+        if (storeId != null) {
+            storeIndex(storeId).remove(productId);
+        }
+    }
+
+    @Override
+    public Set<String> productIds() {
+        return Set.copyOf(storeIdsByProductId.keySet());
+    }
+
+    @Override
+    public List<ProductSummary> search(String storeId, String query, int limit) {
+        StoreSearchIndex index = stores.get(storeId);
+        return index == null ? List.of() : index.search(query, limit);
+    }
+
+    private StoreSearchIndex storeIndex(String storeId) {
+        return stores.computeIfAbsent(storeId, id -> new StoreSearchIndex());
+    }
+}
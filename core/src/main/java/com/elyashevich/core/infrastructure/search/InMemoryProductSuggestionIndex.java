@@ -0,0 +1,62 @@
+package com.elyashevich.core.infrastructure.search;
+
+import com.elyashevich.core.application.port.out.ProductSuggestionIndex;
+import com.elyashevich.core.domain.model.Product;
+import com.elyashevich.core.infrastructure.config.SearchProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@RequiredArgsConstructor
+public class InMemoryProductSuggestionIndex implements ProductSuggestionIndex {
+
+    private final SearchProperties searchProperties;
+
+    private final Map<String, StoreTitleTrie> stores = new ConcurrentHashMap<>();
+    private final Map<String, String> storeIdsByProductId = new ConcurrentHashMap<>();
+
+    @Override
+    public void index(Product product) {
+        put(product.getId(), product.getStoreId(), product.getTitle());
+    }
+
+    @Override
+    public void remove(String productId) {
+        String storeId = storeIdsByProductId.remove(productId);
+        if (storeId != null) {
+            storeTrie(storeId).remove(productId);
+        }
+    }
+
+    @Override
+    public Set<String> productIds() {
+        return Set.copyOf(storeIdsByProductId.keySet());
+    }
+
+    @Override
+    public List<String> suggest(String storeId, String prefix, int limit) {
+        StoreTitleTrie trie = stores.get(storeId);
+        return trie == null ? List.of() : trie.suggest(prefix, limit);
+    }
+
+    private void put(String productId, String storeId, String title) {
+        if (productId == null || storeId == null) {
+            return;
+        }
+
+        String previousStoreId = storeIdsByProductId.put(productId, storeId);
+        if (previousStoreId != null && !previousStoreId.equals(storeId)) {
+            storeTrie(previousStoreId).remove(productId);
+        }
+        storeTrie(storeId).put(productId, title);
+    }
+
+    private StoreTitleTrie storeTrie(String storeId) {
+        return stores.computeIfAbsent(storeId, id -> new StoreTitleTrie(searchProperties.maxSuggestions()));
+    }
+}
@@ -0,0 +1,37 @@
+package com.elyashevich.core.infrastructure.search;
+
+import java.util.Arrays;
+
+final class Postings {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    int[] docs = new int[INITIAL_CAPACITY];
+    int[] freqs = new int[INITIAL_CAPACITY];
+    int size;
+    int live;
+
+    void add(int doc, int freq) {
+        if (size == docs.length) {
+            docs = Arrays.copyOf(docs, size * 2);
+            freqs = Arrays.copyOf(freqs, size * 2);
+        }
+        docs[size] = doc;
+        freqs[size] = freq;
+        size++;
+        live++;
+    }
+
+    void remap(int[] newDocIds) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            int doc = newDocIds[docs[i]];
+            if (doc >= 0) {
+                docs[kept] = doc;
+                freqs[kept] = freqs[i];
+                kept++;
+            }
+        }
+        size = kept;
+    }
+}
@@ -0,0 +1,98 @@
+package com.elyashevich.core.infrastructure.search;
+
+import com.elyashevich.core.application.port.out.ProductFacetIndex;
+import com.elyashevich.core.application.port.out.ProductSearchIndex;
+import com.elyashevich.core.application.port.out.ProductSuggestionIndex;
+import com.elyashevich.core.domain.model.Product;
+import com.elyashevich.core.infrastructure.config.SearchProperties;
+import com.elyashevich.core.infrastructure.persistance.entity.ProductMongoEntity;
+import com.elyashevich.core.infrastructure.persistance.mapper.EntityMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductIndexRebuilder {
+
+    private static final String TITLE_FIELD = "title";
+    private static final String DESCRIPTION_FIELD = "description";
+    private static final String PRICE_FIELD = "price";
+    private static final String STORE_ID_FIELD = "storeId";
+    private static final String CATEGORY_ID_FIELD = "categoryId";
+    private static final String COLOR_ID_FIELD = "colorId";
+    private static final String UPDATED_AT_FIELD = "updatedAt";
+    private static final String IMAGES_FIELD = "images";
+
+    private final MongoTemplate mongoTemplate;
+    private final EntityMapper<Product, ProductMongoEntity> productMapper;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductSuggestionIndex productSuggestionIndex;
+    private final ProductFacetIndex productFacetIndex;
+    private final SearchProperties searchProperties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (!searchProperties.rebuildOnStartup()) {
+            log.info("Skipping product index rebuild on startup, indexes fill as products change");
+            return;
+        }
+        try {
+            rebuild();
+        } catch (DataAccessException e) {
+            log.warn("Could not build product indexes on startup, indexes fill as products change", e);
+        }
+    }
+
+    public void rebuild() {
+        log.info("Building product search, suggestion and facet indexes");
+
+        Query query = new Query();
+        query.fields()
+                .include(TITLE_FIELD, DESCRIPTION_FIELD, PRICE_FIELD, STORE_ID_FIELD,
+                        CATEGORY_ID_FIELD, COLOR_ID_FIELD, UPDATED_AT_FIELD)
+                .slice(IMAGES_FIELD, 1);
+
+        Set<String> searchIds = productSearchIndex.productIds();
+        Set<String> suggestionIds = productSuggestionIndex.productIds();
+        Set<String> facetIds = productFacetIndex.productIds();
+
+        Set<String> seen = new HashSet<>();
+        try (Stream<ProductMongoEntity> entities = mongoTemplate.stream(query, ProductMongoEntity.class)) {
+            entities.map(productMapper::toDomain).forEach(product -> {
+                productSearchIndex.index(product);
+                productSuggestionIndex.index(product);
+                productFacetIndex.index(product);
+                seen.add(product.getId());
+            });
+        }
+
+        int removed = prune(searchIds, seen, productSearchIndex::remove)
+                + prune(suggestionIds, seen, productSuggestionIndex::remove)
+                + prune(facetIds, seen, productFacetIndex::remove);
+
+        log.info("Indexed {} products, removed {} stale index entries", seen.size(), removed);
+    }
+
+    private static int prune(Set<String> indexed, Set<String> seen, Consumer<String> remove) {
+        int removed = 0;
+        for (String productId : indexed) {
+            if (!seen.contains(productId)) {
+                remove.accept(productId);
+                removed++;
+            }
+        }
+        return removed;
+    }
+}
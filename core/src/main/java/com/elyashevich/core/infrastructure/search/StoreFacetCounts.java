@@ -0,0 +1,133 @@
+package com.elyashevich.core.infrastructure.search;
+
+import com.elyashevich.core.domain.model.PriceBucket;
+import com.elyashevich.core.domain.model.ProductFacets;
+import com.elyashevich.core.domain.model.ProductFilter;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+final class StoreFacetCounts {
+
+    private static final int NO_PRICE = -1;
+
+    private final List<BigDecimal> bounds;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, FacetKey> keysByProductId = new HashMap<>();
+    private final Map<FacetKey, Counter> counters = new HashMap<>();
+
+    StoreFacetCounts(List<BigDecimal> bounds) {
+        this.bounds = bounds;
+    }
+
+    void put(String productId, String categoryId, String colorId, BigDecimal price) {
+        FacetKey key = new FacetKey(categoryId, colorId, price == null ? null : price.stripTrailingZeros());
+
+        lock.writeLock().lock();
+        try {
+            FacetKey previous = keysByProductId.get(productId);
+            if (key.equals(previous)) {
+                return;
+            }
+            if (previous != null) {
+                decrement(previous);
+            }
+            Counter counter = counters.computeIfAbsent(key, k -> new Counter(k, bucketOf(k.price())));
+            counter.count++;
+            keysByProductId.put(productId, counter.key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(String productId) {
+        lock.writeLock().lock();
+        try {
+            FacetKey previous = keysByProductId.remove(productId);
+            if (previous != null) {
+                decrement(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    ProductFacets facets(ProductFilter filter) {
+        Map<String, Long> categories = new TreeMap<>();
+        Map<String, Long> colors = new TreeMap<>();
+        long[] prices = new long[bounds.size() + 1];
+
+        lock.readLock().lock();
+        try {
+            for (Counter counter : counters.values()) {
+                FacetKey key = counter.key;
+                boolean categoryMatches = filter.categoryId() == null || filter.categoryId().equals(key.categoryId());
+                boolean colorMatches = filter.colorId() == null || filter.colorId().equals(key.colorId());
+                boolean priceMatches = filter.matchesPrice(key.price());
+
+                if (colorMatches && priceMatches && key.categoryId() != null) {
+                    categories.merge(key.categoryId(), (long) counter.count, Long::sum);
+                }
+                if (categoryMatches && priceMatches && key.colorId() != null) {
+                    colors.merge(key.colorId(), (long) counter.count, Long::sum);
+                }
+                if (categoryMatches && colorMatches && counter.bucket != NO_PRICE) {
+                    prices[counter.bucket] += counter.count;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<PriceBucket> priceBuckets = new ArrayList<>(prices.length);
+        for (int bucket = 0; bucket < prices.length; bucket++) {
+            priceBuckets.add(new PriceBucket(lowerBound(bucket), upperBound(bucket), prices[bucket]));
+        }
+        return new ProductFacets(categories, colors, priceBuckets);
+    }
+
+    private void decrement(FacetKey key) {
+        Counter counter = counters.get(key);
+        if (counter != null && --counter.count <= 0) {
+            counters.remove(key);
+        }
+    }
+
+    private int bucketOf(BigDecimal price) {
+        if (price == null) {
+            return NO_PRICE;
+        }
+        int index = Collections.binarySearch(bounds, price);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    private BigDecimal lowerBound(int bucket) {
+        return bucket == 0 ? BigDecimal.ZERO : bounds.get(bucket - 1);
+    }
+
+    private BigDecimal upperBound(int bucket) {
+        return bucket < bounds.size() ? bounds.get(bucket) : null;
+    }
+
+    private record FacetKey(String categoryId, String colorId, BigDecimal price) {
+    }
+
+    private static final class Counter {
+
+        private final FacetKey key;
+        private final int bucket;
+        private int count;
+
+        Counter(FacetKey key, int bucket) {
+            this.key = key;
+            this.bucket = bucket;
+        }
+    }
+}
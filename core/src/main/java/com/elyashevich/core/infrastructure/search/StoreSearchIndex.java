@@ -0,0 +1,224 @@
+package com.elyashevich.core.infrastructure.search;
+
+import com.elyashevich.core.domain.model.Product;
+import com.elyashevich.core.domain.model.ProductSummary;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+final class StoreSearchIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int TITLE_WEIGHT = 2;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MIN_DOCS_TO_COMPACT = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<String, Integer> docsByProductId = new HashMap<>();
+
+    private ProductSummary[] summaries = new ProductSummary[INITIAL_CAPACITY];
+    private int[] lengths = new int[INITIAL_CAPACITY];
+    private Postings[][] termsByDoc = new Postings[INITIAL_CAPACITY][];
+    private int docCount;
+    private int liveCount;
+    private long totalLength;
+
+    void put(Product product) {
+        Map<String, Integer> termFrequencies = termFrequencies(product);
+
+        lock.writeLock().lock();
+        try {
+            Integer existing = docsByProductId.get(product.getId());
+            if (existing != null) {
+                if (isNewer(summaries[existing], product)) {
+                    return;
+                }
+                removeDoc(existing);
+                compactIfNeeded();
+            }
+
+            int doc = docCount++;
+            ensureCapacity(docCount);
+
+            int length = 0;
+            Postings[] docTerms = new Postings[termFrequencies.size()];
+            int term = 0;
+            for (Map.Entry<String, Integer> entry : termFrequencies.entrySet()) {
+                Postings termPostings = postings.computeIfAbsent(entry.getKey(), ignored -> new Postings());
+                termPostings.add(doc, entry.getValue());
+                docTerms[term++] = termPostings;
+                length += entry.getValue();
+            }
+
+            summaries[doc] = toSummary(product);
+            lengths[doc] = length;
+            termsByDoc[doc] = docTerms;
+            docsByProductId.put(product.getId(), doc);
+            liveCount++;
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(String productId) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docsByProductId.remove(productId);
+            if (doc != null) {
+                removeDoc(doc);
+                compactIfNeeded();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    List<ProductSummary> search(String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>(Tokenizer.tokenize(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (liveCount == 0) {
+                return List.of();
+            }
+
+            float averageLength = (float) totalLength / liveCount;
+            Map<Integer, Float> scores = new HashMap<>();
+
+            for (String term : terms) {
+                Postings termPostings = postings.get(term);
+                if (termPostings != null && termPostings.live > 0) {
+                    accumulate(termPostings, averageLength, scores);
+                }
+            }
+
+            return topResults(scores, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void accumulate(Postings termPostings, float averageLength, Map<Integer, Float> scores) {
+        int documentFrequency = termPostings.live;
+        float idf = (float) Math.log(1 + (liveCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+
+        for (int i = 0; i < termPostings.size; i++) {
+            int doc = termPostings.docs[i];
+            if (summaries[doc] == null) {
+                continue;
+            }
+            int tf = termPostings.freqs[i];
+            float norm = K1 * (1 - B + B * lengths[doc] / averageLength);
+            scores.merge(doc, idf * tf * (K1 + 1) / (tf + norm), Float::sum);
+        }
+    }
+
+    private List<ProductSummary> topResults(Map<Integer, Float> scores, int limit) {
+        PriorityQueue<Map.Entry<Integer, Float>> top = new PriorityQueue<>(limit + 1, (left, right) -> {
+            int byScore = Float.compare(left.getValue(), right.getValue());
+            return byScore != 0 ? byScore : Integer.compare(right.getKey(), left.getKey());
+        });
+        for (Map.Entry<Integer, Float> score : scores.entrySet()) {
+            top.offer(score);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        ProductSummary[] results = new ProductSummary[top.size()];
+        for (int i = results.length - 1; i >= 0; i--) {
+            results[i] = summaries[top.poll().getKey()];
+        }
+        return List.of(results);
+    }
+
+    private void removeDoc(int doc) {
+        for (Postings termPostings : termsByDoc[doc]) {
+            termPostings.live--;
+        }
+        totalLength -= lengths[doc];
+        summaries[doc] = null;
+        termsByDoc[doc] = null;
+        liveCount--;
+    }
+
+    private void compactIfNeeded() {
+        int deleted = docCount - liveCount;
+        if (docCount < MIN_DOCS_TO_COMPACT || deleted < liveCount) {
+            return;
+        }
+
+        int[] newDocIds = new int[docCount];
+        int next = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            if (summaries[doc] == null) {
+                newDocIds[doc] = -1;
+            } else {
+                newDocIds[doc] = next;
+                summaries[next] = summaries[doc];
+                lengths[next] = lengths[doc];
+                termsByDoc[next] = termsByDoc[doc];
+                docsByProductId.put(summaries[next].id(), next);
+                next++;
+            }
+        }
+        Arrays.fill(summaries, next, docCount, null);
+        Arrays.fill(termsByDoc, next, docCount, null);
+        docCount = next;
+
+        Iterator<Postings> iterator = postings.values().iterator();
+        while (iterator.hasNext()) {
+            Postings termPostings = iterator.next();
+            termPostings.remap(newDocIds);
+            if (termPostings.size == 0) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > summaries.length) {
+            int newLength = Math.max(capacity, summaries.length * 2);
+            summaries = Arrays.copyOf(summaries, newLength);
+            lengths = Arrays.copyOf(lengths, newLength);
+            termsByDoc = Arrays.copyOf(termsByDoc, newLength);
+        }
+    }
+
+    private static boolean isNewer(ProductSummary indexed, Product product) {
+        return indexed.updatedAt() != null
+                && product.getUpdatedAt() != null
+                && indexed.updatedAt().isAfter(product.getUpdatedAt());
+    }
+
+    private static Map<String, Integer> termFrequencies(Product product) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : Tokenizer.tokenize(product.getTitle())) {
+            frequencies.merge(token, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String token : Tokenizer.tokenize(product.getDescription())) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        return frequencies;
+    }
+
+    private static ProductSummary toSummary(Product product) {
+        List<String> images = product.getImages();
+        String image = images == null || images.isEmpty() ? null : images.get(0);
+        return new ProductSummary(product.getId(), product.getTitle(), product.getPrice(), image, product.getUpdatedAt());
+    }
+}
@@ -0,0 +1,216 @@
+package com.elyashevich.core.infrastructure.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+final class StoreTitleTrie {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Comparator<Node> BY_PRODUCT_COUNT = Comparator.comparingInt((Node node) -> node.count)
+            .reversed()
+            .thenComparing(node -> node.normalized);
+
+    private final int topK;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node();
+    private final Map<String, String> titlesByProductId = new HashMap<>();
+
+    StoreTitleTrie(int topK) {
+        this.topK = topK;
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String withoutDiacritics = DIACRITICS.matcher(decomposed).replaceAll("");
+        return SEPARATORS.matcher(withoutDiacritics.toLowerCase(Locale.ROOT)).replaceAll(" ").strip();
+    }
+
+    void put(String productId, String title) {
+        String normalized = normalize(title);
+
+        lock.writeLock().lock();
+        try {
+            String previous = titlesByProductId.put(productId, title);
+            if (previous != null) {
+                String previousNormalized = normalize(previous);
+                if (previousNormalized.equals(normalized)) {
+                    redisplay(normalized, title);
+                    return;
+                }
+                adjust(previousNormalized, null, -1);
+            }
+            if (!normalized.isEmpty()) {
+                adjust(normalized, title, 1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(String productId) {
+        lock.writeLock().lock();
+        try {
+            String previous = titlesByProductId.remove(productId);
+            if (previous != null) {
+                adjust(normalize(previous), null, -1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    List<String> suggest(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < normalized.length() && node != null; i++) {
+                node = node.child(normalized.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+
+            int size = Math.min(limit, node.top.length);
+            List<String> suggestions = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                suggestions.add(node.top[i].display);
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void adjust(String normalized, String display, int delta) {
+        if (normalized.isEmpty()) {
+            return;
+        }
+
+        Node[] path = new Node[normalized.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < normalized.length(); i++) {
+            Node next = path[i].child(normalized.charAt(i));
+            if (next == null) {
+                if (delta < 0) {
+                    return;
+                }
+                next = path[i].addChild(normalized.charAt(i));
+            }
+            path[i + 1] = next;
+        }
+
+        Node terminal = path[normalized.length()];
+        terminal.count = Math.max(0, terminal.count + delta);
+        terminal.normalized = normalized;
+        if (display != null) {
+            terminal.display = display;
+        }
+
+        for (int i = path.length - 1; i >= 0; i--) {
+            recomputeTop(path[i]);
+        }
+        prune(path, normalized);
+    }
+
+    private void redisplay(String normalized, String display) {
+        Node node = root;
+        for (int i = 0; i < normalized.length() && node != null; i++) {
+            node = node.child(normalized.charAt(i));
+        }
+        if (node != null && node.count > 0) {
+            node.display = display;
+        }
+    }
+
+    private void recomputeTop(Node node) {
+        List<Node> candidates = new ArrayList<>();
+        if (node.count > 0) {
+            candidates.add(node);
+        }
+        for (Node child : node.children) {
+            candidates.addAll(Arrays.asList(child.top));
+        }
+        candidates.sort(BY_PRODUCT_COUNT);
+        node.top = candidates.subList(0, Math.min(topK, candidates.size())).toArray(Node[]::new);
+    }
+
+    private void prune(Node[] path, String normalized) {
+        for (int i = normalized.length(); i > 0; i--) {
+            Node node = path[i];
+            if (node.count > 0 || node.children.length > 0) {
+                return;
+            }
+            path[i - 1].removeChild(normalized.charAt(i - 1));
+        }
+    }
+
+    private static final class Node {
+
+        private static final Node[] NO_NODES = new Node[0];
+
+        private char[] keys = new char[0];
+        private Node[] children = NO_NODES;
+        private Node[] top = NO_NODES;
+        private int count;
+        private String normalized;
+        private String display;
+
+        Node child(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node addChild(char key) {
+            int insertAt = -Arrays.binarySearch(keys, key) - 1;
+            Node node = new Node();
+
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newKeys[insertAt] = key;
+            newChildren[insertAt] = node;
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+
+            keys = newKeys;
+            children = newChildren;
+            return node;
+        }
+
+        void removeChild(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            if (index < 0) {
+                return;
+            }
+
+            char[] newKeys = new char[keys.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(keys, index + 1, newKeys, index, keys.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+
+            keys = newKeys;
+            children = newChildren;
+        }
+    }
+}
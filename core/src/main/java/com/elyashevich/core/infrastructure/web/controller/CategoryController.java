@@ -3,9 +3,12 @@ package com.elyashevich.core.infrastructure.web.controller;
 import com.elyashevich.core.application.port.in.CategoryService;
 import com.elyashevich.core.domain.model.Category;
 import com.elyashevich.core.infrastructure.web.dto.category.CategoryRequestDto;
+import com.elyashevich.core.infrastructure.web.etag.EntityTags;
 import com.elyashevich.core.infrastructure.web.mapper.CategoryMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,10 +19,12 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/v1/categories")
 @RequiredArgsConstructor
 public class CategoryController {
@@ -28,13 +33,25 @@ public class CategoryController {
     private final CategoryMapper categoryMapper;
 
     @GetMapping("/store/{id}")
-    public List<Category> findCategoriesByStoreId(@PathVariable String id) {
-        return categoryService.findByStoreId(id);
+    public List<Category> findCategoriesByStoreId(@PathVariable String id, WebRequest request) {
+        List<Category> categories = categoryService.findByStoreId(id);
+        String etag = EntityTags.ofAll(categories, Category::getId, Category::getUpdatedAt);
+        return request.checkNotModified(etag) ? null : categories;
     }
 
     @GetMapping("/{id}")
-    public Category findCategoryById(@PathVariable String id) {
-        return categoryService.findById(id);
+    public Category findCategoryById(@PathVariable String id, WebRequest request) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            String etag = EntityTags.of(id, categoryService.findUpdatedAtById(id));
+            if (request.checkNotModified(etag)) {
+                return null;
+            }
+            return categoryService.findById(id);
+        }
+
+        Category category = categoryService.findById(id);
+        request.checkNotModified(EntityTags.of(category.getId(), category.getUpdatedAt()));
+        return category;
     }
 
     @PostMapping("/{storeId}")
@@ -49,6 +66,7 @@ public class CategoryController {
     @ResponseStatus(HttpStatus.CREATED)
     public Category updateCategory(@PathVariable String id, @Valid @RequestBody CategoryRequestDto dto) {
         Category category = categoryMapper.toModel(dto);
+        category.setVersion(dto.version());
         return categoryService.update(id, category);
     }
 
@@ -3,9 +3,12 @@ package com.elyashevich.core.infrastructure.web.controller;
 import com.elyashevich.core.application.port.in.ColorService;
 import com.elyashevich.core.domain.model.Color;
 import com.elyashevich.core.infrastructure.web.dto.color.ColorRequestDto;
+import com.elyashevich.core.infrastructure.web.etag.EntityTags;
 import com.elyashevich.core.infrastructure.web.mapper.ColorMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,10 +19,12 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/v1/colors")
 @RequiredArgsConstructor
 public class ColorController {
@@ -28,13 +33,25 @@ public class ColorController {
     private final ColorMapper colorMapper;
 
     @GetMapping("/store/{id}")
-    public List<Color> findAllByStoreId(@PathVariable String id) {
-        return colorService.findByStoreId(id);
+    public List<Color> findAllByStoreId(@PathVariable String id, WebRequest request) {
+        List<Color> colors = colorService.findByStoreId(id);
+        String etag = EntityTags.ofAll(colors, Color::getId, Color::getUpdatedAt);
+        return request.checkNotModified(etag) ? null : colors;
     }
 
     @GetMapping("/{id}")
-    public Color findById(@PathVariable String id) {
-        return colorService.findById(id);
+    public Color findById(@PathVariable String id, WebRequest request) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            String etag = EntityTags.of(id, colorService.findUpdatedAtById(id));
+            if (request.checkNotModified(etag)) {
+                return null;
+            }
+            return colorService.findById(id);
+        }
+
+        Color color = colorService.findById(id);
+        request.checkNotModified(EntityTags.of(color.getId(), color.getUpdatedAt()));
+        return color;
     }
 
     @PostMapping("/{id}")
@@ -49,6 +66,7 @@ public class ColorController {
     @ResponseStatus(HttpStatus.CREATED)
     public Color update(@PathVariable String id, @Valid @RequestBody ColorRequestDto dto) {
         Color color = colorMapper.toModel(dto);
+        color.setVersion(dto.version());
         return colorService.update(id, color);
     }
 
@@ -1,12 +1,28 @@
 package com.elyashevich.core.infrastructure.web.controller;
 
 import com.elyashevich.core.application.port.in.ProductService;
+import com.elyashevich.core.domain.model.BulkResult;
+import com.elyashevich.core.domain.model.CursorPage;
+import com.elyashevich.core.domain.model.FilteredProducts;
+import com.elyashevich.core.domain.model.PriceOrder;
 import com.elyashevich.core.domain.model.Product;
+import com.elyashevich.core.domain.model.ProductFilter;
+import com.elyashevich.core.domain.model.ProductSummary;
+import com.elyashevich.core.infrastructure.config.PaginationProperties;
+import com.elyashevich.core.infrastructure.config.SearchProperties;
+import com.elyashevich.core.infrastructure.web.dto.product.ProductBulkRequestDto;
 import com.elyashevich.core.infrastructure.web.dto.product.ProductRequestDto;
+import com.elyashevich.core.infrastructure.web.etag.EntityTags;
 import com.elyashevich.core.infrastructure.web.mapper.ProductMapper;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -14,37 +30,189 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.math.BigDecimal;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/v1/products")
 @RequiredArgsConstructor
 public class ProductController {
 
+    private static final String SUMMARY_VIEW = "view=summary";
+
     private final ProductService productService;
     private final ProductMapper productMapper;
+    private final PaginationProperties paginationProperties;
+    private final SearchProperties searchProperties;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
-    public List<Product> findAll() {
-        return productService.findAll();
+    public CursorPage<Product> findAll(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest request
+    ) {
+        CursorPage<Product> page = productService.findAll(cursor, paginationProperties.resolveSize(size));
+        return notModifiedOrPage(page, request);
     }
 
     @GetMapping("/store/{id}")
-    public List<Product> findAllByStoreId(@PathVariable String id) {
-        return productService.findByStoreId(id);
+    public CursorPage<Product> findAllByStoreId(
+            @PathVariable String id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest request
+    ) {
+        CursorPage<Product> page = productService.findByStoreId(id, cursor, paginationProperties.resolveSize(size));
+        return notModifiedOrPage(page, request);
+    }
+
+    @GetMapping(params = SUMMARY_VIEW)
+    public CursorPage<ProductSummary> findAllSummaries(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest request
+    ) {
+        CursorPage<ProductSummary> page = productService.findAllSummaries(cursor, paginationProperties.resolveSize(size));
+        return notModifiedOrSummaryPage(page, request);
+    }
+
+    @GetMapping(value = "/store/{id}", params = SUMMARY_VIEW)
+    public CursorPage<ProductSummary> findSummariesByStoreId(
+            @PathVariable String id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest request
+    ) {
+        CursorPage<ProductSummary> page =
+                productService.findSummariesByStoreId(id, cursor, paginationProperties.resolveSize(size));
+        return notModifiedOrSummaryPage(page, request);
+    }
+
+    @GetMapping(value = "/category/{id}", params = SUMMARY_VIEW)
+    public CursorPage<ProductSummary> findSummariesByCategoryId(
+            @PathVariable String id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest request
+    ) {
+        CursorPage<ProductSummary> page =
+                productService.findSummariesByCategoryId(id, cursor, paginationProperties.resolveSize(size));
+        return notModifiedOrSummaryPage(page, request);
+    }
+
+    @GetMapping("/store/{id}/by-price")
+    public CursorPage<ProductSummary> findSummariesByStoreIdOrderByPrice(
+            @PathVariable String id,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(defaultValue = "ASC") PriceOrder order,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest request
+    ) {
+        CursorPage<ProductSummary> page = productService.findSummariesByStoreIdOrderByPrice(
+                id, minPrice, maxPrice, order, cursor, paginationProperties.resolveSize(size)
+        );
+        return notModifiedOrSummaryPage(page, request);
+    }
+
+    @GetMapping("/category/{id}/by-price")
+    public CursorPage<ProductSummary> findSummariesByCategoryIdOrderByPrice(
+            @PathVariable String id,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(defaultValue = "ASC") PriceOrder order,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest request
+    ) {
+        CursorPage<ProductSummary> page = productService.findSummariesByCategoryIdOrderByPrice(
+                id, minPrice, maxPrice, order, cursor, paginationProperties.resolveSize(size)
+        );
+        return notModifiedOrSummaryPage(page, request);
+    }
+
+    @GetMapping("/store/{id}/filter")
+    public FilteredProducts filter(
+            @PathVariable String id,
+            @RequestParam(required = false) String categoryId,
+            @RequestParam(required = false) String colorId,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        ProductFilter filter = new ProductFilter(categoryId, colorId, minPrice, maxPrice);
+        return productService.filter(id, filter, cursor, paginationProperties.resolveSize(size));
+    }
+
+    @GetMapping("/store/{id}/search")
+    public List<ProductSummary> search(
+            @PathVariable String id,
+            @RequestParam String q,
+            @RequestParam(required = false) Integer size
+    ) {
+        return productService.search(id, q, paginationProperties.resolveSize(size));
+    }
+
+    @GetMapping("/store/{id}/suggest")
+    public List<String> suggest(
+            @PathVariable String id,
+            @RequestParam String prefix,
+            @RequestParam(required = false) Integer size
+    ) {
+        return productService.suggest(id, prefix, searchProperties.resolveSuggestions(size));
+    }
+
+    @GetMapping(value = "/store/{id}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody streamAllByStoreId(@PathVariable String id) {
+        ObjectWriter writer = objectMapper.writerFor(Product.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return outputStream -> {
+            try (Stream<Product> products = productService.streamByStoreId(id)) {
+                Iterator<Product> iterator = products.iterator();
+                while (iterator.hasNext()) {
+                    writer.writeValue(outputStream, iterator.next());
+                    outputStream.write('\n');
+                }
+            }
+        };
     }
 
     @GetMapping("/category/{id}")
-    public List<Product> findAllByCategoryId(@PathVariable String id) {
-        return productService.findByCategoryId(id);
+    public CursorPage<Product> findAllByCategoryId(
+            @PathVariable String id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest request
+    ) {
+        CursorPage<Product> page = productService.findByCategoryId(id, cursor, paginationProperties.resolveSize(size));
+        return notModifiedOrPage(page, request);
     }
 
     @GetMapping("/{id}")
-    public Product findById(@PathVariable String id) {
-        return productService.findById(id);
+    public Product findById(@PathVariable String id, WebRequest request) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            String etag = EntityTags.of(id, productService.findUpdatedAtById(id));
+            if (request.checkNotModified(etag)) {
+                return null;
+            }
+            return productService.findById(id);
+        }
+
+        Product product = productService.findById(id);
+        request.checkNotModified(EntityTags.of(product.getId(), product.getUpdatedAt()));
+        return product;
     }
 
     @PostMapping("/{storeId}")
@@ -55,10 +223,21 @@ public class ProductController {
         return productService.create(product);
     }
 
+    @PostMapping("/{storeId}/bulk")
+    @ResponseStatus(HttpStatus.CREATED)
+    public BulkResult<Product> saveAll(@PathVariable String storeId, @Valid @RequestBody ProductBulkRequestDto dto) {
+        List<Product> products = dto.products().stream()
+                .map(productMapper::toModel)
+                .toList();
+        products.forEach(product -> product.setStoreId(storeId));
+        return productService.createAll(products);
+    }
+
     @PutMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public Product update(@PathVariable String id, @Valid @RequestBody ProductRequestDto dto) {
         Product product = productMapper.toModel(dto);
+        product.setVersion(dto.version());
         return productService.update(id, product);
     }
 
@@ -67,4 +246,14 @@ public class ProductController {
     public void delete(@PathVariable String id) {
         productService.delete(id);
     }
+
+    private CursorPage<Product> notModifiedOrPage(CursorPage<Product> page, WebRequest request) {
+        String etag = EntityTags.ofPage(page, Product::getId, Product::getUpdatedAt);
+        return request.checkNotModified(etag) ? null : page;
+    }
+
+    private CursorPage<ProductSummary> notModifiedOrSummaryPage(CursorPage<ProductSummary> page, WebRequest request) {
+        String etag = EntityTags.ofPage(page, ProductSummary::id, ProductSummary::updatedAt);
+        return request.checkNotModified(etag) ? null : page;
+    }
 }
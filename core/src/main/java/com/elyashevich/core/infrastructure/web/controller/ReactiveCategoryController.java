@@ -0,0 +1,84 @@
+package com.elyashevich.core.infrastructure.web.controller;
+
+import com.elyashevich.core.application.port.in.CategoryService;
+import com.elyashevich.core.domain.model.Category;
+import com.elyashevich.core.infrastructure.web.dto.category.CategoryRequestDto;
+import com.elyashevich.core.infrastructure.web.etag.EntityTags;
+import com.elyashevich.core.infrastructure.web.mapper.CategoryMapper;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/v1/categories")
+@RequiredArgsConstructor
+public class ReactiveCategoryController {
+
+    private final CategoryService categoryService;
+    private final CategoryMapper categoryMapper;
+
+    @GetMapping("/store/{id}")
+    public Mono<List<Category>> findAllByStoreId(@PathVariable String id, ServerWebExchange exchange) {
+        return blocking(() -> categoryService.findByStoreId(id))
+                .filter(categories -> !exchange.checkNotModified(EntityTags.ofAll(categories, Category::getId, Category::getUpdatedAt)));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<Category> findById(@PathVariable String id, ServerWebExchange exchange) {
+        if (exchange.getRequest().getHeaders().containsKey(HttpHeaders.IF_NONE_MATCH)) {
+            return blocking(() -> categoryService.findUpdatedAtById(id))
+                    .filter(updatedAt -> !exchange.checkNotModified(EntityTags.of(id, updatedAt)))
+                    .flatMap(updatedAt -> blocking(() -> categoryService.findById(id)));
+        }
+
+        return blocking(() -> categoryService.findById(id))
+                .doOnNext(category -> exchange.checkNotModified(EntityTags.of(category.getId(), category.getUpdatedAt())));
+    }
+
+    @PostMapping("/{storeId}")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<Category> create(@PathVariable String storeId, @Valid @RequestBody CategoryRequestDto dto) {
+        Category category = categoryMapper.toModel(dto);
+        category.setStoreId(storeId);
+        return blocking(() -> categoryService.create(category));
+    }
+
+    @PutMapping("/{id}")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<Category> update(@PathVariable String id, @Valid @RequestBody CategoryRequestDto dto) {
+        Category category = categoryMapper.toModel(dto);
+        category.setVersion(dto.version());
+        return blocking(() -> categoryService.update(id, category));
+    }
+
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> delete(@PathVariable String id) {
+        return blocking(() -> {
+            categoryService.delete(id);
+            return null;
+        }).then();
+    }
+
+    private static <T> Mono<T> blocking(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(Schedulers.boundedElastic());
+    }
+}
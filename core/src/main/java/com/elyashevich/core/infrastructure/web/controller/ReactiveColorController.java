@@ -0,0 +1,84 @@
+package com.elyashevich.core.infrastructure.web.controller;
+
+import com.elyashevich.core.application.port.in.ColorService;
+import com.elyashevich.core.domain.model.Color;
+import com.elyashevich.core.infrastructure.web.dto.color.ColorRequestDto;
+import com.elyashevich.core.infrastructure.web.etag.EntityTags;
+import com.elyashevich.core.infrastructure.web.mapper.ColorMapper;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/v1/colors")
+@RequiredArgsConstructor
+public class ReactiveColorController {
+
+    private final ColorService colorService;
+    private final ColorMapper colorMapper;
+
+    @GetMapping("/store/{id}")
+    public Mono<List<Color>> findAllByStoreId(@PathVariable String id, ServerWebExchange exchange) {
+        return blocking(() -> colorService.findByStoreId(id))
+                .filter(colors -> !exchange.checkNotModified(EntityTags.ofAll(colors, Color::getId, Color::getUpdatedAt)));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<Color> findById(@PathVariable String id, ServerWebExchange exchange) {
+        if (exchange.getRequest().getHeaders().containsKey(HttpHeaders.IF_NONE_MATCH)) {
+            return blocking(() -> colorService.findUpdatedAtById(id))
+                    .filter(updatedAt -> !exchange.checkNotModified(EntityTags.of(id, updatedAt)))
+                    .flatMap(updatedAt -> blocking(() -> colorService.findById(id)));
+        }
+
+        return blocking(() -> colorService.findById(id))
+                .doOnNext(color -> exchange.checkNotModified(EntityTags.of(color.getId(), color.getUpdatedAt())));
+    }
+
+    @PostMapping("/{storeId}")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<Color> create(@PathVariable String storeId, @Valid @RequestBody ColorRequestDto dto) {
+        Color color = colorMapper.toModel(dto);
+        color.setStoreId(storeId);
+        return blocking(() -> colorService.create(color));
+    }
+
+    @PutMapping("/{id}")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<Color> update(@PathVariable String id, @Valid @RequestBody ColorRequestDto dto) {
+        Color color = colorMapper.toModel(dto);
+        color.setVersion(dto.version());
+        return blocking(() -> colorService.update(id, color));
+    }
+
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> delete(@PathVariable String id) {
+        return blocking(() -> {
+            colorService.delete(id);
+            return null;
+        }).then();
+    }
+
+    private static <T> Mono<T> blocking(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(Schedulers.boundedElastic());
+    }
+}
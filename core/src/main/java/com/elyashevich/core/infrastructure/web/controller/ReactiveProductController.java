@@ -0,0 +1,248 @@
+package com.elyashevich.core.infrastructure.web.controller;
+
+import com.elyashevich.core.application.port.in.ProductService;
+import com.elyashevich.core.application.port.in.ReactiveProductService;
+import com.elyashevich.core.domain.model.BulkResult;
+import com.elyashevich.core.domain.model.CursorPage;
+import com.elyashevich.core.domain.model.FilteredProducts;
+import com.elyashevich.core.domain.model.PriceOrder;
+import com.elyashevich.core.domain.model.Product;
+import com.elyashevich.core.domain.model.ProductFilter;
+import com.elyashevich.core.domain.model.ProductSummary;
+import com.elyashevich.core.infrastructure.config.PaginationProperties;
+import com.elyashevich.core.infrastructure.config.SearchProperties;
+import com.elyashevich.core.infrastructure.web.dto.product.ProductBulkRequestDto;
+import com.elyashevich.core.infrastructure.web.dto.product.ProductRequestDto;
+import com.elyashevich.core.infrastructure.web.etag.EntityTags;
+import com.elyashevich.core.infrastructure.web.mapper.ProductMapper;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/v1/products")
+@RequiredArgsConstructor
+public class ReactiveProductController {
+
+    private static final String SUMMARY_VIEW = "view=summary";
+
+    private final ReactiveProductService reactiveProductService;
+    private final ProductService productService;
+    private final ProductMapper productMapper;
+    private final PaginationProperties paginationProperties;
+    private final SearchProperties searchProperties;
+
+    @GetMapping
+    public Mono<CursorPage<Product>> findAll(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            ServerWebExchange exchange
+    ) {
+        return blocking(() -> productService.findAll(cursor, paginationProperties.resolveSize(size)))
+                .filter(page -> !exchange.checkNotModified(pageTag(page)));
+    }
+
+    @GetMapping("/store/{id}")
+    public Mono<CursorPage<Product>> findAllByStoreId(
+            @PathVariable String id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            ServerWebExchange exchange
+    ) {
+        return reactiveProductService.findByStoreId(id, cursor, paginationProperties.resolveSize(size))
+                .filter(page -> !exchange.checkNotModified(pageTag(page)));
+    }
+
+    @GetMapping(value = "/store/{id}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Product> streamAllByStoreId(@PathVariable String id) {
+        return reactiveProductService.streamByStoreId(id);
+    }
+
+    @GetMapping("/category/{id}")
+    public Mono<CursorPage<Product>> findAllByCategoryId(
+            @PathVariable String id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            ServerWebExchange exchange
+    ) {
+        return reactiveProductService.findByCategoryId(id, cursor, paginationProperties.resolveSize(size))
+                .filter(page -> !exchange.checkNotModified(pageTag(page)));
+    }
+
+    @GetMapping(value = "/category/{id}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Product> streamAllByCategoryId(@PathVariable String id) {
+        return reactiveProductService.streamByCategoryId(id);
+    }
+
+    @GetMapping(params = SUMMARY_VIEW)
+    public Mono<CursorPage<ProductSummary>> findAllSummaries(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            ServerWebExchange exchange
+    ) {
+        return blocking(() -> productService.findAllSummaries(cursor, paginationProperties.resolveSize(size)))
+                .filter(page -> !exchange.checkNotModified(summaryPageTag(page)));
+    }
+
+    @GetMapping(value = "/store/{id}", params = SUMMARY_VIEW)
+    public Mono<CursorPage<ProductSummary>> findSummariesByStoreId(
+            @PathVariable String id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            ServerWebExchange exchange
+    ) {
+        return blocking(() -> productService.findSummariesByStoreId(id, cursor, paginationProperties.resolveSize(size)))
+                .filter(page -> !exchange.checkNotModified(summaryPageTag(page)));
+    }
+
+    @GetMapping(value = "/category/{id}", params = SUMMARY_VIEW)
+    public Mono<CursorPage<ProductSummary>> findSummariesByCategoryId(
+            @PathVariable String id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            ServerWebExchange exchange
+    ) {
+        return blocking(() -> productService.findSummariesByCategoryId(id, cursor, paginationProperties.resolveSize(size)))
+                .filter(page -> !exchange.checkNotModified(summaryPageTag(page)));
+    }
+
+    @GetMapping("/store/{id}/by-price")
+    public Mono<CursorPage<ProductSummary>> findSummariesByStoreIdOrderByPrice(
+            @PathVariable String id,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(defaultValue = "ASC") PriceOrder order,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            ServerWebExchange exchange
+    ) {
+        return blocking(() -> productService.findSummariesByStoreIdOrderByPrice(
+                id, minPrice, maxPrice, order, cursor, paginationProperties.resolveSize(size)
+        )).filter(page -> !exchange.checkNotModified(summaryPageTag(page)));
+    }
+
+    @GetMapping("/category/{id}/by-price")
+    public Mono<CursorPage<ProductSummary>> findSummariesByCategoryIdOrderByPrice(
+            @PathVariable String id,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(defaultValue = "ASC") PriceOrder order,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            ServerWebExchange exchange
+    ) {
+        return blocking(() -> productService.findSummariesByCategoryIdOrderByPrice(
+                id, minPrice, maxPrice, order, cursor, paginationProperties.resolveSize(size)
+        )).filter(page -> !exchange.checkNotModified(summaryPageTag(page)));
+    }
+
+    @GetMapping("/store/{id}/filter")
+    public Mono<FilteredProducts> filter(
+            @PathVariable String id,
+            @RequestParam(required = false) String categoryId,
+            @RequestParam(required = false) String colorId,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        ProductFilter filter = new ProductFilter(categoryId, colorId, minPrice, maxPrice);
+        return blocking(() -> productService.filter(id, filter, cursor, paginationProperties.resolveSize(size)));
+    }
+
+    @GetMapping("/store/{id}/search")
+    public Mono<List<ProductSummary>> search(
+            @PathVariable String id,
+            @RequestParam String q,
+            @RequestParam(required = false) Integer size
+    ) {
+        return blocking(() -> productService.search(id, q, paginationProperties.resolveSize(size)));
+    }
+
+    @GetMapping("/store/{id}/suggest")
+    public Mono<List<String>> suggest(
+            @PathVariable String id,
+            @RequestParam String prefix,
+            @RequestParam(required = false) Integer size
+    ) {
+        return blocking(() -> productService.suggest(id, prefix, searchProperties.resolveSuggestions(size)));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<Product> findById(@PathVariable String id, ServerWebExchange exchange) {
+        if (exchange.getRequest().getHeaders().containsKey(HttpHeaders.IF_NONE_MATCH)) {
+            return reactiveProductService.findUpdatedAtById(id)
+                    .filter(updatedAt -> !exchange.checkNotModified(EntityTags.of(id, updatedAt)))
+                    .flatMap(updatedAt -> reactiveProductService.findById(id));
+        }
+
+        return reactiveProductService.findById(id)
+                .doOnNext(product -> exchange.checkNotModified(EntityTags.of(product.getId(), product.getUpdatedAt())));
+    }
+
+    @PostMapping("/{storeId}")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<Product> save(@PathVariable String storeId, @Valid @RequestBody ProductRequestDto dto) {
+        Product product = productMapper.toModel(dto);
+        product.setStoreId(storeId);
+        return reactiveProductService.create(product);
+    }
+
+    @PostMapping("/{storeId}/bulk")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<BulkResult<Product>> saveAll(@PathVariable String storeId, @Valid @RequestBody ProductBulkRequestDto dto) {
+        List<Product> products = dto.products().stream()
+                .map(productMapper::toModel)
+                .toList();
+        products.forEach(product -> product.setStoreId(storeId));
+        return blocking(() -> productService.createAll(products));
+    }
+
+    @PutMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Product> update(@PathVariable String id, @Valid @RequestBody ProductRequestDto dto) {
+        Product product = productMapper.toModel(dto);
+        product.setVersion(dto.version());
+        return reactiveProductService.update(id, product);
+    }
+
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> delete(@PathVariable String id) {
+        return reactiveProductService.delete(id);
+    }
+
+    private static String pageTag(CursorPage<Product> page) {
+        return EntityTags.ofPage(page, Product::getId, Product::getUpdatedAt);
+    }
+
+    private static String summaryPageTag(CursorPage<ProductSummary> page) {
+        return EntityTags.ofPage(page, ProductSummary::id, ProductSummary::updatedAt);
+    }
+
+    private static <T> Mono<T> blocking(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -1,13 +1,16 @@
 package com.elyashevich.core.infrastructure.web.controller;
 
 import com.elyashevich.core.domain.exception.ResourceAlreadyExistsException;
+import com.elyashevich.core.domain.exception.ResourceConflictException;
 import com.elyashevich.core.domain.exception.ResourceNotFoundException;
+import com.elyashevich.core.domain.exception.ValidationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
 import org.springframework.web.servlet.resource.NoResourceFoundException;
 
 import java.util.HashMap;
@@ -28,6 +31,18 @@ public class RestExceptionHandler {
         return Map.of("message", e.getMessage());
     }
 
+    @ResponseStatus(HttpStatus.CONFLICT)
+    @ExceptionHandler(ResourceConflictException.class)
+    public Map<String, String> handleResourceConflictException(ResourceConflictException e) {
+        return Map.of("message", e.getMessage());
+    }
+
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(ValidationException.class)
+    public Map<String, String> handleValidationException(ValidationException e) {
+        return Map.of("message", e.getMessage());
+    }
+
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public Map<String, String> handleValidationExceptions(
@@ -38,6 +53,15 @@ public class RestExceptionHandler {
         return errors;
     }
 
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(WebExchangeBindException.class)
+    public Map<String, String> handleWebExchangeBindException(WebExchangeBindException e) {
+        Map<String, String> errors = new HashMap<>();
+        e.getBindingResult().getFieldErrors().forEach(error ->
+                errors.put(error.getField(), error.getDefaultMessage()));
+        return errors;
+    }
+
     @ResponseStatus(HttpStatus.METHOD_NOT_ALLOWED)
     @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
     public Map<String, String> handleHttpRequestMethodNotSupportedException(
@@ -10,6 +10,8 @@ public record CategoryRequestDto(
 
         @NotNull(message = "Description is required")
         @NotBlank(message = "Description must be not empty")
-        String description
+        String description,
+
+        Long version
 ) {
 }
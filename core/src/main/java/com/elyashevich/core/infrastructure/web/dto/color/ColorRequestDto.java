@@ -10,6 +10,8 @@ public record ColorRequestDto(
 
         @NotNull(message = "Value is required")
         @NotBlank(message = "Value must be not empty")
-        String value
+        String value,
+
+        Long version
 ) {
 }
@@ -0,0 +1,12 @@
+package com.elyashevich.core.infrastructure.web.dto.product;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+public record ProductBulkRequestDto(
+        @NotEmpty(message = "At least one product is required")
+        List<@Valid ProductRequestDto> products
+) {
+}
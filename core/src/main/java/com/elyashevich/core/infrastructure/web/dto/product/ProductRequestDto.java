@@ -29,6 +29,8 @@ public record ProductRequestDto(
         String categoryId,
 
         @NotBlank(message = "Color ID is required")
-        String colorId
+        String colorId,
+
+        Long version
 ) {
 }
\ No newline at end of file
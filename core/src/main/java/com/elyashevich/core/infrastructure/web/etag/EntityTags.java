@@ -0,0 +1,51 @@
+package com.elyashevich.core.infrastructure.web.etag;
+
+import com.elyashevich.core.domain.model.CursorPage;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.function.Function;
+
+public final class EntityTags {
+
+    private static final char SEPARATOR = ':';
+
+    private EntityTags() {
+    }
+
+    public static String of(String id, LocalDateTime updatedAt) {
+        return quote(id + "-" + Long.toHexString(toMillis(updatedAt)));
+    }
+
+    public static <T> String ofAll(List<T> items, Function<T, String> id, Function<T, LocalDateTime> updatedAt) {
+        return quote(digest(items, id, updatedAt, new StringBuilder()));
+    }
+
+    public static <T> String ofPage(CursorPage<T> page, Function<T, String> id, Function<T, LocalDateTime> updatedAt) {
+        StringBuilder source = new StringBuilder().append(page.next()).append(SEPARATOR);
+        return quote(digest(page.items(), id, updatedAt, source));
+    }
+
+    private static <T> String digest(
+            List<T> items,
+            Function<T, String> id,
+            Function<T, LocalDateTime> updatedAt,
+            StringBuilder source
+    ) {
+        for (T item : items) {
+            source.append(id.apply(item)).append(SEPARATOR).append(toMillis(updatedAt.apply(item))).append(SEPARATOR);
+        }
+        return DigestUtils.md5DigestAsHex(source.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime == null ? 0 : dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static String quote(String value) {
+        return "\"" + value + "\"";
+    }
+}
@@ -1,9 +1,13 @@
 package com.elyashevich.core.application.service;
 
 import com.elyashevich.core.application.port.out.CategoryRepository;
+import com.elyashevich.core.application.port.out.ProductRepository;
 import com.elyashevich.core.domain.exception.ResourceAlreadyExistsException;
+import com.elyashevich.core.domain.exception.ResourceConflictException;
 import com.elyashevich.core.domain.exception.ResourceNotFoundException;
+import com.elyashevich.core.domain.exception.ValidationException;
 import com.elyashevich.core.domain.model.Category;
+import com.elyashevich.core.domain.model.Revision;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,7 +18,9 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -25,7 +31,6 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.any;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -36,6 +41,9 @@ class CategoryServiceImplTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private ProductRepository productRepository;
+
     @InjectMocks
     private CategoryServiceImpl categoryService;
 
@@ -161,17 +169,15 @@ class CategoryServiceImplTest {
             boolean exists,
             boolean shouldThrow
     ) {
-        when(categoryRepository.existsByTitleAndStoreId(
-                inputCategory.getTitle(),
-                inputCategory.getStoreId()
-        )).thenReturn(exists);
-
         if (shouldThrow) {
+            when(categoryRepository.create(any(Category.class)))
+                    .thenThrow(new DuplicateKeyException("E11000 duplicate key error"));
+
             assertThrows(
                     ResourceAlreadyExistsException.class,
                     () -> categoryService.create(inputCategory)
             );
-            verify(categoryRepository, never()).create(any());
+            verify(categoryRepository, never()).existsByTitleAndStoreId(any(), any());
         } else {
             when(categoryRepository.create(any(Category.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
@@ -197,12 +203,20 @@ class CategoryServiceImplTest {
     ) {
         Category existing = createTestCategory(categoryId, "Old Title", "store-1");
         Category updateData = Category.builder()
+                .version(0L)
                 .title(newTitle)
                 .description(newDescription)
                 .build();
+        Category updated = Category.builder()
+                .id(categoryId)
+                .version(1L)
+                .title(newTitle)
+                .description(newDescription)
+                .storeId("store-1")
+                .updatedAt(LocalDateTime.now())
+                .build();
 
-        when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(existing));
-        when(categoryRepository.create(any(Category.class))).thenReturn(existing);
+        when(categoryRepository.update(categoryId, updateData)).thenReturn(Optional.of(new Revision<>(existing, updated)));
 
         Category result = categoryService.update(categoryId, updateData);
 
@@ -211,18 +225,97 @@ class CategoryServiceImplTest {
                 () -> assertEquals(newDescription, result.getDescription()),
                 () -> assertNotNull(result.getUpdatedAt())
         );
+        verify(productRepository).refreshCategorySnapshot(updated);
+    }
+
+    @Test
+    @DisplayName("update should not touch product snapshots when title is unchanged")
+    void update_SameTitle_ShouldNotRefreshProducts() {
+        String categoryId = "category-1";
+        Category existing = createTestCategory(categoryId, "Title", "store-1");
+        Category updateData = Category.builder()
+                .version(0L)
+                .title("Title")
+                .description("Only description changes")
+                .build();
+        Category updated = createTestCategory(categoryId, "Title", "store-1");
+        updated.setDescription("Only description changes");
+
+        when(categoryRepository.update(categoryId, updateData)).thenReturn(Optional.of(new Revision<>(existing, updated)));
+
+        categoryService.update(categoryId, updateData);
+
+        verify(productRepository, never()).refreshCategorySnapshot(any());
     }
 
     @Test
-    @DisplayName("delete should invoke repository delete")
-    void delete_ShouldCallRepository() {
+    @DisplayName("update with a stale version should throw ResourceConflictException")
+    void update_StaleVersion_ShouldThrowConflict() {
+        String categoryId = "category-1";
+        Category updateData = Category.builder()
+                .version(3L)
+                .title("New Title")
+                .build();
+
+        when(categoryRepository.update(categoryId, updateData)).thenReturn(Optional.empty());
+        when(categoryRepository.findUpdatedAtById(categoryId)).thenReturn(Optional.of(LocalDateTime.now()));
+
+        assertThrows(ResourceConflictException.class, () -> categoryService.update(categoryId, updateData));
+        verify(productRepository, never()).refreshCategorySnapshot(any());
+    }
+
+    @Test
+    @DisplayName("update of a missing category should throw ResourceNotFoundException")
+    void update_MissingCategory_ShouldThrowNotFound() {
+        Category updateData = Category.builder()
+                .version(0L)
+                .title("New Title")
+                .build();
+
+        when(categoryRepository.update("missing", updateData)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> categoryService.update("missing", updateData));
+    }
+
+    @Test
+    @DisplayName("update without a version should throw ValidationException")
+    void update_WithoutVersion_ShouldThrowValidation() {
+        Category updateData = Category.builder()
+                .title("New Title")
+                .build();
+
+        assertThrows(ValidationException.class, () -> categoryService.update("category-1", updateData));
+        verify(categoryRepository, never()).update(any(), any());
+    }
+
+    @Test
+    @DisplayName("delete should remove category by id and detach its products")
+    void delete_ShouldDeleteByIdAndDetachProducts() {
         String categoryId = "cat-123";
-        Category existing = createTestCategory(categoryId, "To Delete", "store-1");
 
-        when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(existing));
-        doNothing().when(categoryRepository).delete(existing);
+        when(categoryRepository.deleteById(categoryId)).thenReturn(1L);
+        when(productRepository.detachCategory(categoryId)).thenReturn(3L);
 
         assertDoesNotThrow(() -> categoryService.delete(categoryId));
-        verify(categoryRepository).delete(existing);
+        verify(categoryRepository, never()).findById(any());
+        verify(productRepository).detachCategory(categoryId);
+    }
+
+    @Test
+    @DisplayName("delete should throw when category not found and leave products untouched")
+    void delete_NonExistingCategory_ShouldThrow() {
+        String categoryId = "nonexistent";
+        when(categoryRepository.deleteById(categoryId)).thenReturn(0L);
+
+        ResourceNotFoundException exception = assertThrows(
+                ResourceNotFoundException.class,
+                () -> categoryService.delete(categoryId)
+        );
+
+        assertEquals(
+                String.format(CategoryServiceImpl.CATEGORY_WITH_ID_NOT_FOUND_TEMPLATE, categoryId),
+                exception.getMessage()
+        );
+        verify(productRepository, never()).detachCategory(any());
     }
 }
\ No newline at end of file
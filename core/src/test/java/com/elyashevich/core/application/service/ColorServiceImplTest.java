@@ -1,9 +1,12 @@
 package com.elyashevich.core.application.service;
 
 import com.elyashevich.core.application.port.out.ColorRepository;
+import com.elyashevich.core.application.port.out.ProductRepository;
 import com.elyashevich.core.domain.exception.ResourceAlreadyExistsException;
 import com.elyashevich.core.domain.exception.ResourceNotFoundException;
+import com.elyashevich.core.domain.exception.ValidationException;
 import com.elyashevich.core.domain.model.Color;
+import com.elyashevich.core.domain.model.Revision;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,6 +17,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
 
 import java.util.List;
 import java.util.Optional;
@@ -25,7 +29,6 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.any;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -36,6 +39,9 @@ class ColorServiceImplTest {
     @Mock
     private ColorRepository colorRepository;
 
+    @Mock
+    private ProductRepository productRepository;
+
     @InjectMocks
     private ColorServiceImpl colorService;
 
@@ -185,17 +191,15 @@ class ColorServiceImplTest {
             boolean exists,
             boolean shouldThrow
     ) {
-        when(colorRepository.existsByNameAndStoreId(
-                inputColor.getName(),
-                inputColor.getStoreId()
-        )).thenReturn(exists);
-
         if (shouldThrow) {
+            when(colorRepository.create(any(Color.class)))
+                    .thenThrow(new DuplicateKeyException("E11000 duplicate key error"));
+
             assertThrows(
                     ResourceAlreadyExistsException.class,
                     () -> colorService.create(inputColor)
             );
-            verify(colorRepository, never()).create(any());
+            verify(colorRepository, never()).existsByNameAndStoreId(any(), any());
         } else {
             when(colorRepository.create(any(Color.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
@@ -219,12 +223,19 @@ class ColorServiceImplTest {
     ) {
         Color existing = createTestColor(colorId, "OldName", "#000000", "store-1");
         Color updateData = Color.builder()
+                .version(0L)
                 .name(newName)
                 .value(newValue)
                 .build();
+        Color updated = createTestColor(
+                colorId,
+                newName != null ? newName : existing.getName(),
+                newValue != null ? newValue : existing.getValue(),
+                "store-1"
+        );
+        updated.updateTimestamps();
 
-        when(colorRepository.findById(colorId)).thenReturn(Optional.of(existing));
-        when(colorRepository.create(any(Color.class))).thenReturn(existing);
+        when(colorRepository.update(colorId, updateData)).thenReturn(Optional.of(new Revision<>(existing, updated)));
 
         Color result = colorService.update(colorId, updateData);
 
@@ -233,6 +244,18 @@ class ColorServiceImplTest {
                 () -> assertEquals(newValue != null ? newValue : existing.getValue(), result.getValue()),
                 () -> assertNotNull(result.getUpdatedAt())
         );
+        verify(productRepository).refreshColorSnapshot(updated);
+    }
+
+    @Test
+    @DisplayName("update without a version should throw ValidationException")
+    void update_WithoutVersion_ShouldThrowValidation() {
+        Color updateData = Color.builder()
+                .name("NewName")
+                .build();
+
+        assertThrows(ValidationException.class, () -> colorService.update("color-1", updateData));
+        verify(colorRepository, never()).update(any(), any());
     }
 
     @ParameterizedTest
@@ -243,20 +266,18 @@ class ColorServiceImplTest {
     })
     @DisplayName("delete should invoke repository delete")
     void delete_ShouldCallRepository(String colorId) {
-        Color existing = createTestColor(colorId, "ToDelete", "#000000", "store-1");
-
-        when(colorRepository.findById(colorId)).thenReturn(Optional.of(existing));
-        doNothing().when(colorRepository).delete(existing);
+        when(colorRepository.deleteById(colorId)).thenReturn(1L);
 
         assertDoesNotThrow(() -> colorService.delete(colorId));
-        verify(colorRepository).delete(existing);
+        verify(colorRepository).deleteById(colorId);
+        verify(colorRepository, never()).findById(any());
     }
 
     @Test
     @DisplayName("delete should throw when color not found")
     void delete_NonExistingColor_ShouldThrow() {
         String colorId = "nonexistent";
-        when(colorRepository.findById(colorId)).thenReturn(Optional.empty());
+        when(colorRepository.deleteById(colorId)).thenReturn(0L);
 
         ResourceNotFoundException exception = assertThrows(
                 ResourceNotFoundException.class,
@@ -267,6 +288,6 @@ class ColorServiceImplTest {
                 String.format(ColorServiceImpl.COLOR_WITH_ID_NOT_FOUND_TEMPLATE, colorId),
                 exception.getMessage()
         );
-        verify(colorRepository, never()).delete(any());
+        verify(colorRepository).deleteById(colorId);
     }
 }
\ No newline at end of file
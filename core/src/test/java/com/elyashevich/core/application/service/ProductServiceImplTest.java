@@ -1,8 +1,20 @@
 package com.elyashevich.core.application.service;
 
+import com.elyashevich.core.application.port.out.ProductFacetIndex;
 import com.elyashevich.core.application.port.out.ProductRepository;
+import com.elyashevich.core.application.port.out.ProductSearchIndex;
+import com.elyashevich.core.application.port.out.ProductSuggestionIndex;
+import com.elyashevich.core.domain.exception.ResourceConflictException;
 import com.elyashevich.core.domain.exception.ResourceNotFoundException;
+import com.elyashevich.core.domain.exception.ValidationException;
+import com.elyashevich.core.domain.model.BulkItemError;
+import com.elyashevich.core.domain.model.BulkResult;
+import com.elyashevich.core.domain.model.CursorPage;
+import com.elyashevich.core.domain.model.FilteredProducts;
 import com.elyashevich.core.domain.model.Product;
+import com.elyashevich.core.domain.model.ProductFacets;
+import com.elyashevich.core.domain.model.ProductFilter;
+import com.elyashevich.core.domain.model.ProductSummary;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,7 +27,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -24,17 +38,28 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.any;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class ProductServiceImplTest {
 
+    private static final int PAGE_SIZE = 20;
+
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private ProductSuggestionIndex productSuggestionIndex;
+
+    @Mock
+    private ProductFacetIndex productFacetIndex;
+
     @InjectMocks
     private ProductServiceImpl productService;
 
@@ -152,18 +177,33 @@ class ProductServiceImplTest {
 
     @ParameterizedTest(name = "{0}")
     @MethodSource("provideProducts")
-    @DisplayName("findAll should return all products")
+    @DisplayName("findAll should return a page of products")
     void findAll_ShouldReturnProducts(String description, List<Product> expectedProducts, int expectedSize) {
-        when(productRepository.findAll()).thenReturn(expectedProducts);
+        when(productRepository.findAll(null, PAGE_SIZE)).thenReturn(new CursorPage<>(expectedProducts, null));
 
-        List<Product> result = productService.findAll();
+        CursorPage<Product> result = productService.findAll(null, PAGE_SIZE);
 
-        assertEquals(expectedSize, result.size());
+        assertEquals(expectedSize, result.items().size());
         if (!expectedProducts.isEmpty()) {
-            assertEquals(expectedProducts.get(0).getId(), result.get(0).getId());
+            assertEquals(expectedProducts.get(0).getId(), result.items().get(0).getId());
         }
     }
 
+    @Test
+    @DisplayName("findAll should pass cursor through and return next cursor")
+    void findAll_WithCursor_ShouldReturnNextCursor() {
+        CursorPage<Product> page = new CursorPage<>(
+                List.of(createTestProduct("2", "Product 2", "store-1", "category-1")),
+                "next-cursor"
+        );
+        when(productRepository.findAll("cursor", 1)).thenReturn(page);
+
+        CursorPage<Product> result = productService.findAll("cursor", 1);
+
+        assertEquals("next-cursor", result.next());
+        verify(productRepository).findAll("cursor", 1);
+    }
+
     @ParameterizedTest(name = "{0}")
     @MethodSource("provideProductsByStore")
     @DisplayName("findByStoreId should return products for store")
@@ -173,13 +213,14 @@ class ProductServiceImplTest {
             List<Product> expectedProducts,
             int expectedSize
     ) {
-        when(productRepository.findByStoreId(storeId)).thenReturn(expectedProducts);
+        when(productRepository.findByStoreId(storeId, null, PAGE_SIZE))
+                .thenReturn(new CursorPage<>(expectedProducts, null));
 
-        List<Product> result = productService.findByStoreId(storeId);
+        CursorPage<Product> result = productService.findByStoreId(storeId, null, PAGE_SIZE);
 
-        assertEquals(expectedSize, result.size());
+        assertEquals(expectedSize, result.items().size());
         if (!expectedProducts.isEmpty()) {
-            assertEquals(expectedProducts.get(0).getStoreId(), result.get(0).getStoreId());
+            assertEquals(expectedProducts.get(0).getStoreId(), result.items().get(0).getStoreId());
         }
     }
 
@@ -192,13 +233,28 @@ class ProductServiceImplTest {
             List<Product> expectedProducts,
             int expectedSize
     ) {
-        when(productRepository.findByCategoryId(categoryId)).thenReturn(expectedProducts);
+        when(productRepository.findByCategoryId(categoryId, null, PAGE_SIZE))
+                .thenReturn(new CursorPage<>(expectedProducts, null));
 
-        List<Product> result = productService.findByCategoryId(categoryId);
+        CursorPage<Product> result = productService.findByCategoryId(categoryId, null, PAGE_SIZE);
 
-        assertEquals(expectedSize, result.size());
+        assertEquals(expectedSize, result.items().size());
         if (!expectedProducts.isEmpty()) {
-            assertEquals(expectedProducts.get(0).getCategoryId(), result.get(0).getCategoryId());
+            assertEquals(expectedProducts.get(0).getCategoryId(), result.items().get(0).getCategoryId());
+        }
+    }
+
+    @Test
+    @DisplayName("streamByStoreId should return repository stream")
+    void streamByStoreId_ShouldReturnRepositoryStream() {
+        List<Product> products = List.of(
+                createTestProduct("1", "Product 1", "store-1", "category-1"),
+                createTestProduct("2", "Product 2", "store-1", "category-2")
+        );
+        when(productRepository.streamByStoreId("store-1")).thenReturn(products.stream());
+
+        try (Stream<Product> result = productService.streamByStoreId("store-1")) {
+            assertEquals(products, result.toList());
         }
     }
 
@@ -241,6 +297,184 @@ class ProductServiceImplTest {
         assertNotNull(result.getId());
         assertEquals(savedProduct.getTitle(), result.getTitle());
         verify(productRepository).create(newProduct);
+        verify(productSearchIndex).index(savedProduct);
+        verify(productSuggestionIndex).index(savedProduct);
+        verify(productFacetIndex).index(savedProduct);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("provideProductUpdateCases")
+    @DisplayName("update should apply the supplied fields and reindex the product")
+    void update_ExistingProduct_ShouldUpdateAndReindex(
+            String description,
+            String productId,
+            String newTitle,
+            String newDescription,
+            Integer newPrice,
+            List<String> newImages,
+            String newCategoryId,
+            String newColorId
+    ) {
+        Product updateData = Product.builder()
+                .version(0L)
+                .title(newTitle)
+                .description(newDescription)
+                .price(newPrice == null ? null : BigDecimal.valueOf(newPrice))
+                .images(newImages)
+                .categoryId(newCategoryId)
+                .colorId(newColorId)
+                .build();
+        Product updated = createTestProduct(
+                productId,
+                newTitle != null ? newTitle : "Product",
+                "store-1",
+                newCategoryId != null ? newCategoryId : "category-1"
+        );
+        updated.setDescription(newDescription);
+
+        when(productRepository.update(productId, updateData)).thenReturn(Optional.of(updated));
+
+        Product result = productService.update(productId, updateData);
+
+        assertEquals(updated, result);
+        verify(productRepository, never()).findById(any());
+        verify(productSearchIndex).index(updated);
+        verify(productSuggestionIndex).index(updated);
+        verify(productFacetIndex).index(updated);
+    }
+
+    @Test
+    @DisplayName("update with a stale version should throw ResourceConflictException")
+    void update_StaleVersion_ShouldThrowConflict() {
+        Product updateData = Product.builder()
+                .version(2L)
+                .title("Updated Product")
+                .build();
+
+        when(productRepository.update("123", updateData)).thenReturn(Optional.empty());
+        when(productRepository.findUpdatedAtById("123")).thenReturn(Optional.of(LocalDateTime.now()));
+
+        assertThrows(ResourceConflictException.class, () -> productService.update("123", updateData));
+        verifyNoInteractions(productSearchIndex, productSuggestionIndex, productFacetIndex);
+    }
+
+    @Test
+    @DisplayName("update of a missing product should throw ResourceNotFoundException")
+    void update_MissingProduct_ShouldThrowNotFound() {
+        Product updateData = Product.builder()
+                .version(2L)
+                .title("Updated Product")
+                .build();
+
+        when(productRepository.update("missing", updateData)).thenReturn(Optional.empty());
+        when(productRepository.findUpdatedAtById("missing")).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> productService.update("missing", updateData));
+    }
+
+    @Test
+    @DisplayName("update without a version should throw ValidationException")
+    void update_WithoutVersion_ShouldThrowValidation() {
+        Product updateData = Product.builder()
+                .title("Updated Product")
+                .build();
+
+        assertThrows(ValidationException.class, () -> productService.update("123", updateData));
+        verify(productRepository, never()).update(any(), any());
+        verifyNoInteractions(productSearchIndex, productSuggestionIndex, productFacetIndex);
+    }
+
+    @Test
+    @DisplayName("filter should combine repository page with facet counts")
+    void filter_ShouldReturnPageAndFacets() {
+        ProductFilter filter = new ProductFilter("category-1", null, BigDecimal.ONE, BigDecimal.TEN);
+        CursorPage<ProductSummary> page = new CursorPage<>(
+                List.of(new ProductSummary("1", "Product 1", BigDecimal.TWO, null, LocalDateTime.now())),
+                null
+        );
+        ProductFacets facets = new ProductFacets(Map.of("category-1", 1L), Map.of(), List.of());
+        when(productRepository.findSummariesByFilter("store-1", filter, null, PAGE_SIZE)).thenReturn(page);
+        when(productFacetIndex.facets("store-1", filter)).thenReturn(facets);
+
+        FilteredProducts result = productService.filter("store-1", filter, null, PAGE_SIZE);
+
+        assertEquals(page, result.page());
+        assertEquals(facets, result.facets());
+    }
+
+    @Test
+    @DisplayName("filter should reject inverted price range")
+    void filter_WithInvertedPriceRange_ShouldThrow() {
+        ProductFilter filter = new ProductFilter(null, null, BigDecimal.TEN, BigDecimal.ONE);
+
+        assertThrows(ValidationException.class, () -> productService.filter("store-1", filter, null, PAGE_SIZE));
+        verifyNoInteractions(productRepository, productFacetIndex);
+    }
+
+    @Test
+    @DisplayName("search should delegate to search index")
+    void search_ShouldReturnIndexResults() {
+        List<ProductSummary> hits = List.of(new ProductSummary("1", "Red shoes", BigDecimal.TEN, null, null));
+        when(productSearchIndex.search("store-1", "shoes", PAGE_SIZE)).thenReturn(hits);
+
+        List<ProductSummary> result = productService.search("store-1", "shoes", PAGE_SIZE);
+
+        assertEquals(hits, result);
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    @DisplayName("findSummariesByStoreId should return summary page from repository")
+    void findSummariesByStoreId_ShouldReturnSummaryPage() {
+        CursorPage<ProductSummary> page = new CursorPage<>(
+                List.of(new ProductSummary("1", "Product 1", BigDecimal.TEN, null, LocalDateTime.now())),
+                null
+        );
+        when(productRepository.findSummariesByStoreId("store-1", null, PAGE_SIZE)).thenReturn(page);
+
+        CursorPage<ProductSummary> result = productService.findSummariesByStoreId("store-1", null, PAGE_SIZE);
+
+        assertEquals(page, result);
+        verify(productRepository).findSummariesByStoreId("store-1", null, PAGE_SIZE);
+    }
+
+    @Test
+    @DisplayName("findUpdatedAtById should return last update time")
+    void findUpdatedAtById_ShouldReturnUpdatedAt() {
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 5, 1, 12, 0);
+        when(productRepository.findUpdatedAtById("123")).thenReturn(Optional.of(updatedAt));
+
+        LocalDateTime result = productService.findUpdatedAtById("123");
+
+        assertEquals(updatedAt, result);
+    }
+
+    @Test
+    @DisplayName("findUpdatedAtById should throw when product is missing")
+    void findUpdatedAtById_WhenMissing_ShouldThrow() {
+        when(productRepository.findUpdatedAtById("missing")).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> productService.findUpdatedAtById("missing"));
+    }
+
+    @Test
+    @DisplayName("createAll should return created products and per-item errors")
+    void createAll_ShouldReturnBulkResult() {
+        List<Product> products = List.of(
+                createTestProduct(null, "Product 1", "store-1", "category-1"),
+                createTestProduct(null, "Product 2", "store-1", "missing")
+        );
+        BulkResult<Product> bulkResult = new BulkResult<>(
+                List.of(createTestProduct("1", "Product 1", "store-1", "category-1")),
+                List.of(new BulkItemError(1, "Category with id 'missing' not found in store 'store-1'"))
+        );
+        when(productRepository.createAll(products)).thenReturn(bulkResult);
+
+        BulkResult<Product> result = productService.createAll(products);
+
+        assertEquals(1, result.created().size());
+        assertEquals(1, result.errors().get(0).index());
+        verify(productRepository).createAll(products);
     }
 
     @ParameterizedTest
@@ -251,20 +485,21 @@ class ProductServiceImplTest {
     })
     @DisplayName("delete should invoke repository delete")
     void delete_ShouldCallRepository(String productId) {
-        Product existing = createTestProduct(productId, "ToDelete", "store-1", "category-1");
-
-        when(productRepository.findById(productId)).thenReturn(Optional.of(existing));
-        doNothing().when(productRepository).delete(existing);
+        when(productRepository.deleteById(productId)).thenReturn(1L);
 
         assertDoesNotThrow(() -> productService.delete(productId));
-        verify(productRepository).delete(existing);
+        verify(productRepository).deleteById(productId);
+        verify(productRepository, never()).findById(any());
+        verify(productSearchIndex).remove(productId);
+        verify(productSuggestionIndex).remove(productId);
+        verify(productFacetIndex).remove(productId);
     }
 
     @Test
     @DisplayName("delete should throw when product not found")
     void delete_NonExistingProduct_ShouldThrow() {
         String productId = "nonexistent";
-        when(productRepository.findById(productId)).thenReturn(Optional.empty());
+        when(productRepository.deleteById(productId)).thenReturn(0L);
 
         ResourceNotFoundException exception = assertThrows(
                 ResourceNotFoundException.class,
@@ -275,6 +510,6 @@ class ProductServiceImplTest {
                 String.format(ProductServiceImpl.PRODUCT_WITH_ID_NOT_FOUND_TEMPLATE, productId),
                 exception.getMessage()
         );
-        verify(productRepository, never()).delete(any());
+        verifyNoInteractions(productSearchIndex, productSuggestionIndex, productFacetIndex);
     }
 }
\ No newline at end of file
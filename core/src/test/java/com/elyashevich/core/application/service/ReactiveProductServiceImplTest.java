@@ -0,0 +1,168 @@
+package com.elyashevich.core.application.service;
+
+import com.elyashevich.core.application.port.out.ProductFacetIndex;
+import com.elyashevich.core.application.port.out.ProductSearchIndex;
+import com.elyashevich.core.application.port.out.ProductSuggestionIndex;
+import com.elyashevich.core.application.port.out.ReactiveProductRepository;
+import com.elyashevich.core.domain.exception.ResourceConflictException;
+import com.elyashevich.core.domain.exception.ResourceNotFoundException;
+import com.elyashevich.core.domain.exception.ValidationException;
+import com.elyashevich.core.domain.model.Product;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveProductServiceImplTest {
+
+    @Mock
+    private ReactiveProductRepository productRepository;
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private ProductSuggestionIndex productSuggestionIndex;
+
+    @Mock
+    private ProductFacetIndex productFacetIndex;
+
+    @InjectMocks
+    private ReactiveProductServiceImpl productService;
+
+    private static Product createTestProduct(String id, String title) {
+        return Product.builder()
+                .id(id)
+                .title(title)
+                .storeId("store-1")
+                .categoryId("category-1")
+                .price(BigDecimal.valueOf(1000))
+                .images(List.of("default.jpg"))
+                .build();
+    }
+
+    @Test
+    @DisplayName("streamByStoreId should emit products on demand")
+    void streamByStoreId_ShouldHonourDemand() {
+        Product first = createTestProduct("1", "Product 1");
+        Product second = createTestProduct("2", "Product 2");
+        when(productRepository.streamByStoreId("store-1")).thenReturn(Flux.just(first, second));
+
+        StepVerifier.create(productService.streamByStoreId("store-1"), 1)
+                .expectNext(first)
+                .thenRequest(1)
+                .expectNext(second)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("findById should error with ResourceNotFoundException when product is missing")
+    void findById_WhenMissing_ShouldError() {
+        when(productRepository.findById("missing")).thenReturn(Mono.empty());
+
+        StepVerifier.create(productService.findById("missing"))
+                .expectError(ResourceNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("create should index the created product")
+    void create_ShouldIndexProduct() {
+        Product product = createTestProduct(null, "Product");
+        Product created = createTestProduct("1", "Product");
+        when(productRepository.create(product)).thenReturn(Mono.just(created));
+
+        StepVerifier.create(productService.create(product))
+                .expectNext(created)
+                .verifyComplete();
+
+        verify(productSearchIndex).index(created);
+        verify(productSuggestionIndex).index(created);
+        verify(productFacetIndex).index(created);
+    }
+
+    @Test
+    @DisplayName("update with a stale version should error with ResourceConflictException")
+    void update_StaleVersion_ShouldError() {
+        Product changes = Product.builder()
+                .version(2L)
+                .title("Updated Product")
+                .build();
+        when(productRepository.update("123", changes)).thenReturn(Mono.empty());
+        when(productRepository.findUpdatedAtById("123")).thenReturn(Mono.just(LocalDateTime.now()));
+
+        StepVerifier.create(productService.update("123", changes))
+                .expectError(ResourceConflictException.class)
+                .verify();
+
+        verifyNoInteractions(productSearchIndex, productSuggestionIndex, productFacetIndex);
+    }
+
+    @Test
+    @DisplayName("update of a missing product should error with ResourceNotFoundException")
+    void update_MissingProduct_ShouldError() {
+        Product changes = Product.builder()
+                .version(2L)
+                .title("Updated Product")
+                .build();
+        when(productRepository.update("missing", changes)).thenReturn(Mono.empty());
+        when(productRepository.findUpdatedAtById("missing")).thenReturn(Mono.empty());
+
+        StepVerifier.create(productService.update("missing", changes))
+                .expectError(ResourceNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("update without a version should error with ValidationException")
+    void update_WithoutVersion_ShouldError() {
+        Product changes = Product.builder()
+                .title("Updated Product")
+                .build();
+
+        StepVerifier.create(productService.update("123", changes))
+                .expectError(ValidationException.class)
+                .verify();
+
+        verifyNoInteractions(productRepository, productSearchIndex, productSuggestionIndex, productFacetIndex);
+    }
+
+    @Test
+    @DisplayName("delete should remove the product from every index")
+    void delete_ShouldRemoveFromIndexes() {
+        when(productRepository.deleteById("123")).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(productService.delete("123"))
+                .verifyComplete();
+
+        verify(productSearchIndex).remove("123");
+        verify(productSuggestionIndex).remove("123");
+        verify(productFacetIndex).remove("123");
+    }
+
+    @Test
+    @DisplayName("delete of a missing product should error with ResourceNotFoundException")
+    void delete_MissingProduct_ShouldError() {
+        when(productRepository.deleteById("missing")).thenReturn(Mono.just(0L));
+
+        StepVerifier.create(productService.delete("missing"))
+                .expectError(ResourceNotFoundException.class)
+                .verify();
+
+        verifyNoInteractions(productSearchIndex, productSuggestionIndex, productFacetIndex);
+    }
+}
@@ -0,0 +1,169 @@
+package com.elyashevich.core.application.service;
+
+import com.elyashevich.core.application.port.out.ProductRepository;
+import com.elyashevich.core.domain.exception.ResourceAlreadyExistsException;
+import com.elyashevich.core.domain.model.Category;
+import com.elyashevich.core.domain.model.Color;
+import com.elyashevich.core.infrastructure.persistance.adapter.CategoryRepositoryAdapter;
+import com.elyashevich.core.infrastructure.persistance.adapter.ColorRepositoryAdapter;
+import com.elyashevich.core.infrastructure.persistance.entity.CategoryMongoEntity;
+import com.elyashevich.core.infrastructure.persistance.entity.ColorMongoEntity;
+import com.elyashevich.core.infrastructure.persistance.mapper.impl.CategoryEntityMapperImpl;
+import com.elyashevich.core.infrastructure.persistance.mapper.impl.ColorEntityMapperImpl;
+import com.elyashevich.core.infrastructure.persistance.repository.CategoryMongoRepository;
+import com.elyashevich.core.infrastructure.persistance.repository.ColorMongoRepository;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class UniqueCreateConcurrencyTest {
+
+    private static final String DATABASE = "core_uniqueness_test";
+    private static final String STORE_ID = "store-1";
+    private static final int THREADS = 32;
+    private static final int ROUNDS = 25;
+
+    @Container
+    private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    private MongoClient mongoClient;
+    private MongoTemplate mongoTemplate;
+    private CategoryServiceImpl categoryService;
+    private ColorServiceImpl colorService;
+
+    @BeforeAll
+    void setUp() {
+        mongoClient = MongoClients.create(MONGO.getConnectionString());
+        mongoTemplate = new MongoTemplate(mongoClient, DATABASE);
+        mongoTemplate.getDb().drop();
+        ensureIndexes(CategoryMongoEntity.class);
+        ensureIndexes(ColorMongoEntity.class);
+
+        MongoRepositoryFactory repositoryFactory = new MongoRepositoryFactory(mongoTemplate);
+        ProductRepository productRepository = mock(ProductRepository.class);
+        categoryService = new CategoryServiceImpl(
+                new CategoryRepositoryAdapter(
+                        repositoryFactory.getRepository(CategoryMongoRepository.class),
+                        new CategoryEntityMapperImpl(),
+                        mongoTemplate
+                ),
+                productRepository
+        );
+        colorService = new ColorServiceImpl(
+                new ColorRepositoryAdapter(
+                        repositoryFactory.getRepository(ColorMongoRepository.class),
+                        new ColorEntityMapperImpl(),
+                        mongoTemplate
+                ),
+                productRepository
+        );
+    }
+
+    @AfterAll
+    void tearDown() {
+        mongoTemplate.getDb().drop();
+        mongoClient.close();
+    }
+
+    @Test
+    @DisplayName("parallel category creates with the same title should persist exactly one category")
+    void createCategory_InParallel_PersistsOnePerTitle() throws Exception {
+        int[] outcomes = race(round -> () -> categoryService.create(Category.builder()
+                .title("Category " + round)
+                .storeId(STORE_ID)
+                .build()));
+
+        assertAll(
+                () -> assertEquals(ROUNDS, outcomes[0]),
+                () -> assertEquals(ROUNDS * (THREADS - 1), outcomes[1]),
+                () -> assertEquals(ROUNDS, mongoTemplate.count(new Query(), CategoryMongoEntity.class))
+        );
+    }
+
+    @Test
+    @DisplayName("parallel color creates with the same name should persist exactly one color")
+    void createColor_InParallel_PersistsOnePerName() throws Exception {
+        int[] outcomes = race(round -> () -> colorService.create(Color.builder()
+                .name("Color " + round)
+                .value("#%06x".formatted(round))
+                .storeId(STORE_ID)
+                .build()));
+
+        assertAll(
+                () -> assertEquals(ROUNDS, outcomes[0]),
+                () -> assertEquals(ROUNDS * (THREADS - 1), outcomes[1]),
+                () -> assertEquals(ROUNDS, mongoTemplate.count(new Query(), ColorMongoEntity.class))
+        );
+    }
+
+    private int[] race(IntFunction<Runnable> createForRound) throws Exception {
+        int created = 0;
+        int rejected = 0;
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                Runnable create = createForRound.apply(round);
+                CountDownLatch start = new CountDownLatch(1);
+
+                List<Future<Boolean>> attempts = new ArrayList<>(THREADS);
+                for (int i = 0; i < THREADS; i++) {
+                    attempts.add(executor.submit(() -> {
+                        start.await();
+                        try {
+                            create.run();
+                            return true;
+                        } catch (ResourceAlreadyExistsException e) {
+                            return false;
+                        }
+                    }));
+                }
+                start.countDown();
+
+                for (Future<Boolean> attempt : attempts) {
+                    if (attempt.get()) {
+                        created++;
+                    } else {
+                        rejected++;
+                    }
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return new int[]{created, rejected};
+    }
+
+    private void ensureIndexes(Class<?> entityClass) {
+        IndexOperations indexOperations = mongoTemplate.indexOps(entityClass);
+        new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext())
+                .resolveIndexFor(entityClass)
+                .forEach(indexOperations::ensureIndex);
+    }
+}
@@ -13,6 +13,8 @@ import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -26,7 +28,9 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -40,6 +44,9 @@ class CategoryRepositoryAdapterTest {
     @Mock
     private EntityMapper<Category, CategoryMongoEntity> categoryMapper;
 
+    @Mock
+    private MongoTemplate mongoTemplate;
+
     @InjectMocks
     private CategoryRepositoryAdapter categoryRepositoryAdapter;
 
@@ -247,22 +254,30 @@ class CategoryRepositoryAdapterTest {
 
     @ParameterizedTest
     @MethodSource("provideCategoriesForDelete")
-    void delete_WithValidCategory_DeletesEntity(Category category) {
+    void deleteById_WithExistingCategory_ReturnsDeletedCount(Category category) {
         // Arrange
-        CategoryMongoEntity entity = createTestEntity(
-                category.getId(),
-                category.getTitle(),
-                category.getStoreId(),
-                category.getCreatedAt()
-        );
-        when(categoryMapper.toEntity(category)).thenReturn(entity);
+        CategoryMongoEntity entity = createTestEntity(category.getId(), null, category.getStoreId(), null);
+        when(mongoTemplate.findAndRemove(any(Query.class), eq(CategoryMongoEntity.class))).thenReturn(entity);
 
         // Act
-        categoryRepositoryAdapter.delete(category);
+        long result = categoryRepositoryAdapter.deleteById(category.getId());
 
         // Assert
-        verify(categoryMapper).toEntity(category);
-        verify(categoryMongoRepository).delete(entity);
+        assertEquals(1, result);
+        verifyNoInteractions(categoryMapper);
+        verify(categoryMongoRepository, never()).findById(any());
+    }
+
+    @Test
+    void deleteById_WithMissingCategory_ReturnsZero() {
+        // Arrange
+        when(mongoTemplate.findAndRemove(any(Query.class), eq(CategoryMongoEntity.class))).thenReturn(null);
+
+        // Act
+        long result = categoryRepositoryAdapter.deleteById("missing");
+
+        // Assert
+        assertEquals(0, result);
     }
 
     @ParameterizedTest
@@ -273,14 +288,61 @@ class CategoryRepositoryAdapterTest {
             boolean expectedResult
     ) {
         // Arrange
-        when(categoryMongoRepository.existsByTitleAndStoreId(title, storeId))
-                .thenReturn(expectedResult);
+        stubStoreCategories(storeId);
 
         // Act
         boolean result = categoryRepositoryAdapter.existsByTitleAndStoreId(title, storeId);
 
         // Assert
         assertEquals(expectedResult, result);
-        verify(categoryMongoRepository).existsByTitleAndStoreId(title, storeId);
+        verify(categoryMongoRepository).findByStoreId(storeId);
+        verify(categoryMongoRepository, never()).existsByTitleAndStoreId(title, storeId);
+    }
+
+    @Test
+    void findByStoreId_CalledTwice_LoadsSnapshotOnce() {
+        // Arrange
+        stubStoreCategories("store-1");
+
+        // Act
+        categoryRepositoryAdapter.findByStoreId("store-1");
+        boolean exists = categoryRepositoryAdapter.existsByTitleAndStoreId("Existing Title", "store-1");
+        List<Category> result = categoryRepositoryAdapter.findByStoreId("store-1");
+
+        // Assert
+        assertTrue(exists);
+        assertEquals(1, result.size());
+        assertThrows(UnsupportedOperationException.class, () -> result.add(new Category()));
+        verify(categoryMongoRepository, times(1)).findByStoreId("store-1");
+    }
+
+    @Test
+    void create_WithCachedStore_ReloadsSnapshotOnNextRead() {
+        // Arrange
+        stubStoreCategories("store-1");
+        Category category = createTestCategory(null, "New Title", "store-1", null);
+        CategoryMongoEntity entity = createTestEntity("cat-2", "New Title", "store-1", LocalDateTime.now());
+        when(categoryMapper.toEntity(category)).thenReturn(entity);
+        when(categoryMongoRepository.save(entity)).thenReturn(entity);
+        categoryRepositoryAdapter.findByStoreId("store-1");
+
+        // Act
+        categoryRepositoryAdapter.create(category);
+        categoryRepositoryAdapter.findByStoreId("store-1");
+
+        // Assert
+        verify(categoryMongoRepository, times(2)).findByStoreId("store-1");
+    }
+
+    private void stubStoreCategories(String storeId) {
+        boolean known = "store-1".equals(storeId);
+        List<CategoryMongoEntity> entities = known
+                ? List.of(createTestEntity("cat-1", "Existing Title", "store-1", null))
+                : List.of();
+        List<Category> categories = known
+                ? List.of(createTestCategory("cat-1", "Existing Title", "store-1", null))
+                : List.of();
+        when(categoryMongoRepository.findByStoreId(storeId)).thenReturn(entities);
+        when(categoryMapper.toDomain(entities)).thenReturn(categories);
     }
 }
\ No newline at end of file
@@ -13,6 +13,8 @@ import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -26,7 +28,9 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -40,6 +44,9 @@ class ColorRepositoryAdapterTest {
     @Mock
     private EntityMapper<Color, ColorMongoEntity> entityMapper;
 
+    @Mock
+    private MongoTemplate mongoTemplate;
+
     @InjectMocks
     private ColorRepositoryAdapter colorRepositoryAdapter;
 
@@ -258,23 +265,30 @@ class ColorRepositoryAdapterTest {
 
     @ParameterizedTest
     @MethodSource("provideColorsForDelete")
-    void delete_WithValidColor_DeletesEntity(Color color) {
+    void deleteById_WithExistingColor_ReturnsDeletedCount(Color color) {
         // Arrange
-        ColorMongoEntity entity = createTestEntity(
-                color.getId(),
-                color.getName(),
-                color.getValue(),
-                color.getStoreId(),
-                color.getCreatedAt()
-        );
-        when(entityMapper.toEntity(color)).thenReturn(entity);
+        ColorMongoEntity entity = createTestEntity(color.getId(), null, null, color.getStoreId(), null);
+        when(mongoTemplate.findAndRemove(any(Query.class), eq(ColorMongoEntity.class))).thenReturn(entity);
+
+        // Act
+        long result = colorRepositoryAdapter.deleteById(color.getId());
+
+        // Assert
+        assertEquals(1, result);
+        verifyNoInteractions(entityMapper);
+        verify(colorMongoRepository, never()).findById(any());
+    }
+
+    @Test
+    void deleteById_WithMissingColor_ReturnsZero() {
+        // Arrange
+        when(mongoTemplate.findAndRemove(any(Query.class), eq(ColorMongoEntity.class))).thenReturn(null);
 
         // Act
-        colorRepositoryAdapter.delete(color);
+        long result = colorRepositoryAdapter.deleteById("missing");
 
         // Assert
-        verify(entityMapper).toEntity(color);
-        verify(colorMongoRepository).delete(entity);
+        assertEquals(0, result);
     }
 
     @ParameterizedTest
@@ -285,15 +299,15 @@ class ColorRepositoryAdapterTest {
             boolean expectedResult
     ) {
         // Arrange
-        when(colorMongoRepository.existsByNameAndStoreId(name, storeId))
-                .thenReturn(expectedResult);
+        stubStoreColors(storeId);
 
         // Act
         boolean result = colorRepositoryAdapter.existsByNameAndStoreId(name, storeId);
 
         // Assert
         assertEquals(expectedResult, result);
-        verify(colorMongoRepository).existsByNameAndStoreId(name, storeId);
+        verify(colorMongoRepository).findByStoreId(storeId);
+        verify(colorMongoRepository, never()).existsByNameAndStoreId(name, storeId);
     }
 
     @ParameterizedTest
@@ -304,15 +318,42 @@ class ColorRepositoryAdapterTest {
             boolean expectedResult
     ) {
         // Arrange
-        when(colorMongoRepository.existsByValueAndStoreId(value, storeId))
-                .thenReturn(expectedResult);
+        stubStoreColors(storeId);
 
         // Act
         boolean result = colorRepositoryAdapter.existsByValueAndStoreId(value, storeId);
 
         // Assert
         assertEquals(expectedResult, result);
-        verify(colorMongoRepository).existsByValueAndStoreId(value, storeId);
+        verify(colorMongoRepository).findByStoreId(storeId);
+        verify(colorMongoRepository, never()).existsByValueAndStoreId(value, storeId);
+    }
+
+    @Test
+    void deleteById_WithCachedStore_EvictsSnapshot() {
+        // Arrange
+        stubStoreColors("store-1");
+        when(mongoTemplate.findAndRemove(any(Query.class), eq(ColorMongoEntity.class)))
+                .thenReturn(createTestEntity("color-1", null, null, "store-1", null));
+        colorRepositoryAdapter.existsByNameAndStoreId("Existing Name", "store-1");
+
+        // Act
+        colorRepositoryAdapter.deleteById("color-1");
+        colorRepositoryAdapter.existsByNameAndStoreId("Existing Name", "store-1");
+
+        // Assert
+        verify(colorMongoRepository, times(2)).findByStoreId("store-1");
     }
 
+    private void stubStoreColors(String storeId) {
+        boolean known = "store-1".equals(storeId);
+        List<ColorMongoEntity> entities = known
+                ? List.of(createTestEntity("color-1", "Existing Name", "#FF0000", "store-1", null))
+                : List.of();
+        List<Color> colors = known
+                ? List.of(createTestColor("color-1", "Existing Name", "#FF0000", "store-1", null))
+                : List.of();
+        when(colorMongoRepository.findByStoreId(storeId)).thenReturn(entities);
+        when(entityMapper.toDomain(entities)).thenReturn(colors);
+    }
 }
\ No newline at end of file
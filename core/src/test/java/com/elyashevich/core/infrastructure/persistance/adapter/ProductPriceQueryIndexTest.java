@@ -0,0 +1,223 @@
+package com.elyashevich.core.infrastructure.persistance.adapter;
+
+import com.elyashevich.core.domain.model.CursorPage;
+import com.elyashevich.core.domain.model.PriceOrder;
+import com.elyashevich.core.domain.model.Product;
+import com.elyashevich.core.domain.model.ProductSummary;
+import com.elyashevich.core.infrastructure.config.BulkProperties;
+import com.elyashevich.core.infrastructure.persistance.entity.ProductMongoEntity;
+import com.elyashevich.core.infrastructure.persistance.mapper.EntityMapper;
+import com.elyashevich.core.infrastructure.persistance.repository.CategoryMongoRepository;
+import com.elyashevich.core.infrastructure.persistance.repository.ColorMongoRepository;
+import com.elyashevich.core.infrastructure.persistance.repository.ProductMongoRepository;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ProductPriceQueryIndexTest {
+
+    private static final String DATABASE = "core_price_query_test";
+    private static final String STORE_ID_FIELD = "storeId";
+    private static final String CATEGORY_ID_FIELD = "categoryId";
+    private static final int PRODUCTS = 20_000;
+    private static final int STORES = 10;
+    private static final int CATEGORIES = 50;
+    private static final int PAGE_SIZE = 20;
+
+    @Container
+    private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    private MongoClient mongoClient;
+    private MongoTemplate mongoTemplate;
+    private ProductRepositoryAdapter productRepositoryAdapter;
+
+    @BeforeAll
+    void setUp() {
+        mongoClient = MongoClients.create(MONGO.getConnectionString());
+        mongoTemplate = new MongoTemplate(mongoClient, DATABASE);
+        mongoTemplate.dropCollection(ProductMongoEntity.class);
+
+        IndexOperations indexOperations = mongoTemplate.indexOps(ProductMongoEntity.class);
+        new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext())
+                .resolveIndexFor(ProductMongoEntity.class)
+                .forEach(indexOperations::ensureIndex);
+
+        List<ProductMongoEntity> batch = new ArrayList<>(10_000);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < PRODUCTS; i++) {
+            batch.add(ProductMongoEntity.builder()
+                    .id(new ObjectId().toHexString())
+                    .title("Product " + i)
+                    .storeId("store-" + random.nextInt(STORES))
+                    .categoryId("category-" + random.nextInt(CATEGORIES))
+                    .price(BigDecimal.valueOf(random.nextInt(100, 100_000), 2))
+                    .build());
+            if (batch.size() == 10_000) {
+                mongoTemplate.insertAll(batch);
+                batch.clear();
+            }
+        }
+        mongoTemplate.insertAll(batch);
+
+        @SuppressWarnings("unchecked")
+        EntityMapper<Product, ProductMongoEntity> productMapper = mock(EntityMapper.class);
+        productRepositoryAdapter = new ProductRepositoryAdapter(
+                mock(ProductMongoRepository.class),
+                productMapper,
+                mock(CategoryMongoRepository.class),
+                mock(ColorMongoRepository.class),
+                mongoTemplate,
+                new BulkProperties(1000)
+        );
+    }
+
+    @AfterAll
+    void tearDown() {
+        mongoTemplate.getDb().drop();
+        mongoClient.close();
+    }
+
+    private static Stream<Arguments> scopes() {
+        return Stream.of(
+                Arguments.of(STORE_ID_FIELD, "store-1", PriceOrder.ASC, null, null),
+                Arguments.of(STORE_ID_FIELD, "store-1", PriceOrder.DESC, null, null),
+                Arguments.of(STORE_ID_FIELD, "store-1", PriceOrder.ASC, new BigDecimal("50"), new BigDecimal("250")),
+                Arguments.of(CATEGORY_ID_FIELD, "category-1", PriceOrder.ASC, null, new BigDecimal("100")),
+                Arguments.of(CATEGORY_ID_FIELD, "category-1", PriceOrder.DESC, new BigDecimal("10"), null)
+        );
+    }
+
+    @ParameterizedTest(name = "{0}={1} {2} [{3}, {4}]")
+    @MethodSource("scopes")
+    void priceOrderedPages_AreServedByIndexWithoutSortStage(
+            String scope,
+            String scopeId,
+            PriceOrder order,
+            BigDecimal minPrice,
+            BigDecimal maxPrice
+    ) {
+        // Arrange
+        String cursor = page(scope, scopeId, minPrice, maxPrice, order, null).next();
+        Query firstQuery = productRepositoryAdapter.pricePageQuery(
+                Criteria.where(scope).is(scopeId), minPrice, maxPrice, order, null, PAGE_SIZE
+        );
+        Query nextQuery = productRepositoryAdapter.pricePageQuery(
+                Criteria.where(scope).is(scopeId), minPrice, maxPrice, order, cursor, PAGE_SIZE
+        );
+
+        // Act
+        Document firstExplain = explain(firstQuery);
+        Document nextExplain = explain(nextQuery);
+
+        // Assert
+        Set<String> firstStages = stages(firstExplain);
+        Set<String> nextStages = stages(nextExplain);
+        assertFalse(firstStages.contains("SORT"), () -> "First page used an in-memory sort: " + firstExplain.toJson());
+        assertFalse(nextStages.contains("SORT"), () -> "Next page used an in-memory sort: " + nextExplain.toJson());
+        assertTrue(firstStages.contains("IXSCAN") || firstStages.contains("EXPRESS_IXSCAN"));
+        assertOrdered(scope, scopeId, minPrice, maxPrice, order);
+    }
+
+    private CursorPage<ProductSummary> page(
+            String scope,
+            String scopeId,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            PriceOrder order,
+            String cursor
+    ) {
+        return STORE_ID_FIELD.equals(scope)
+                ? productRepositoryAdapter.findSummariesByStoreIdOrderByPrice(scopeId, minPrice, maxPrice, order, cursor, PAGE_SIZE)
+                : productRepositoryAdapter.findSummariesByCategoryIdOrderByPrice(scopeId, minPrice, maxPrice, order, cursor, PAGE_SIZE);
+    }
+
+    private void assertOrdered(String scope, String scopeId, BigDecimal minPrice, BigDecimal maxPrice, PriceOrder order) {
+        List<ProductSummary> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<ProductSummary> page = page(scope, scopeId, minPrice, maxPrice, order, cursor);
+            seen.addAll(page.items());
+            cursor = page.next();
+        } while (cursor != null);
+
+        for (int i = 1; i < seen.size(); i++) {
+            int comparison = seen.get(i - 1).price().compareTo(seen.get(i).price());
+            assertTrue(order == PriceOrder.ASC ? comparison <= 0 : comparison >= 0);
+        }
+        Criteria expected = Criteria.where(scope).is(scopeId);
+        Criteria price = expected.and("price").ne(null);
+        if (minPrice != null) {
+            price.gte(new Decimal128(minPrice));
+        }
+        if (maxPrice != null) {
+            price.lte(new Decimal128(maxPrice));
+        }
+        assertEquals(mongoTemplate.count(new Query(expected), ProductMongoEntity.class), seen.size());
+        assertEquals(seen.size(), seen.stream().map(ProductSummary::id).distinct().count());
+    }
+
+    private Document explain(Query query) {
+        MongoPersistentEntity<?> entity = mongoTemplate.getConverter()
+                .getMappingContext()
+                .getRequiredPersistentEntity(ProductMongoEntity.class);
+        QueryMapper queryMapper = new QueryMapper(mongoTemplate.getConverter());
+
+        Document find = new Document("find", mongoTemplate.getCollectionName(ProductMongoEntity.class))
+                .append("filter", queryMapper.getMappedObject(query.getQueryObject(), entity))
+                .append("sort", queryMapper.getMappedSort(query.getSortObject(), entity))
+                .append("projection", queryMapper.getMappedFields(query.getFieldsObject(), entity))
+                .append("limit", query.getLimit());
+        return mongoTemplate.executeCommand(new Document("explain", find).append("verbosity", "executionStats"));
+    }
+
+    private static Set<String> stages(Document explain) {
+        Set<String> stages = new TreeSet<>();
+        collectStages(explain.get("queryPlanner", Document.class).get("winningPlan"), stages);
+        return stages;
+    }
+
+    private static void collectStages(Object node, Set<String> stages) {
+        if (node instanceof Document document) {
+            Object stage = document.get("stage");
+            if (stage instanceof String name) {
+                stages.add(name);
+            }
+            document.values().forEach(value -> collectStages(value, stages));
+        } else if (node instanceof List<?> list) {
+            list.forEach(value -> collectStages(value, stages));
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.elyashevich.core.infrastructure.persistance.adapter;
+
+import com.elyashevich.core.domain.model.Category;
+import com.elyashevich.core.domain.model.Product;
+import com.elyashevich.core.infrastructure.config.BulkProperties;
+import com.elyashevich.core.infrastructure.persistance.entity.ProductMongoEntity;
+import com.elyashevich.core.infrastructure.persistance.mapper.EntityMapper;
+import com.elyashevich.core.infrastructure.persistance.repository.CategoryMongoRepository;
+import com.elyashevich.core.infrastructure.persistance.repository.ColorMongoRepository;
+import com.elyashevich.core.infrastructure.persistance.repository.ProductMongoRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mongodb.client.result.DeleteResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringJUnitConfig
+class ProductRepositoryAdapterCacheTest {
+
+    private static final String PRODUCT_ID = "prod-1";
+
+    @Autowired
+    private ProductRepositoryAdapter productRepositoryAdapter;
+
+    @Autowired
+    private ProductMongoRepository productMongoRepository;
+
+    @Autowired
+    private EntityMapper<Product, ProductMongoEntity> productMapper;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        reset(productMongoRepository, productMapper, mongoTemplate);
+        cacheManager.getCache(ProductRepositoryAdapter.PRODUCTS_CACHE).clear();
+
+        ProductMongoEntity entity = ProductMongoEntity.builder().id(PRODUCT_ID).build();
+        when(productMongoRepository.findById(PRODUCT_ID)).thenReturn(Optional.of(entity));
+        when(productMapper.toDomain(entity)).thenReturn(Product.builder().id(PRODUCT_ID).build());
+    }
+
+    @Test
+    void findById_CalledTwice_HitsRepositoryOnce() {
+        // Act
+        productRepositoryAdapter.findById(PRODUCT_ID);
+        Optional<Product> result = productRepositoryAdapter.findById(PRODUCT_ID);
+
+        // Assert
+        assertEquals(PRODUCT_ID, result.orElseThrow().getId());
+        verify(productMongoRepository, times(1)).findById(PRODUCT_ID);
+    }
+
+    @Test
+    void findById_WithMissingProduct_DoesNotCacheAbsence() {
+        // Arrange
+        when(productMongoRepository.findById("missing")).thenReturn(Optional.empty());
+
+        // Act
+        productRepositoryAdapter.findById("missing");
+        Optional<Product> result = productRepositoryAdapter.findById("missing");
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(productMongoRepository, times(2)).findById("missing");
+    }
+
+    @Test
+    void deleteById_EvictsCachedProduct() {
+        // Arrange
+        productRepositoryAdapter.findById(PRODUCT_ID);
+        when(mongoTemplate.remove(any(Query.class), eq(ProductMongoEntity.class))).thenReturn(DeleteResult.acknowledged(1));
+
+        // Act
+        productRepositoryAdapter.deleteById(PRODUCT_ID);
+        productRepositoryAdapter.findById(PRODUCT_ID);
+
+        // Assert
+        verify(productMongoRepository, times(2)).findById(PRODUCT_ID);
+    }
+
+    @Test
+    void create_WithExistingProduct_EvictsCachedProduct() {
+        // Arrange
+        Product product = productRepositoryAdapter.findById(PRODUCT_ID).orElseThrow();
+        ProductMongoEntity entity = ProductMongoEntity.builder().id(PRODUCT_ID).build();
+        when(productMapper.toEntity(product)).thenReturn(entity);
+        when(productMongoRepository.save(entity)).thenReturn(entity);
+
+        // Act
+        productRepositoryAdapter.create(product);
+        productRepositoryAdapter.findById(PRODUCT_ID);
+
+        // Assert
+        verify(productMongoRepository, times(2)).findById(PRODUCT_ID);
+    }
+
+    @Test
+    void refreshCategorySnapshot_EvictsAllCachedProducts() {
+        // Arrange
+        productRepositoryAdapter.findById(PRODUCT_ID);
+
+        // Act
+        productRepositoryAdapter.refreshCategorySnapshot(Category.builder().id("category-1").title("Shoes").build());
+        productRepositoryAdapter.findById(PRODUCT_ID);
+
+        // Assert
+        verify(productMongoRepository, times(2)).findById(PRODUCT_ID);
+    }
+
+    @Configuration
+    @EnableCaching(proxyTargetClass = true)
+    static class Config {
+
+        @Bean
+        CacheManager cacheManager() {
+            CaffeineCacheManager cacheManager = new CaffeineCacheManager(ProductRepositoryAdapter.PRODUCTS_CACHE);
+            cacheManager.setCaffeine(Caffeine.newBuilder().maximumSize(100));
+            return cacheManager;
+        }
+
+        @Bean
+        ProductMongoRepository productMongoRepository() {
+            return mock(ProductMongoRepository.class);
+        }
+
+        @Bean
+        @SuppressWarnings("unchecked")
+        EntityMapper<Product, ProductMongoEntity> productMapper() {
+            return mock(EntityMapper.class);
+        }
+
+        @Bean
+        MongoTemplate mongoTemplate() {
+            return mock(MongoTemplate.class);
+        }
+
+        @Bean
+        ProductRepositoryAdapter productRepositoryAdapter(
+                ProductMongoRepository productMongoRepository,
+                EntityMapper<Product, ProductMongoEntity> productMapper,
+                MongoTemplate mongoTemplate
+        ) {
+            return new ProductRepositoryAdapter(
+                    productMongoRepository,
+                    productMapper,
+                    mock(CategoryMongoRepository.class),
+                    mock(ColorMongoRepository.class),
+                    mongoTemplate,
+                    new BulkProperties(1000)
+            );
+        }
+    }
+}
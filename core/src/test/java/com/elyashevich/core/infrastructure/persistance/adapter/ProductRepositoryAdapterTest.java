@@ -1,27 +1,53 @@
 package com.elyashevich.core.infrastructure.persistance.adapter;
 
+import com.elyashevich.core.domain.exception.ValidationException;
+import com.elyashevich.core.domain.model.BulkItemError;
+import com.elyashevich.core.domain.model.BulkResult;
+import com.elyashevich.core.domain.model.Category;
+import com.elyashevich.core.domain.model.Color;
+import com.elyashevich.core.domain.model.CursorPage;
+import com.elyashevich.core.domain.model.PriceOrder;
 import com.elyashevich.core.domain.model.Product;
+import com.elyashevich.core.domain.model.ProductSummary;
+import com.elyashevich.core.infrastructure.config.BulkProperties;
 import com.elyashevich.core.infrastructure.persistance.entity.CategoryMongoEntity;
 import com.elyashevich.core.infrastructure.persistance.entity.ColorMongoEntity;
 import com.elyashevich.core.infrastructure.persistance.entity.ProductMongoEntity;
 import com.elyashevich.core.infrastructure.persistance.mapper.EntityMapper;
+import com.elyashevich.core.infrastructure.persistance.pagination.CursorCodec;
+import com.elyashevich.core.infrastructure.persistance.pagination.PriceCursor;
 import com.elyashevich.core.infrastructure.persistance.repository.CategoryMongoRepository;
 import com.elyashevich.core.infrastructure.persistance.repository.ColorMongoRepository;
 import com.elyashevich.core.infrastructure.persistance.repository.ProductMongoRepository;
+import com.elyashevich.core.infrastructure.web.etag.EntityTags;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -29,11 +55,17 @@ import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -41,6 +73,8 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class ProductRepositoryAdapterTest {
 
+    private static final int PAGE_SIZE = 20;
+
     @Mock
     private ProductMongoRepository productMongoRepository;
 
@@ -53,6 +87,12 @@ class ProductRepositoryAdapterTest {
     @Mock
     private ColorMongoRepository colorMongoRepository;
 
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkProperties bulkProperties;
+
     @InjectMocks
     private ProductRepositoryAdapter productRepositoryAdapter;
 
@@ -178,8 +218,7 @@ class ProductRepositoryAdapterTest {
 
     private static ProductMongoEntity createTestEntityWithCategory(String id, String title, String categoryId, LocalDateTime createdAt) {
         ProductMongoEntity entity = createTestEntity(id, title, "store-1", createdAt);
-        entity.setCategory(new CategoryMongoEntity());
-        entity.getCategory().setId(categoryId);
+        entity.setCategoryId(categoryId);
         return entity;
     }
 
@@ -215,18 +254,65 @@ class ProductRepositoryAdapterTest {
             List<Product> expectedProducts
     ) {
         // Arrange
-        when(productMongoRepository.findAll()).thenReturn(entities);
+        when(mongoTemplate.find(any(Query.class), eq(ProductMongoEntity.class))).thenReturn(entities);
         when(productMapper.toDomain(entities)).thenReturn(expectedProducts);
 
         // Act
-        List<Product> result = productRepositoryAdapter.findAll();
+        CursorPage<Product> result = productRepositoryAdapter.findAll(null, PAGE_SIZE);
 
         // Assert
-        assertEquals(expectedProducts, result);
-        verify(productMongoRepository).findAll();
+        assertEquals(expectedProducts, result.items());
+        assertNull(result.next());
+        verify(mongoTemplate).find(any(Query.class), eq(ProductMongoEntity.class));
         verify(productMapper).toDomain(entities);
     }
 
+    @Test
+    void findAll_WithMoreEntitiesThanPageSize_ReturnsNextCursor() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        String firstId = new ObjectId().toHexString();
+        String secondId = new ObjectId().toHexString();
+        List<ProductMongoEntity> entities = List.of(
+                createTestEntity(firstId, "Product 1", "store-1", now),
+                createTestEntity(secondId, "Product 2", "store-1", now)
+        );
+        List<Product> expectedProducts = List.of(createTestProduct(firstId, "Product 1", "store-1", now));
+        when(mongoTemplate.find(any(Query.class), eq(ProductMongoEntity.class))).thenReturn(entities);
+        when(productMapper.toDomain(entities.subList(0, 1))).thenReturn(expectedProducts);
+
+        // Act
+        CursorPage<Product> result = productRepositoryAdapter.findAll(null, 1);
+
+        // Assert
+        assertEquals(expectedProducts, result.items());
+        assertEquals(firstId, CursorCodec.decode(result.next()));
+    }
+
+    @Test
+    void findAll_WithCursor_QueriesAfterDecodedId() {
+        // Arrange
+        String lastId = new ObjectId().toHexString();
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        when(mongoTemplate.find(queryCaptor.capture(), eq(ProductMongoEntity.class))).thenReturn(List.of());
+        when(productMapper.toDomain(List.<ProductMongoEntity>of())).thenReturn(List.of());
+
+        // Act
+        productRepositoryAdapter.findAll(CursorCodec.encode(lastId), PAGE_SIZE);
+
+        // Assert
+        Query query = queryCaptor.getValue();
+        assertEquals(new Document("$gt", lastId), query.getQueryObject().get("id"));
+        assertEquals(PAGE_SIZE + 1, query.getLimit());
+    }
+
+    @Test
+    void findAll_WithMalformedCursor_ThrowsValidationException() {
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> productRepositoryAdapter.findAll("not-a-cursor", PAGE_SIZE));
+        verifyNoInteractions(mongoTemplate);
+    }
+
     @ParameterizedTest
     @MethodSource("provideProductsForFindByStoreId")
     void findByStoreId_WithVariousStoreIds_ReturnsMatchingProducts(
@@ -235,32 +321,57 @@ class ProductRepositoryAdapterTest {
             List<Product> expectedProducts
     ) {
         // Arrange
-        when(productMongoRepository.findByStoreId(storeId)).thenReturn(entities);
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        when(mongoTemplate.find(queryCaptor.capture(), eq(ProductMongoEntity.class))).thenReturn(entities);
         when(productMapper.toDomain(entities)).thenReturn(expectedProducts);
 
         // Act
-        List<Product> result = productRepositoryAdapter.findByStoreId(storeId);
+        CursorPage<Product> result = productRepositoryAdapter.findByStoreId(storeId, null, PAGE_SIZE);
 
         // Assert
-        assertEquals(expectedProducts, result);
-        verify(productMongoRepository).findByStoreId(storeId);
+        assertEquals(expectedProducts, result.items());
+        assertEquals(storeId, queryCaptor.getValue().getQueryObject().get("storeId"));
         verify(productMapper).toDomain(entities);
     }
 
     @ParameterizedTest
     @NullAndEmptySource
-    void findByStoreId_WithNullOrEmptyStoreId_ReturnsEmptyList(String invalidStoreId) {
+    void findByStoreId_WithNullOrEmptyStoreId_ReturnsEmptyPage(String invalidStoreId) {
         // Arrange
-        when(productMongoRepository.findByStoreId(invalidStoreId)).thenReturn(Collections.emptyList());
-        when(productMapper.toDomain(Collections.emptyList())).thenReturn(Collections.emptyList());
+        when(mongoTemplate.find(any(Query.class), eq(ProductMongoEntity.class))).thenReturn(Collections.emptyList());
+        when(productMapper.toDomain(Collections.<ProductMongoEntity>emptyList())).thenReturn(Collections.emptyList());
 
         // Act
-        List<Product> result = productRepositoryAdapter.findByStoreId(invalidStoreId);
+        CursorPage<Product> result = productRepositoryAdapter.findByStoreId(invalidStoreId, null, PAGE_SIZE);
 
         // Assert
-        assertTrue(result.isEmpty());
-        verify(productMongoRepository).findByStoreId(invalidStoreId);
-        verify(productMapper).toDomain(Collections.emptyList());
+        assertTrue(result.items().isEmpty());
+        assertNull(result.next());
+        verify(productMapper).toDomain(Collections.<ProductMongoEntity>emptyList());
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideProductsForFindByStoreId")
+    void streamByStoreId_WithVariousStoreIds_MapsEachEntity(
+            String storeId,
+            List<ProductMongoEntity> entities,
+            List<Product> expectedProducts
+    ) {
+        // Arrange
+        when(mongoTemplate.stream(any(Query.class), eq(ProductMongoEntity.class))).thenReturn(entities.stream());
+        for (int i = 0; i < entities.size(); i++) {
+            when(productMapper.toDomain(entities.get(i))).thenReturn(expectedProducts.get(i));
+        }
+
+        // Act
+        List<Product> result;
+        try (Stream<Product> products = productRepositoryAdapter.streamByStoreId(storeId)) {
+            result = products.toList();
+        }
+
+        // Assert
+        assertEquals(expectedProducts, result);
+        verify(productMapper, never()).toDomain(anyList());
     }
 
     @ParameterizedTest
@@ -271,32 +382,31 @@ class ProductRepositoryAdapterTest {
             List<Product> expectedProducts
     ) {
         // Arrange
-        when(productMongoRepository.findByCategoryId(categoryId)).thenReturn(entities);
+        when(mongoTemplate.find(any(Query.class), eq(ProductMongoEntity.class))).thenReturn(entities);
         when(productMapper.toDomain(entities)).thenReturn(expectedProducts);
 
         // Act
-        List<Product> result = productRepositoryAdapter.findByCategoryId(categoryId);
+        CursorPage<Product> result = productRepositoryAdapter.findByCategoryId(categoryId, null, PAGE_SIZE);
 
         // Assert
-        assertEquals(expectedProducts, result);
-        verify(productMongoRepository).findByCategoryId(categoryId);
+        assertEquals(expectedProducts, result.items());
+        verify(mongoTemplate).find(any(Query.class), eq(ProductMongoEntity.class));
         verify(productMapper).toDomain(entities);
     }
 
     @ParameterizedTest
     @NullAndEmptySource
-    void findByCategoryId_WithNullOrEmptyCategoryId_ReturnsEmptyList(String invalidCategoryId) {
+    void findByCategoryId_WithNullOrEmptyCategoryId_ReturnsEmptyPage(String invalidCategoryId) {
         // Arrange
-        when(productMongoRepository.findByCategoryId(invalidCategoryId)).thenReturn(Collections.emptyList());
-        when(productMapper.toDomain(Collections.emptyList())).thenReturn(Collections.emptyList());
+        when(mongoTemplate.find(any(Query.class), eq(ProductMongoEntity.class))).thenReturn(Collections.emptyList());
+        when(productMapper.toDomain(Collections.<ProductMongoEntity>emptyList())).thenReturn(Collections.emptyList());
 
         // Act
-        List<Product> result = productRepositoryAdapter.findByCategoryId(invalidCategoryId);
+        CursorPage<Product> result = productRepositoryAdapter.findByCategoryId(invalidCategoryId, null, PAGE_SIZE);
 
         // Assert
-        assertTrue(result.isEmpty());
-        verify(productMongoRepository).findByCategoryId(invalidCategoryId);
-        verify(productMapper).toDomain(Collections.emptyList());
+        assertTrue(result.items().isEmpty());
+        verify(productMapper).toDomain(Collections.<ProductMongoEntity>emptyList());
     }
 
     @ParameterizedTest
@@ -391,23 +501,375 @@ class ProductRepositoryAdapterTest {
         verifyNoInteractions(colorMongoRepository);
     }
 
+    @Test
+    void create_WithExistingRelations_EmbedsSnapshots() {
+        // Arrange
+        Product product = createTestProduct(null, "New Product", "store-1", "category-1", "color-1", null);
+        ProductMongoEntity entity = createTestEntity(null, "New Product", "store-1", LocalDateTime.now());
+        CategoryMongoEntity category = CategoryMongoEntity.builder().id("category-1").title("Shoes").build();
+        ColorMongoEntity color = ColorMongoEntity.builder().id("color-1").name("Red").value("#FF0000").build();
+        when(productMapper.toEntity(product)).thenReturn(entity);
+        when(categoryMongoRepository.findById("category-1")).thenReturn(Optional.of(category));
+        when(colorMongoRepository.findById("color-1")).thenReturn(Optional.of(color));
+        when(productMongoRepository.save(entity)).thenReturn(entity);
+        when(productMapper.toDomain(entity)).thenReturn(product);
+
+        // Act
+        productRepositoryAdapter.create(product);
+
+        // Assert
+        assertAll(
+                () -> assertEquals("category-1", entity.getCategoryId()),
+                () -> assertEquals("Shoes", entity.getCategorySnapshot().getTitle()),
+                () -> assertEquals("color-1", entity.getColorId()),
+                () -> assertEquals("Red", entity.getColorSnapshot().getName()),
+                () -> assertEquals("#FF0000", entity.getColorSnapshot().getValue())
+        );
+    }
+
+    @Test
+    void findSummariesByStoreId_ProjectsSummaryFieldsAndFirstImage() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        ProductMongoEntity entity = createTestEntity("prod-1", "Product 1", null, now);
+        entity.setPrice(BigDecimal.TEN);
+        entity.setImages(List.of("first.png"));
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        when(mongoTemplate.find(queryCaptor.capture(), eq(ProductMongoEntity.class))).thenReturn(List.of(entity));
+
+        // Act
+        CursorPage<ProductSummary> result = productRepositoryAdapter.findSummariesByStoreId("store-1", null, PAGE_SIZE);
+
+        // Assert
+        Document fields = queryCaptor.getValue().getFieldsObject();
+        assertAll(
+                () -> assertEquals(new ProductSummary("prod-1", "Product 1", BigDecimal.TEN, "first.png", now), result.items().get(0)),
+                () -> assertEquals(1, fields.get("title")),
+                () -> assertEquals(1, fields.get("price")),
+                () -> assertEquals(new Document("$slice", 1), fields.get("images")),
+                () -> assertNull(fields.get("description"))
+        );
+        verifyNoInteractions(productMapper);
+    }
+
+    @Test
+    void findSummariesByStoreIdOrderByPrice_SortsByPriceThenIdAndReturnsPriceCursor() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        String firstId = new ObjectId().toHexString();
+        ProductMongoEntity first = createTestEntity(firstId, "Product 1", "store-1", now);
+        first.setPrice(new BigDecimal("9.99"));
+        ProductMongoEntity second = createTestEntity(new ObjectId().toHexString(), "Product 2", "store-1", now);
+        second.setPrice(new BigDecimal("19.99"));
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        when(mongoTemplate.find(queryCaptor.capture(), eq(ProductMongoEntity.class))).thenReturn(List.of(first, second));
+
+        // Act
+        CursorPage<ProductSummary> result = productRepositoryAdapter.findSummariesByStoreIdOrderByPrice(
+                "store-1", BigDecimal.ONE, null, PriceOrder.ASC, null, 1
+        );
+
+        // Assert
+        Query query = queryCaptor.getValue();
+        assertAll(
+                () -> assertEquals(1, result.items().size()),
+                () -> assertEquals(new PriceCursor(new BigDecimal("9.99"), firstId), CursorCodec.decodePrice(result.next())),
+                () -> assertEquals(new Document("price", 1).append("id", 1), query.getSortObject()),
+                () -> assertEquals(
+                        new Document("$ne", null).append("$gte", new Decimal128(BigDecimal.ONE)),
+                        query.getQueryObject().get("price")
+                )
+        );
+    }
+
+    @Test
+    void findSummariesByCategoryIdOrderByPrice_WithDescendingCursor_SeeksBelowLastPrice() {
+        // Arrange
+        String lastId = new ObjectId().toHexString();
+        BigDecimal lastPrice = new BigDecimal("20");
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        when(mongoTemplate.find(queryCaptor.capture(), eq(ProductMongoEntity.class))).thenReturn(List.of());
+
+        // Act
+        productRepositoryAdapter.findSummariesByCategoryIdOrderByPrice(
+                "category-1", null, new BigDecimal("50"), PriceOrder.DESC, CursorCodec.encode(lastPrice, lastId), PAGE_SIZE
+        );
+
+        // Assert
+        Document queryObject = queryCaptor.getValue().getQueryObject();
+        assertAll(
+                () -> assertEquals("category-1", queryObject.get("categoryId")),
+                () -> assertEquals(
+                        new Document("$ne", null).append("$lte", new Decimal128(lastPrice)),
+                        queryObject.get("price")
+                ),
+                () -> assertEquals(
+                        List.of(
+                                new Document("price", new Document("$lt", new Decimal128(lastPrice))),
+                                new Document("id", new Document("$lt", lastId))
+                        ),
+                        queryObject.get("$or")
+                ),
+                () -> assertEquals(new Document("price", -1).append("id", -1), queryCaptor.getValue().getSortObject())
+        );
+    }
+
+    @Test
+    void findSummariesByStoreIdOrderByPrice_WithIdOnlyCursor_ThrowsValidationException() {
+        // Act & Assert
+        String cursor = CursorCodec.encode(new ObjectId().toHexString());
+        assertThrows(
+                ValidationException.class,
+                () -> productRepositoryAdapter.findSummariesByStoreIdOrderByPrice(
+                        "store-1", null, null, PriceOrder.ASC, cursor, PAGE_SIZE
+                )
+        );
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    void findUpdatedAtById_ProjectsOnlyUpdatedAt() {
+        // Arrange
+        LocalDateTime updatedAt = LocalDateTime.now();
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        when(mongoTemplate.findOne(queryCaptor.capture(), eq(ProductMongoEntity.class)))
+                .thenReturn(createTestEntity("prod-1", null, null, updatedAt));
+
+        // Act
+        Optional<LocalDateTime> result = productRepositoryAdapter.findUpdatedAtById("prod-1");
+
+        // Assert
+        assertEquals(Optional.of(updatedAt), result);
+        assertEquals(new Document("updatedAt", 1), queryCaptor.getValue().getFieldsObject());
+        verify(productMongoRepository, never()).findById(any());
+    }
+
+    @Test
+    void update_WithCategoryFromAnotherStore_ThrowsValidationException() {
+        // Arrange
+        Product changes = Product.builder().version(1L).categoryId("category-2").build();
+        CategoryMongoEntity category = CategoryMongoEntity.builder().id("category-2").storeId("store-2").title("Shoes").build();
+        when(mongoTemplate.findOne(any(Query.class), eq(ProductMongoEntity.class)))
+                .thenReturn(createTestEntity("prod-1", null, "store-1", null));
+        when(categoryMongoRepository.findById("category-2")).thenReturn(Optional.of(category));
+
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> productRepositoryAdapter.update("prod-1", changes));
+        verify(mongoTemplate, never()).findAndModify(any(Query.class), any(Update.class), any(), eq(ProductMongoEntity.class));
+    }
+
+    @Test
+    void update_WithVersionZero_MatchesDocumentsWithoutVersion() {
+        // Arrange
+        Product changes = Product.builder().version(0L).title("Renamed").build();
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        when(mongoTemplate.findAndModify(queryCaptor.capture(), any(Update.class), any(), eq(ProductMongoEntity.class)))
+                .thenReturn(null);
+
+        // Act
+        Optional<Product> result = productRepositoryAdapter.update("prod-1", changes);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        assertEquals(
+                new Document("id", "prod-1").append("version", new Document("$in", Arrays.asList(0L, null))),
+                queryCaptor.getValue().getQueryObject()
+        );
+        verifyNoInteractions(categoryMongoRepository, colorMongoRepository);
+    }
+
+    @Test
+    void createAll_ResolvesRelationsOnceAndReportsInvalidItems() {
+        // Arrange
+        List<Product> products = List.of(
+                createTestProduct(null, "Product 1", "store-1", "category-1", "color-1", null),
+                createTestProduct(null, "Product 2", "store-1", "category-1", null, null),
+                createTestProduct(null, "Product 3", "store-1", "category-2", null, null),
+                createTestProduct(null, "Product 4", "store-1", "missing", null, null)
+        );
+        CategoryMongoEntity category = CategoryMongoEntity.builder().id("category-1").title("Shoes").storeId("store-1").build();
+        CategoryMongoEntity foreignCategory = CategoryMongoEntity.builder().id("category-2").storeId("store-2").build();
+        ColorMongoEntity color = ColorMongoEntity.builder().id("color-1").name("Red").storeId("store-1").build();
+        when(categoryMongoRepository.findAllById(any())).thenReturn(List.of(category, foreignCategory));
+        when(colorMongoRepository.findAllById(any())).thenReturn(List.of(color));
+        when(productMapper.toEntity(any(Product.class)))
+                .thenAnswer(invocation -> createTestEntity(null, "Product", "store-1", LocalDateTime.now()));
+        when(bulkProperties.chunkSize()).thenReturn(1000);
+        BulkOperations bulkOperations = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ProductMongoEntity.class)).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+        ArgumentCaptor<List<ProductMongoEntity>> insertedCaptor = ArgumentCaptor.forClass(List.class);
+        when(productMapper.toDomain(insertedCaptor.capture())).thenReturn(List.of());
+
+        // Act
+        BulkResult<Product> result = productRepositoryAdapter.createAll(products);
+
+        // Assert
+        List<ProductMongoEntity> inserted = insertedCaptor.getValue();
+        assertAll(
+                () -> assertEquals(2, inserted.size()),
+                () -> assertNotNull(inserted.get(0).getId()),
+                () -> assertEquals("Shoes", inserted.get(0).getCategorySnapshot().getTitle()),
+                () -> assertEquals("Red", inserted.get(0).getColorSnapshot().getName()),
+                () -> assertNull(inserted.get(1).getColorId()),
+                () -> assertEquals(List.of(2, 3), result.errors().stream().map(BulkItemError::index).toList())
+        );
+        verify(categoryMongoRepository).findAllById(any());
+        verify(colorMongoRepository).findAllById(any());
+        verify(bulkOperations).execute();
+    }
+
+    @Test
+    void createAll_WithDuplicateInChunk_KeepsRemainingInserts() {
+        // Arrange
+        List<Product> products = List.of(
+                createTestProduct(null, "Product 1", "store-1", null, null, null),
+                createTestProduct(null, "Product 2", "store-1", null, null, null),
+                createTestProduct(null, "Product 3", "store-1", null, null, null)
+        );
+        when(productMapper.toEntity(any(Product.class)))
+                .thenAnswer(invocation -> createTestEntity(null, "Product", "store-1", LocalDateTime.now()));
+        when(bulkProperties.chunkSize()).thenReturn(2);
+        BulkOperations bulkOperations = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ProductMongoEntity.class)).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+        BulkOperationException exception = mock(BulkOperationException.class);
+        when(exception.getErrors()).thenReturn(List.of(
+                new BulkWriteError(11000, "E11000 duplicate key error", new BsonDocument(), 0)
+        ));
+        when(bulkOperations.execute()).thenThrow(exception).thenReturn(null);
+        ArgumentCaptor<List<ProductMongoEntity>> insertedCaptor = ArgumentCaptor.forClass(List.class);
+        when(productMapper.toDomain(insertedCaptor.capture())).thenReturn(List.of());
+
+        // Act
+        BulkResult<Product> result = productRepositoryAdapter.createAll(products);
+
+        // Assert
+        assertAll(
+                () -> assertEquals(2, insertedCaptor.getValue().size()),
+                () -> assertEquals(1, result.errors().size()),
+                () -> assertEquals(0, result.errors().get(0).index())
+        );
+        verify(bulkOperations, times(2)).execute();
+        verifyNoInteractions(categoryMongoRepository);
+        verifyNoInteractions(colorMongoRepository);
+    }
+
+    @Test
+    void refreshCategorySnapshot_UpdatesAllReferencingProducts() {
+        // Arrange
+        Category category = Category.builder().id("category-1").title("Sneakers").build();
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+
+        // Act
+        productRepositoryAdapter.refreshCategorySnapshot(category);
+
+        // Assert
+        verify(mongoTemplate).updateMulti(queryCaptor.capture(), updateCaptor.capture(), eq(ProductMongoEntity.class));
+        Document set = (Document) updateCaptor.getValue().getUpdateObject().get("$set");
+        assertAll(
+                () -> assertEquals("category-1", queryCaptor.getValue().getQueryObject().get("categoryId")),
+                () -> assertEquals("Sneakers", set.get("categorySnapshot.title")),
+                () -> assertNotNull(set.get("updatedAt")),
+                () -> assertEquals(new Document("version", 1), updateCaptor.getValue().getUpdateObject().get("$inc"))
+        );
+    }
+
+    @Test
+    void refreshCategorySnapshot_ChangesProductEntityTag() {
+        // Arrange
+        LocalDateTime previousUpdate = LocalDateTime.now().minusMinutes(1);
+        String previousTag = EntityTags.of("product-1", previousUpdate);
+        ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+
+        // Act
+        productRepositoryAdapter.refreshCategorySnapshot(Category.builder().id("category-1").title("Sneakers").build());
+
+        // Assert
+        verify(mongoTemplate).updateMulti(any(Query.class), updateCaptor.capture(), eq(ProductMongoEntity.class));
+        Document set = (Document) updateCaptor.getValue().getUpdateObject().get("$set");
+        LocalDateTime renamedAt = (LocalDateTime) set.get("updatedAt");
+        assertAll(
+                () -> assertTrue(renamedAt.isAfter(previousUpdate)),
+                () -> assertNotEquals(previousTag, EntityTags.of("product-1", renamedAt))
+        );
+    }
+
+    @Test
+    void refreshColorSnapshot_UpdatesAllReferencingProducts() {
+        // Arrange
+        Color color = Color.builder().id("color-1").name("Crimson").value("#DC143C").build();
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+
+        // Act
+        productRepositoryAdapter.refreshColorSnapshot(color);
+
+        // Assert
+        verify(mongoTemplate).updateMulti(queryCaptor.capture(), updateCaptor.capture(), eq(ProductMongoEntity.class));
+        Document set = (Document) updateCaptor.getValue().getUpdateObject().get("$set");
+        assertAll(
+                () -> assertEquals("color-1", queryCaptor.getValue().getQueryObject().get("colorId")),
+                () -> assertEquals("Crimson", set.get("colorSnapshot.name")),
+                () -> assertEquals("#DC143C", set.get("colorSnapshot.value")),
+                () -> assertNotNull(set.get("updatedAt")),
+                () -> assertEquals(new Document("version", 1), updateCaptor.getValue().getUpdateObject().get("$inc"))
+        );
+    }
+
     @ParameterizedTest
     @MethodSource("provideProductsForDelete")
-    void delete_WithValidProduct_DeletesEntity(Product product) {
+    void deleteById_WithExistingProduct_ReturnsDeletedCount(Product product) {
         // Arrange
-        ProductMongoEntity entity = createTestEntity(
-                product.getId(),
-                product.getTitle(),
-                product.getStoreId(),
-                product.getCreatedAt()
-        );
-        when(productMapper.toEntity(product)).thenReturn(entity);
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        when(mongoTemplate.remove(queryCaptor.capture(), eq(ProductMongoEntity.class)))
+                .thenReturn(DeleteResult.acknowledged(1));
 
         // Act
-        productRepositoryAdapter.delete(product);
+        long result = productRepositoryAdapter.deleteById(product.getId());
 
         // Assert
-        verify(productMapper).toEntity(product);
-        verify(productMongoRepository).delete(entity);
+        assertEquals(1, result);
+        assertEquals(product.getId(), queryCaptor.getValue().getQueryObject().get("id"));
+        verifyNoInteractions(productMapper, productMongoRepository);
+    }
+
+    @Test
+    void deleteById_WithMissingProduct_ReturnsZero() {
+        // Arrange
+        when(mongoTemplate.remove(any(Query.class), eq(ProductMongoEntity.class)))
+                .thenReturn(DeleteResult.acknowledged(0));
+
+        // Act
+        long result = productRepositoryAdapter.deleteById("missing");
+
+        // Assert
+        assertEquals(0, result);
+    }
+
+    @Test
+    void detachCategory_UnsetsCategoryOnReferencingProducts() {
+        // Arrange
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+        when(mongoTemplate.updateMulti(queryCaptor.capture(), updateCaptor.capture(), eq(ProductMongoEntity.class)))
+                .thenReturn(UpdateResult.acknowledged(4, 4L, null));
+
+        // Act
+        long result = productRepositoryAdapter.detachCategory("category-1");
+
+        // Assert
+        Document update = updateCaptor.getValue().getUpdateObject();
+        assertAll(
+                () -> assertEquals(4, result),
+                () -> assertEquals("category-1", queryCaptor.getValue().getQueryObject().get("categoryId")),
+                () -> assertEquals(
+                        new Document("categoryId", 1).append("categorySnapshot", 1),
+                        update.get("$unset")
+                ),
+                () -> assertEquals(new Document("version", 1), update.get("$inc")),
+                () -> assertNotNull(update.get("$set", Document.class).get("updatedAt"))
+        );
     }
-}
\ No newline at end of file
+}
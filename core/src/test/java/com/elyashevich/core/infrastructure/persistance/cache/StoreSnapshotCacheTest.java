@@ -0,0 +1,88 @@
+package com.elyashevich.core.infrastructure.persistance.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StoreSnapshotCacheTest {
+
+    @Test
+    void get_RepeatedForSameStore_LoadsOnce() {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+        StoreSnapshotCache<String> cache = cache(storeId -> List.of("v" + loads.incrementAndGet()));
+
+        // Act
+        StoreSnapshot<String> first = cache.get("store-1");
+        StoreSnapshot<String> second = cache.get("store-1");
+
+        // Assert
+        assertAll(
+                () -> assertEquals(1, loads.get()),
+                () -> assertEquals(first, second)
+        );
+    }
+
+    @Test
+    void evict_DuringInFlightLoad_DoesNotKeepStaleSnapshot() throws Exception {
+        // Arrange
+        AtomicInteger version = new AtomicInteger(1);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        StoreSnapshotCache<String> cache = cache(storeId -> {
+            String loaded = "v" + version.get();
+            if (loading.getCount() > 0) {
+                loading.countDown();
+                await(release);
+            }
+            return List.of(loaded);
+        });
+        CompletableFuture<StoreSnapshot<String>> staleLoad = CompletableFuture.supplyAsync(() -> cache.get("store-1"));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        // Act
+        version.set(2);
+        CompletableFuture<Void> eviction = CompletableFuture.runAsync(() -> cache.evict("store-1"));
+        release.countDown();
+        staleLoad.get(5, TimeUnit.SECONDS);
+        eviction.get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals(List.of("v2"), cache.get("store-1").items());
+    }
+
+    @Test
+    void refresh_ReplacesSnapshotWithFreshLoad() {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+        StoreSnapshotCache<String> cache = cache(storeId -> List.of("v" + loads.incrementAndGet()));
+        cache.get("store-1");
+
+        // Act
+        cache.refresh("store-1");
+
+        // Assert
+        assertEquals(List.of("v2"), cache.get("store-1").items());
+    }
+
+    private static StoreSnapshotCache<String> cache(Function<String, List<String>> loader) {
+        return new StoreSnapshotCache<>(loader, Function.identity(), Function.identity());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
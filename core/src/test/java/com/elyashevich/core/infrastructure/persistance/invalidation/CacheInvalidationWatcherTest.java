@@ -0,0 +1,175 @@
+package com.elyashevich.core.infrastructure.persistance.invalidation;
+
+import com.elyashevich.core.infrastructure.config.CacheInvalidationProperties;
+import com.mongodb.MongoException;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.messaging.MessageListenerContainer;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CacheInvalidationWatcherTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private ChangeStreamContainerFactory containerFactory;
+
+    @Mock
+    private MessageListenerContainer container;
+
+    @Mock
+    private CacheInvalidator cacheInvalidator;
+
+    @Mock
+    private ResumeTokenStore resumeTokenStore;
+
+    private CacheInvalidationWatcher watcher;
+
+    @BeforeEach
+    void setUp() {
+        watcher = watcher(true, 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        watcher.stop();
+    }
+
+    @Test
+    void start_WithForcePolling_DoesNotOpenChangeStreams() {
+        // Act
+        watcher.start();
+
+        // Assert
+        assertTrue(watcher.isRunning());
+        verify(mongoTemplate, never()).executeCommand(any(Document.class));
+        verifyNoInteractions(resumeTokenStore);
+    }
+
+    @Test
+    void poll_WithChangedDocuments_EvictsMatchingEntries() {
+        // Arrange
+        ObjectId productId = new ObjectId();
+        Date updatedAt = new Date(System.currentTimeMillis() + 1000);
+        Document product = new Document("_id", productId).append("updated_at", updatedAt);
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("products"))).thenReturn(List.of(product));
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("categories")))
+                .thenReturn(List.of(new Document("_id", new ObjectId())
+                        .append("storeId", "store-1")
+                        .append("updated_at", updatedAt)));
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("colors"))).thenReturn(List.of());
+        watcher.start();
+
+        // Act
+        watcher.poll();
+
+        // Assert
+        verify(cacheInvalidator).productChanged(productId.toHexString(), product);
+        verify(cacheInvalidator).categoryChanged("store-1");
+        verify(cacheInvalidator, never()).colorChanged(any());
+    }
+
+    @Test
+    void onChangeStreamError_BelowRetryLimit_KeepsResumeTokensAndCaches() {
+        // Arrange
+        watcher = watcher(false, 3);
+        when(mongoTemplate.executeCommand(any(Document.class))).thenReturn(new Document("setName", "rs0"));
+        when(containerFactory.create()).thenReturn(container);
+        watcher.start();
+
+        // Act
+        watcher.onChangeStreamError(new IllegalStateException("cursor closed"));
+
+        // Assert
+        verify(resumeTokenStore, never()).clear(any());
+        verify(cacheInvalidator, never()).invalidateAll();
+    }
+
+    @Test
+    void onChangeStreamError_WithLostHistory_ClearsResumeTokens() {
+        // Arrange
+        watcher = watcher(false, 3);
+        when(mongoTemplate.executeCommand(any(Document.class))).thenReturn(new Document("setName", "rs0"));
+        when(containerFactory.create()).thenReturn(container);
+        watcher.start();
+
+        // Act
+        watcher.onChangeStreamError(new MongoException(286, "resume point may no longer be in the oplog"));
+
+        // Assert
+        verify(resumeTokenStore).clear("node-1:products");
+        verify(resumeTokenStore).clear("node-1:categories");
+        verify(resumeTokenStore).clear("node-1:colors");
+        verify(cacheInvalidator).invalidateAll();
+    }
+
+    @Test
+    void onChangeStreamError_AfterRetryLimit_FallsBackToPollingAndRecovers() {
+        // Arrange
+        watcher = watcher(false, 0);
+        when(mongoTemplate.executeCommand(any(Document.class))).thenReturn(new Document("setName", "rs0"));
+        when(containerFactory.create()).thenReturn(container);
+        watcher.start();
+
+        // Act
+        watcher.onChangeStreamError(new IllegalStateException("cursor closed"));
+        verify(cacheInvalidator, timeout(1000)).invalidateAll();
+        watcher.recoverChangeStreams();
+
+        // Assert
+        verify(mongoTemplate, times(2)).executeCommand(any(Document.class));
+        verify(resumeTokenStore, never()).clear(any());
+    }
+
+    @Test
+    void refresh_InPollingMode_EvictsAllCaches() {
+        // Arrange
+        watcher.start();
+
+        // Act
+        watcher.refresh();
+
+        // Assert
+        verify(cacheInvalidator).invalidateAll();
+    }
+
+    private CacheInvalidationWatcher watcher(boolean forcePolling, int changeStreamRetries) {
+        CacheInvalidationProperties properties = new CacheInvalidationProperties(
+                true,
+                "node-1",
+                forcePolling,
+                Duration.ofHours(1),
+                Duration.ofSeconds(30),
+                Duration.ofHours(1),
+                changeStreamRetries,
+                Duration.ofHours(1),
+                Duration.ofHours(1)
+        );
+        return new CacheInvalidationWatcher(
+                mongoTemplate, containerFactory, cacheInvalidator, resumeTokenStore, properties
+        );
+    }
+}
@@ -0,0 +1,128 @@
+package com.elyashevich.core.infrastructure.persistance.invalidation;
+
+import com.elyashevich.core.application.port.out.ProductFacetIndex;
+import com.elyashevich.core.application.port.out.ProductSearchIndex;
+import com.elyashevich.core.application.port.out.ProductSuggestionIndex;
+import com.elyashevich.core.domain.model.Product;
+import com.elyashevich.core.infrastructure.persistance.adapter.CategoryRepositoryAdapter;
+import com.elyashevich.core.infrastructure.persistance.adapter.ColorRepositoryAdapter;
+import com.elyashevich.core.infrastructure.persistance.adapter.ProductRepositoryAdapter;
+import com.elyashevich.core.infrastructure.persistance.entity.ProductMongoEntity;
+import com.elyashevich.core.infrastructure.persistance.mapper.EntityMapper;
+import com.elyashevich.core.infrastructure.search.ProductIndexRebuilder;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CacheInvalidatorTest {
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache productsCache;
+
+    @Mock
+    private CategoryRepositoryAdapter categoryRepositoryAdapter;
+
+    @Mock
+    private ColorRepositoryAdapter colorRepositoryAdapter;
+
+    @Mock
+    private MongoConverter mongoConverter;
+
+    @Mock
+    private EntityMapper<Product, ProductMongoEntity> productMapper;
+
+    @Mock
+    private ProductIndexRebuilder productIndexRebuilder;
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private ProductSuggestionIndex productSuggestionIndex;
+
+    @Mock
+    private ProductFacetIndex productFacetIndex;
+
+    @InjectMocks
+    private CacheInvalidator cacheInvalidator;
+
+    @BeforeEach
+    void setUp() {
+        when(cacheManager.getCache(ProductRepositoryAdapter.PRODUCTS_CACHE)).thenReturn(productsCache);
+    }
+
+    @Test
+    void productChanged_WithFullDocument_IndexesItWithoutQueryingDatabase() {
+        // Arrange
+        Document document = new Document("_id", "prod-1").append("title", "Running shoes");
+        ProductMongoEntity entity = ProductMongoEntity.builder().id("prod-1").build();
+        Product product = Product.builder().id("prod-1").storeId("store-1").build();
+        when(mongoConverter.read(ProductMongoEntity.class, document)).thenReturn(entity);
+        when(productMapper.toDomain(entity)).thenReturn(product);
+
+        // Act
+        cacheInvalidator.productChanged("prod-1", document);
+
+        // Assert
+        verify(productsCache).evict("prod-1");
+        verify(productSearchIndex).index(product);
+        verify(productSuggestionIndex).index(product);
+        verify(productFacetIndex).index(product);
+        verify(productSearchIndex, never()).remove(any());
+    }
+
+    @Test
+    void productChanged_WithoutFullDocument_RemovesItFromIndexes() {
+        // Act
+        cacheInvalidator.productChanged("prod-1", null);
+
+        // Assert
+        verify(productsCache).evict("prod-1");
+        verify(productSearchIndex).remove("prod-1");
+        verify(productSuggestionIndex).remove("prod-1");
+        verify(productFacetIndex).remove("prod-1");
+        verifyNoInteractions(mongoConverter, productMapper);
+    }
+
+    @Test
+    void invalidateAll_ReconcilesIndexesWithDatabase() {
+        // Act
+        cacheInvalidator.invalidateAll();
+
+        // Assert
+        verify(productsCache).clear();
+        verify(categoryRepositoryAdapter).evictSnapshot(null);
+        verify(colorRepositoryAdapter).evictSnapshot(null);
+        verify(productIndexRebuilder).rebuild();
+    }
+
+    @Test
+    void invalidateAll_WithUnavailableDatabase_StillEvictsCaches() {
+        // Arrange
+        doThrow(new DataAccessResourceFailureException("connection refused")).when(productIndexRebuilder).rebuild();
+
+        // Act & Assert
+        assertDoesNotThrow(() -> cacheInvalidator.invalidateAll());
+        verify(productsCache).clear();
+    }
+}
@@ -0,0 +1,123 @@
+package com.elyashevich.core.infrastructure.persistance.mapper.impl;
+
+import com.elyashevich.core.domain.model.Product;
+import com.elyashevich.core.infrastructure.persistance.entity.CategorySnapshot;
+import com.elyashevich.core.infrastructure.persistance.entity.ColorSnapshot;
+import com.elyashevich.core.infrastructure.persistance.entity.ProductMongoEntity;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProductEntityMapperTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 12, 0);
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    private final ProductEntityMapper mapper = new ProductEntityMapperImpl();
+
+    @Test
+    void toDomain_ShouldFlattenSnapshotsAndTakeImages() {
+        // Arrange
+        List<String> images = new ArrayList<>(List.of("a.jpg", "b.jpg"));
+        ProductMongoEntity entity = ProductMongoEntity.builder()
+                .id("1")
+                .version(3L)
+                .createdAt(CREATED_AT)
+                .updatedAt(UPDATED_AT)
+                .title("Product")
+                .price(BigDecimal.TEN)
+                .images(images)
+                .storeId("store-1")
+                .categoryId("category-1")
+                .categorySnapshot(new CategorySnapshot("Shoes"))
+                .colorId("color-1")
+                .colorSnapshot(new ColorSnapshot("Red", "#ff0000"))
+                .build();
+
+        // Act
+        Product product = mapper.toDomain(entity);
+
+        // Assert
+        assertAll(
+                () -> assertEquals("1", product.getId()),
+                () -> assertEquals(3L, product.getVersion()),
+                () -> assertEquals(CREATED_AT, product.getCreatedAt()),
+                () -> assertEquals(UPDATED_AT, product.getUpdatedAt()),
+                () -> assertSame(images, product.getImages()),
+                () -> assertEquals("Shoes", product.getCategoryTitle()),
+                () -> assertEquals("Red", product.getColorName()),
+                () -> assertEquals("#ff0000", product.getColorValue())
+        );
+    }
+
+    @Test
+    void toDomain_WithoutSnapshotsOrImages_ShouldLeaveRelationsEmpty() {
+        // Arrange
+        ProductMongoEntity entity = ProductMongoEntity.builder()
+                .id("1")
+                .images(null)
+                .build();
+
+        // Act
+        Product product = mapper.toDomain(entity);
+
+        // Assert
+        assertAll(
+                () -> assertNull(product.getCategoryTitle()),
+                () -> assertNull(product.getColorName()),
+                () -> assertNull(product.getColorValue()),
+                () -> assertTrue(product.getImages().isEmpty())
+        );
+    }
+
+    @Test
+    void toEntity_ShouldCopyImagesAndSkipSnapshots() {
+        // Arrange
+        Product product = Product.builder()
+                .id("1")
+                .createdAt(CREATED_AT)
+                .updatedAt(UPDATED_AT)
+                .title("Product")
+                .images(new ArrayList<>(List.of("a.jpg")))
+                .categoryId("category-1")
+                .categoryTitle("Shoes")
+                .build();
+
+        // Act
+        ProductMongoEntity entity = mapper.toEntity(product);
+
+        // Assert
+        assertAll(
+                () -> assertEquals("category-1", entity.getCategoryId()),
+                () -> assertNull(entity.getCategorySnapshot()),
+                () -> assertEquals(product.getImages(), entity.getImages()),
+                () -> assertNotSame(product.getImages(), entity.getImages()),
+                () -> assertEquals(CREATED_AT, entity.getCreatedAt())
+        );
+    }
+
+    @Test
+    void toDomainList_ShouldMapEveryEntity() {
+        // Arrange
+        List<ProductMongoEntity> entities = List.of(
+                ProductMongoEntity.builder().id("1").build(),
+                ProductMongoEntity.builder().id("2").build()
+        );
+
+        // Act
+        List<Product> products = mapper.toDomain(entities);
+
+        // Assert
+        assertEquals(List.of("1", "2"), products.stream().map(Product::getId).toList());
+    }
+}
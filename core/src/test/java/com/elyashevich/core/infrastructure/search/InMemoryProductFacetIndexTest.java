@@ -0,0 +1,132 @@
+package com.elyashevich.core.infrastructure.search;
+
+import com.elyashevich.core.domain.model.PriceBucket;
+import com.elyashevich.core.domain.model.Product;
+import com.elyashevich.core.domain.model.ProductFacets;
+import com.elyashevich.core.domain.model.ProductFilter;
+import com.elyashevich.core.infrastructure.config.FacetProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryProductFacetIndexTest {
+
+    private static final ProductFilter NO_FILTER = new ProductFilter(null, null, null, null);
+
+    private InMemoryProductFacetIndex facetIndex;
+
+    @BeforeEach
+    void setUp() {
+        facetIndex = new InMemoryProductFacetIndex(
+                new FacetProperties(List.of(new BigDecimal("50"), new BigDecimal("100")))
+        );
+    }
+
+    @Test
+    void facets_WithoutFilter_CountsEveryDimension() {
+        // Arrange
+        facetIndex.index(product("p-1", "shoes", "red", "20"));
+        facetIndex.index(product("p-2", "shoes", "blue", "75"));
+        facetIndex.index(product("p-3", "hats", "red", "150"));
+
+        // Act
+        ProductFacets facets = facetIndex.facets("store-1", NO_FILTER);
+
+        // Assert
+        assertEquals(Map.of("shoes", 2L, "hats", 1L), facets.categories());
+        assertEquals(Map.of("red", 2L, "blue", 1L), facets.colors());
+        assertEquals(List.of(1L, 1L, 1L), facets.prices().stream().map(PriceBucket::count).toList());
+    }
+
+    @Test
+    void facets_WithCategoryFilter_KeepsCategoryCountsUnfiltered() {
+        // Arrange
+        facetIndex.index(product("p-1", "shoes", "red", "20"));
+        facetIndex.index(product("p-2", "shoes", "blue", "75"));
+        facetIndex.index(product("p-3", "hats", "red", "150"));
+
+        // Act
+        ProductFacets facets = facetIndex.facets("store-1", new ProductFilter("shoes", null, null, null));
+
+        // Assert
+        assertEquals(Map.of("shoes", 2L, "hats", 1L), facets.categories());
+        assertEquals(Map.of("red", 1L, "blue", 1L), facets.colors());
+        assertEquals(List.of(1L, 1L, 0L), facets.prices().stream().map(PriceBucket::count).toList());
+    }
+
+    @Test
+    void facets_WithPriceRange_ConditionsCategoriesAndColorsByPrice() {
+        // Arrange
+        facetIndex.index(product("p-1", "shoes", "red", "20"));
+        facetIndex.index(product("p-2", "shoes", "blue", "75"));
+        facetIndex.index(product("p-3", "hats", "red", "150"));
+
+        // Act
+        ProductFacets facets = facetIndex.facets("store-1", new ProductFilter(null, null, new BigDecimal("100"), null));
+
+        // Assert
+        assertEquals(Map.of("hats", 1L), facets.categories());
+        assertEquals(Map.of("red", 1L), facets.colors());
+    }
+
+    @Test
+    void facets_WithPriceRangeInsideBucket_CountsOnlyMatchingPrices() {
+        // Arrange
+        facetIndex.index(product("p-1", "shoes", "red", "55"));
+        facetIndex.index(product("p-2", "shoes", "blue", "75"));
+        facetIndex.index(product("p-3", "hats", "red", "80.00"));
+
+        // Act
+        ProductFacets facets = facetIndex.facets(
+                "store-1", new ProductFilter(null, null, new BigDecimal("60"), new BigDecimal("80"))
+        );
+
+        // Assert
+        assertEquals(Map.of("shoes", 1L, "hats", 1L), facets.categories());
+        assertEquals(Map.of("red", 1L, "blue", 1L), facets.colors());
+    }
+
+    @Test
+    void index_WithChangedProduct_MovesCountsIncrementally() {
+        // Arrange
+        facetIndex.index(product("p-1", "shoes", "red", "20"));
+
+        // Act
+        facetIndex.index(product("p-1", "hats", "red", "60"));
+
+        // Assert
+        ProductFacets facets = facetIndex.facets("store-1", NO_FILTER);
+        assertEquals(Map.of("hats", 1L), facets.categories());
+        assertEquals(List.of(0L, 1L, 0L), facets.prices().stream().map(PriceBucket::count).toList());
+    }
+
+    @Test
+    void remove_WithLastProduct_DropsCounts() {
+        // Arrange
+        facetIndex.index(product("p-1", "shoes", "red", "20"));
+
+        // Act
+        facetIndex.remove("p-1");
+
+        // Assert
+        ProductFacets facets = facetIndex.facets("store-1", NO_FILTER);
+        assertTrue(facets.categories().isEmpty());
+        assertTrue(facets.colors().isEmpty());
+    }
+
+    private static Product product(String id, String categoryId, String colorId, String price) {
+        return Product.builder()
+                .id(id)
+                .storeId("store-1")
+                .categoryId(categoryId)
+                .colorId(colorId)
+                .price(new BigDecimal(price))
+                .build();
+    }
+}
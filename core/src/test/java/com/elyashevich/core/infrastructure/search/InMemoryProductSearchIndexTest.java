@@ -0,0 +1,138 @@
+package com.elyashevich.core.infrastructure.search;
+
+import com.elyashevich.core.domain.model.Product;
+import com.elyashevich.core.domain.model.ProductSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryProductSearchIndexTest {
+
+    private InMemoryProductSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new InMemoryProductSearchIndex();
+    }
+
+    @Test
+    void search_RanksTitleMatchesAboveDescriptionMatches() {
+        // Arrange
+        searchIndex.index(product("p-1", "store-1", "Leather wallet", "Fits well with running shoes"));
+        searchIndex.index(product("p-2", "store-1", "Running shoes", "Lightweight trainers"));
+        searchIndex.index(product("p-3", "store-1", "Coffee mug", "Ceramic"));
+
+        // Act
+        List<ProductSummary> result = searchIndex.search("store-1", "running SHOES", 10);
+
+        // Assert
+        assertEquals(List.of("p-2", "p-1"), ids(result));
+    }
+
+    @Test
+    void search_IsScopedToStore() {
+        // Arrange
+        searchIndex.index(product("p-1", "store-1", "Running shoes", null));
+        searchIndex.index(product("p-2", "store-2", "Running shoes", null));
+
+        // Act & Assert
+        assertEquals(List.of("p-2"), ids(searchIndex.search("store-2", "shoes", 10)));
+        assertTrue(searchIndex.search("unknown-store", "shoes", 10).isEmpty());
+    }
+
+    @Test
+    void index_WithUpdatedProduct_ReplacesPreviousTerms() {
+        // Arrange
+        searchIndex.index(product("p-1", "store-1", "Running shoes", null));
+
+        // Act
+        searchIndex.index(product("p-1", "store-1", "Winter boots", null));
+
+        // Assert
+        assertTrue(searchIndex.search("store-1", "shoes", 10).isEmpty());
+        assertEquals(List.of("p-1"), ids(searchIndex.search("store-1", "boots", 10)));
+    }
+
+    @Test
+    void remove_ExcludesProductFromResults() {
+        // Arrange
+        searchIndex.index(product("p-1", "store-1", "Running shoes", null));
+        searchIndex.index(product("p-2", "store-1", "Tennis shoes", null));
+
+        // Act
+        searchIndex.remove("p-1");
+
+        // Assert
+        assertEquals(List.of("p-2"), ids(searchIndex.search("store-1", "shoes", 10)));
+    }
+
+    @Test
+    void search_WithLimit_ReturnsTopResultsOnly() {
+        // Arrange
+        for (int i = 0; i < 2000; i++) {
+            searchIndex.index(product("p-" + i, "store-1", "Shoe model " + i, null));
+        }
+        for (int i = 0; i < 1500; i++) {
+            searchIndex.remove("p-" + i);
+        }
+
+        // Act
+        List<ProductSummary> result = searchIndex.search("store-1", "shoe", 5);
+
+        // Assert
+        assertEquals(5, result.size());
+        assertTrue(result.stream().allMatch(summary -> Integer.parseInt(summary.id().substring(2)) >= 1500));
+    }
+
+    @Test
+    void search_AfterRepeatedUpdates_ComputesIdfFromLiveProducts() {
+        // Arrange
+        searchIndex.index(product("p-1", "store-1", "Red", null));
+        searchIndex.index(product("p-2", "store-1", "Blue", null));
+        searchIndex.index(product("p-3", "store-1", "Blue cap", null));
+        searchIndex.index(product("p-4", "store-1", "Green", null));
+        for (int i = 0; i < 3; i++) {
+            searchIndex.index(product("p-1", "store-1", "Red", null));
+        }
+
+        // Act
+        List<ProductSummary> result = searchIndex.search("store-1", "red blue", 1);
+
+        // Assert
+        assertEquals(List.of("p-1"), ids(result));
+    }
+
+    @Test
+    void index_WithManyUpdatesOfSameProduct_KeepsSingleLiveResult() {
+        // Arrange
+        searchIndex.index(product("p-2", "store-1", "Running shoes", null));
+
+        // Act
+        for (int i = 0; i < 5000; i++) {
+            searchIndex.index(product("p-1", "store-1", "Running shoes " + i, null));
+        }
+
+        // Assert
+        assertEquals(List.of("p-1", "p-2"), ids(searchIndex.search("store-1", "running 4999", 10)));
+        assertTrue(searchIndex.search("store-1", "2500", 10).isEmpty());
+    }
+
+    private static List<String> ids(List<ProductSummary> summaries) {
+        return summaries.stream().map(ProductSummary::id).toList();
+    }
+
+    private static Product product(String id, String storeId, String title, String description) {
+        return Product.builder()
+                .id(id)
+                .storeId(storeId)
+                .title(title)
+                .description(description)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
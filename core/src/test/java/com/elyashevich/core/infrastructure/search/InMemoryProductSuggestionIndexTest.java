@@ -0,0 +1,103 @@
+package com.elyashevich.core.infrastructure.search;
+
+import com.elyashevich.core.domain.model.Product;
+import com.elyashevich.core.infrastructure.config.SearchProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryProductSuggestionIndexTest {
+
+    private InMemoryProductSuggestionIndex suggestionIndex;
+
+    @BeforeEach
+    void setUp() {
+        suggestionIndex = new InMemoryProductSuggestionIndex(new SearchProperties(3, false));
+    }
+
+    @Test
+    void suggest_RanksTitlesByProductCount() {
+        // Arrange
+        suggestionIndex.index(product("p-1", "store-1", "Running shoes"));
+        suggestionIndex.index(product("p-2", "store-1", "Rucksack"));
+        suggestionIndex.index(product("p-3", "store-1", "Rucksack"));
+        suggestionIndex.index(product("p-4", "store-1", "Coffee mug"));
+
+        // Act
+        List<String> result = suggestionIndex.suggest("store-1", "ru", 10);
+
+        // Assert
+        assertEquals(List.of("Rucksack", "Running shoes"), result);
+    }
+
+    @Test
+    void suggest_NormalizesCaseAndDiacritics() {
+        // Arrange
+        suggestionIndex.index(product("p-1", "store-1", "Crème Brûlée set"));
+
+        // Act & Assert
+        assertEquals(List.of("Crème Brûlée set"), suggestionIndex.suggest("store-1", "CREME bru", 10));
+    }
+
+    @Test
+    void suggest_KeepsOnlyTopKPerPrefix() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            suggestionIndex.index(product("p-" + i, "store-1", "Shoe " + i));
+        }
+
+        // Act & Assert
+        assertEquals(List.of("Shoe 0", "Shoe 1", "Shoe 2"), suggestionIndex.suggest("store-1", "sh", 10));
+    }
+
+    @Test
+    void index_WithRenamedProduct_ReplacesSuggestion() {
+        // Arrange
+        suggestionIndex.index(product("p-1", "store-1", "Running shoes"));
+        suggestionIndex.index(product("p-2", "store-1", "Rain jacket"));
+
+        // Act
+        suggestionIndex.index(product("p-1", "store-1", "Winter boots"));
+
+        // Assert
+        assertEquals(List.of("Rain jacket"), suggestionIndex.suggest("store-1", "r", 10));
+        assertEquals(List.of("Winter boots"), suggestionIndex.suggest("store-1", "w", 10));
+    }
+
+    @Test
+    void index_WithCaseOnlyRename_UpdatesDisplayedTitle() {
+        // Arrange
+        suggestionIndex.index(product("p-1", "store-1", "running shoes"));
+
+        // Act
+        suggestionIndex.index(product("p-1", "store-1", "Running Shoes"));
+
+        // Assert
+        assertEquals(List.of("Running Shoes"), suggestionIndex.suggest("store-1", "run", 10));
+    }
+
+    @Test
+    void remove_WithLastProduct_DropsSuggestion() {
+        // Arrange
+        suggestionIndex.index(product("p-1", "store-1", "Running shoes"));
+
+        // Act
+        suggestionIndex.remove("p-1");
+
+        // Assert
+        assertTrue(suggestionIndex.suggest("store-1", "run", 10).isEmpty());
+        assertTrue(suggestionIndex.suggest("store-2", "run", 10).isEmpty());
+    }
+
+    private static Product product(String id, String storeId, String title) {
+        return Product.builder()
+                .id(id)
+                .storeId(storeId)
+                .title(title)
+                .build();
+    }
+}
@@ -0,0 +1,125 @@
+package com.elyashevich.core.infrastructure.search;
+
+import com.elyashevich.core.application.port.out.ProductFacetIndex;
+import com.elyashevich.core.application.port.out.ProductSearchIndex;
+import com.elyashevich.core.application.port.out.ProductSuggestionIndex;
+import com.elyashevich.core.domain.model.Product;
+import com.elyashevich.core.infrastructure.config.SearchProperties;
+import com.elyashevich.core.infrastructure.persistance.entity.ProductMongoEntity;
+import com.elyashevich.core.infrastructure.persistance.mapper.EntityMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductIndexRebuilderTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private EntityMapper<Product, ProductMongoEntity> productMapper;
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private ProductSuggestionIndex productSuggestionIndex;
+
+    @Mock
+    private ProductFacetIndex productFacetIndex;
+
+    @Test
+    void rebuild_IndexesEveryProductFromSingleScan() {
+        // Arrange
+        ProductMongoEntity first = ProductMongoEntity.builder().id("p-1").build();
+        ProductMongoEntity second = ProductMongoEntity.builder().id("p-2").build();
+        Product firstProduct = Product.builder().id("p-1").storeId("store-1").build();
+        Product secondProduct = Product.builder().id("p-2").storeId("store-1").build();
+        when(mongoTemplate.stream(any(Query.class), eq(ProductMongoEntity.class))).thenReturn(Stream.of(first, second));
+        when(productMapper.toDomain(first)).thenReturn(firstProduct);
+        when(productMapper.toDomain(second)).thenReturn(secondProduct);
+
+        // Act
+        rebuilder(true).rebuild();
+
+        // Assert
+        verify(mongoTemplate, times(1)).stream(any(Query.class), eq(ProductMongoEntity.class));
+        verify(productSearchIndex).index(firstProduct);
+        verify(productSearchIndex).index(secondProduct);
+        verify(productSuggestionIndex).index(firstProduct);
+        verify(productSuggestionIndex).index(secondProduct);
+        verify(productFacetIndex).index(firstProduct);
+        verify(productFacetIndex).index(secondProduct);
+    }
+
+    @Test
+    void rebuild_RemovesIndexedProductsMissingFromDatabase() {
+        // Arrange
+        ProductMongoEntity entity = ProductMongoEntity.builder().id("p-1").build();
+        Product product = Product.builder().id("p-1").storeId("store-1").build();
+        when(productSearchIndex.productIds()).thenReturn(Set.of("p-1", "p-deleted"));
+        when(productSuggestionIndex.productIds()).thenReturn(Set.of("p-1", "p-deleted"));
+        when(productFacetIndex.productIds()).thenReturn(Set.of("p-1"));
+        when(mongoTemplate.stream(any(Query.class), eq(ProductMongoEntity.class))).thenReturn(Stream.of(entity));
+        when(productMapper.toDomain(entity)).thenReturn(product);
+
+        // Act
+        rebuilder(true).rebuild();
+
+        // Assert
+        verify(productSearchIndex).remove("p-deleted");
+        verify(productSuggestionIndex).remove("p-deleted");
+        verify(productFacetIndex, never()).remove(any());
+        verify(productSearchIndex, never()).remove("p-1");
+    }
+
+    @Test
+    void rebuildOnStartup_WhenDisabled_DoesNotQueryDatabase() {
+        // Act
+        rebuilder(false).rebuildOnStartup();
+
+        // Assert
+        verifyNoInteractions(mongoTemplate, productSearchIndex, productSuggestionIndex, productFacetIndex);
+    }
+
+    @Test
+    void rebuildOnStartup_WithUnavailableDatabase_DoesNotFailStartup() {
+        // Arrange
+        when(mongoTemplate.stream(any(Query.class), eq(ProductMongoEntity.class)))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"));
+
+        // Act & Assert
+        assertDoesNotThrow(() -> rebuilder(true).rebuildOnStartup());
+        verify(productSearchIndex, never()).index(any());
+        verify(productSuggestionIndex, never()).index(any());
+        verify(productFacetIndex, never()).index(any());
+    }
+
+    private ProductIndexRebuilder rebuilder(boolean rebuildOnStartup) {
+        return new ProductIndexRebuilder(
+                mongoTemplate,
+                productMapper,
+                productSearchIndex,
+                productSuggestionIndex,
+                productFacetIndex,
+                new SearchProperties(10, rebuildOnStartup)
+        );
+    }
+}
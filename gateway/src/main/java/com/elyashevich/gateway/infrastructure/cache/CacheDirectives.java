@@ -0,0 +1,65 @@
+package com.elyashevich.gateway.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.Locale;
+
+public record CacheDirectives(
+        boolean noStore,
+        boolean privateOnly,
+        boolean noCache,
+        boolean shared,
+        Duration maxAge,
+        Duration staleWhileRevalidate
+) {
+
+    static final CacheDirectives NONE = new CacheDirectives(false, false, false, false, null, null);
+
+    public static CacheDirectives parse(String cacheControl) {
+        if (cacheControl == null || cacheControl.isBlank()) {
+            return NONE;
+        }
+        boolean noStore = false;
+        boolean privateOnly = false;
+        boolean noCache = false;
+        boolean explicitlyPublic = false;
+        Duration maxAge = null;
+        Duration sharedMaxAge = null;
+        Duration staleWhileRevalidate = null;
+        for (String directive : cacheControl.split(",")) {
+            String[] parts = directive.trim().split("=", 2);
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            Duration value = parts.length == 2 ? seconds(parts[1]) : null;
+            switch (name) {
+                case "no-store" -> noStore = true;
+                case "private" -> privateOnly = true;
+                case "no-cache" -> noCache = true;
+                case "public" -> explicitlyPublic = true;
+                case "max-age" -> maxAge = value;
+                case "s-maxage" -> sharedMaxAge = value;
+                case "stale-while-revalidate" -> staleWhileRevalidate = value;
+                default -> {
+                }
+            }
+        }
+        return new CacheDirectives(
+                noStore,
+                privateOnly,
+                noCache,
+                explicitlyPublic || sharedMaxAge != null,
+                sharedMaxAge != null ? sharedMaxAge : maxAge,
+                staleWhileRevalidate
+        );
+    }
+
+    public boolean storable() {
+        return !noStore && !privateOnly;
+    }
+
+    private static Duration seconds(String value) {
+        try {
+            return Duration.ofSeconds(Long.parseLong(value.trim().replace("\"", "")));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
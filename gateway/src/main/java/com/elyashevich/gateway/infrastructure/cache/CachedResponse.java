@@ -0,0 +1,45 @@
+package com.elyashevich.gateway.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+public record CachedResponse(
+        int status,
+        Map<String, List<String>> headers,
+        byte[] body,
+        String etag,
+        boolean shared,
+        long storedAt,
+        Duration ttl,
+        Duration staleWhileRevalidate,
+        Duration retention
+) {
+
+    boolean isFresh(long now) {
+        return now - storedAt < ttl.toNanos();
+    }
+
+    boolean isServableStale(long now) {
+        return now - storedAt < ttl.plus(staleWhileRevalidate).toNanos();
+    }
+
+    long ageSeconds(long now) {
+        return Duration.ofNanos(Math.max(0, now - storedAt)).toSeconds();
+    }
+
+    int weight() {
+        int weight = body.length;
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            weight += header.getKey().length();
+            for (String value : header.getValue()) {
+                weight += value.length();
+            }
+        }
+        return weight;
+    }
+
+    CachedResponse revalidated(long now, Duration ttl, Duration staleWhileRevalidate, Duration retention) {
+        return new CachedResponse(status, headers, body, etag, shared, now, ttl, staleWhileRevalidate, retention);
+    }
+}
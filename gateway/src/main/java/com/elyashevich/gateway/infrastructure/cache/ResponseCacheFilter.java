@@ -0,0 +1,324 @@
+package com.elyashevich.gateway.infrastructure.cache;
+
+import com.elyashevich.gateway.infrastructure.config.ResponseCacheProperties;
+import com.elyashevich.gateway.infrastructure.http.RequestKey;
+import com.elyashevich.gateway.infrastructure.http.RequestMatchers;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+@Slf4j
+@Component
+@Order(ResponseCacheFilter.ORDER)
+@ConditionalOnProperty(name = "application.response-cache.enabled", havingValue = "true")
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    public static final int ORDER = 0;
+
+    static final String CACHE_STATUS_HEADER = "X-Cache";
+    static final String HIT = "HIT";
+    static final String STALE = "STALE";
+    static final String REVALIDATED = "REVALIDATED";
+    static final String MISS = "MISS";
+
+    private static final Set<String> UNCACHED_HEADERS = Set.of(
+            "connection", "keep-alive", "transfer-encoding", "te", "trailer", "upgrade",
+            "proxy-authenticate", "proxy-authorization", "content-length", "date", "age",
+            "set-cookie", CACHE_STATUS_HEADER.toLowerCase(Locale.ROOT)
+    );
+    private static final String CORS_HEADER_PREFIX = "access-control-";
+    private static final Set<String> UNSAFE_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final ResponseCacheProperties properties;
+    private final ResponseCacheRevalidator revalidator;
+    private final List<CachedRoute> routes;
+    private final List<MediaType> bypassMediaTypes;
+    private final Cache<RequestKey, CachedResponse> cache;
+
+    public ResponseCacheFilter(ResponseCacheProperties properties, ResponseCacheRevalidator revalidator) {
+        this.properties = properties;
+        this.revalidator = revalidator;
+        this.routes = properties.routes().stream()
+                .map(route -> new CachedRoute(PathPatternParser.defaultInstance.parse(route.path()), route.ttl()))
+                .toList();
+        this.bypassMediaTypes = RequestMatchers.mediaTypes(properties.bypassMediaTypes());
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.maximumSize().toBytes())
+                .weigher((RequestKey key, CachedResponse value) -> key.weight() + value.weight())
+                .expireAfter(Expiry.writing((RequestKey key, CachedResponse value) -> value.retention()))
+                .build();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (route(request) == null) {
+            return true;
+        }
+        return HttpMethod.GET.matches(request.getMethod())
+                ? RequestMatchers.acceptsAny(request, bypassMediaTypes)
+                : !UNSAFE_METHODS.contains(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            filterChain.doFilter(request, response);
+            invalidateAfter(request, response);
+            return;
+        }
+
+        CachedRoute route = route(request);
+        RequestKey key = RequestKey.of(request, properties.keyHeaders());
+        boolean revalidation = revalidator.isRevalidation(request);
+        boolean credentialed = hasCredentials(request);
+        CachedResponse cached = cache.getIfPresent(key);
+        if (cached != null && credentialed && !cached.shared()) {
+            cached = null;
+        }
+        long now = System.nanoTime();
+
+        if (cached != null && !revalidation && !CacheDirectives.parse(request.getHeader(HttpHeaders.CACHE_CONTROL)).noCache()) {
+            if (cached.isFresh(now)) {
+                write(cached, HIT, now, request, response);
+                return;
+            }
+            if (cached.isServableStale(now)) {
+                revalidator.revalidate(key, request);
+                write(cached, STALE, now, request, response);
+                return;
+            }
+        }
+
+        boolean conditional = cached != null && cached.etag() != null;
+        ContentCachingResponseWrapper upstream = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(conditional ? new ConditionalRequest(request, cached.etag()) : request, upstream);
+        long received = System.nanoTime();
+        CacheDirectives directives = CacheDirectives.parse(upstream.getHeader(HttpHeaders.CACHE_CONTROL));
+
+        if (conditional && upstream.getStatus() == HttpStatus.NOT_MODIFIED.value()) {
+            CachedResponse refreshed = cached.revalidated(received, ttl(directives, route), staleWhileRevalidate(directives), retention(directives, route, cached.etag()));
+            cache.put(key, refreshed);
+            if (revalidation) {
+                upstream.copyBodyToResponse();
+                return;
+            }
+            upstream.resetBuffer();
+            write(refreshed, REVALIDATED, received, request, response);
+            return;
+        }
+
+        if (upstream.getStatus() == HttpStatus.OK.value()) {
+            if (!credentialed || directives.shared()) {
+                store(key, route, directives, upstream, received);
+            }
+        } else if (cached != null && upstream.getStatus() != HttpStatus.NOT_MODIFIED.value()) {
+            cache.invalidate(key);
+        }
+        upstream.setHeader(CACHE_STATUS_HEADER, MISS);
+        upstream.copyBodyToResponse();
+    }
+
+    private void store(
+            RequestKey key,
+            CachedRoute route,
+            CacheDirectives directives,
+            ContentCachingResponseWrapper upstream,
+            long received
+    ) {
+        if (!directives.storable()
+                || upstream.getHeader(HttpHeaders.SET_COOKIE) != null
+                || upstream.getContentSize() > properties.maximumEntrySize().toBytes()) {
+            cache.invalidate(key);
+            return;
+        }
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (String name : upstream.getHeaderNames()) {
+            String lowerCaseName = name.toLowerCase(Locale.ROOT);
+            if (!UNCACHED_HEADERS.contains(lowerCaseName) && !lowerCaseName.startsWith(CORS_HEADER_PREFIX)) {
+                headers.putIfAbsent(name, List.copyOf(upstream.getHeaders(name)));
+            }
+        }
+        String etag = upstream.getHeader(HttpHeaders.ETAG);
+        cache.put(key, new CachedResponse(
+                upstream.getStatus(),
+                Collections.unmodifiableMap(headers),
+                upstream.getContentAsByteArray(),
+                etag,
+                directives.shared(),
+                received,
+                ttl(directives, route),
+                staleWhileRevalidate(directives),
+                retention(directives, route, etag)
+        ));
+    }
+
+    private void invalidateAfter(HttpServletRequest request, HttpServletResponse response) {
+        if (response.getStatus() >= HttpStatus.BAD_REQUEST.value()) {
+            return;
+        }
+        invalidate(request.getRequestURI());
+        invalidate(path(response.getHeader(HttpHeaders.LOCATION)));
+        invalidate(path(response.getHeader(HttpHeaders.CONTENT_LOCATION)));
+    }
+
+    private void invalidate(String path) {
+        if (path != null) {
+            cache.asMap().keySet().removeIf(key -> key.path().equals(path));
+        }
+    }
+
+    private void write(
+            CachedResponse cached,
+            String cacheStatus,
+            long now,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        cached.headers().forEach((name, values) -> {
+            response.setHeader(name, values.get(0));
+            for (int i = 1; i < values.size(); i++) {
+                response.addHeader(name, values.get(i));
+            }
+        });
+        response.setHeader(HttpHeaders.AGE, Long.toString(cached.ageSeconds(now)));
+        response.setHeader(CACHE_STATUS_HEADER, cacheStatus);
+
+        if (cached.etag() != null && matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), cached.etag())) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+        response.setStatus(cached.status());
+        response.setContentLength(cached.body().length);
+        response.getOutputStream().write(cached.body());
+    }
+
+    private Duration ttl(CacheDirectives directives, CachedRoute route) {
+        if (directives.noCache()) {
+            return Duration.ZERO;
+        }
+        return directives.maxAge() != null ? directives.maxAge() : route.ttl();
+    }
+
+    private Duration staleWhileRevalidate(CacheDirectives directives) {
+        if (directives.noCache()) {
+            return Duration.ZERO;
+        }
+        return directives.staleWhileRevalidate() != null
+                ? directives.staleWhileRevalidate()
+                : properties.staleWhileRevalidate();
+    }
+
+    private Duration retention(CacheDirectives directives, CachedRoute route, String etag) {
+        Duration retention = ttl(directives, route).plus(staleWhileRevalidate(directives));
+        return etag == null ? retention : retention.plus(properties.staleWhileRevalidate());
+    }
+
+    private CachedRoute route(HttpServletRequest request) {
+        return RequestMatchers.firstMatch(routes, CachedRoute::pattern, request);
+    }
+
+    private static boolean hasCredentials(HttpServletRequest request) {
+        return request.getHeader(HttpHeaders.AUTHORIZATION) != null || request.getHeader(HttpHeaders.COOKIE) != null;
+    }
+
+    private static String path(String location) {
+        if (location == null) {
+            return null;
+        }
+        try {
+            return URI.create(location).getPath();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String weakless = strip(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || strip(tag).equals(weakless)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String strip(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private record CachedRoute(PathPattern pattern, Duration ttl) {
+    }
+
+    private static final class ConditionalRequest extends HttpServletRequestWrapper {
+
+        private final String etag;
+
+        private ConditionalRequest(HttpServletRequest request, String etag) {
+            super(request);
+            this.etag = etag;
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return HttpHeaders.IF_NONE_MATCH.equalsIgnoreCase(name) ? etag : super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            return HttpHeaders.IF_NONE_MATCH.equalsIgnoreCase(name)
+                    ? Collections.enumeration(List.of(etag))
+                    : super.getHeaders(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaderNames() {
+            List<String> names = new ArrayList<>();
+            boolean present = false;
+            for (String name : Collections.list(super.getHeaderNames())) {
+                names.add(name);
+                present |= HttpHeaders.IF_NONE_MATCH.equalsIgnoreCase(name);
+            }
+            if (!present) {
+                names.add(HttpHeaders.IF_NONE_MATCH);
+            }
+            return Collections.enumeration(names);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.elyashevich.gateway.infrastructure.cache;
+
+import com.elyashevich.gateway.infrastructure.config.ResponseCacheProperties;
+import com.elyashevich.gateway.infrastructure.http.RequestKey;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "application.response-cache.enabled", havingValue = "true")
+public class ResponseCacheRevalidator implements AutoCloseable {
+
+    static final String REVALIDATE_HEADER = "X-Response-Cache-Revalidate";
+
+    private final ResponseCacheProperties properties;
+    private final String token = UUID.randomUUID().toString();
+    private final Set<RequestKey> inFlight = ConcurrentHashMap.newKeySet();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    public ResponseCacheRevalidator(ResponseCacheProperties properties) {
+        this.properties = properties;
+    }
+
+    boolean isRevalidation(HttpServletRequest request) {
+        return token.equals(request.getHeader(REVALIDATE_HEADER));
+    }
+
+    void revalidate(RequestKey key, HttpServletRequest request) {
+        if (!inFlight.add(key)) {
+            return;
+        }
+        HttpRequest.Builder revalidation = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + request.getLocalPort() + key.uri()))
+                .timeout(properties.revalidationTimeout())
+                .header(REVALIDATE_HEADER, token)
+                .GET();
+        List<String> keyHeaders = properties.keyHeaders();
+        for (int i = 0; i < keyHeaders.size(); i++) {
+            if (!key.headers().get(i).isEmpty()) {
+                revalidation.header(keyHeaders.get(i), key.headers().get(i));
+            }
+        }
+
+        httpClient.sendAsync(revalidation.build(), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, e) -> {
+                    inFlight.remove(key);
+                    if (e != null) {
+                        log.warn("Could not revalidate cached response for {}: {}", key.uri(), e.getMessage());
+                    }
+                });
+    }
+
+    @Override
+    public void close() {
+        httpClient.close();
+    }
+}
@@ -0,0 +1,164 @@
+package com.elyashevich.gateway.infrastructure.coalescing;
+
+import com.elyashevich.gateway.infrastructure.cache.ResponseCacheFilter;
+import com.elyashevich.gateway.infrastructure.config.RequestCoalescingProperties;
+import com.elyashevich.gateway.infrastructure.http.RequestKey;
+import com.elyashevich.gateway.infrastructure.http.RequestMatchers;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.pattern.PathPattern;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+@Component
+@Order(RequestCoalescingFilter.ORDER)
+@ConditionalOnProperty(name = "application.request-coalescing.enabled", havingValue = "true")
+public class RequestCoalescingFilter extends OncePerRequestFilter {
+
+    public static final int ORDER = ResponseCacheFilter.ORDER + 1;
+
+    static final String COALESCED_HEADER = "X-Coalesced";
+    static final String REQUESTS_METER = "gateway.requests.coalescing";
+    static final String FAN_OUT_METER = "gateway.requests.coalescing.fan.out";
+    static final String RATIO_METER = "gateway.requests.coalescing.ratio";
+
+    private final RequestCoalescingProperties properties;
+    private final List<PathPattern> paths;
+    private final List<MediaType> bypassMediaTypes;
+    private final Map<RequestKey, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaders;
+    private final Counter followers;
+    private final Counter fallbacks;
+    private final DistributionSummary fanOut;
+
+    public RequestCoalescingFilter(RequestCoalescingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.paths = RequestMatchers.pathPatterns(properties.paths());
+        this.bypassMediaTypes = RequestMatchers.mediaTypes(properties.bypassMediaTypes());
+        this.leaders = requests(meterRegistry, "leader");
+        this.followers = requests(meterRegistry, "follower");
+        this.fallbacks = requests(meterRegistry, "fallback");
+        this.fanOut = DistributionSummary.builder(FAN_OUT_METER)
+                .description("Requests answered by one upstream call, including the one that made it")
+                .baseUnit("requests")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder(RATIO_METER, this, RequestCoalescingFilter::ratio)
+                .description("Share of coalescible requests that did not reach the upstream")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod())
+                || RequestMatchers.acceptsAny(request, bypassMediaTypes)
+                || RequestMatchers.firstMatch(paths, Function.identity(), request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        RequestKey key = RequestKey.of(request, properties.keyHeaders());
+        InFlight call = new InFlight();
+        InFlight leader = inFlight.putIfAbsent(key, call);
+        if (leader == null) {
+            lead(key, call, request, response, filterChain);
+        } else {
+            follow(leader, request, response, filterChain);
+        }
+    }
+
+    private void lead(
+            RequestKey key,
+            InFlight call,
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        leaders.increment();
+        ContentCachingResponseWrapper upstream = new ContentCachingResponseWrapper(response);
+        SharedResponse shared = null;
+        try {
+            filterChain.doFilter(request, upstream);
+            shared = SharedResponse.of(upstream, properties.maximumBodySize().toBytes());
+        } finally {
+            inFlight.remove(key, call);
+            call.response.complete(shared);
+            fanOut.record(call.followers.get() + 1);
+        }
+        upstream.copyBodyToResponse();
+    }
+
+    private void follow(
+            InFlight leader,
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        leader.followers.incrementAndGet();
+        SharedResponse shared = await(leader);
+        if (shared == null) {
+            fallbacks.increment();
+            filterChain.doFilter(request, response);
+            return;
+        }
+        followers.increment();
+        response.setHeader(COALESCED_HEADER, "true");
+        shared.writeTo(response);
+    }
+
+    private SharedResponse await(InFlight leader) {
+        try {
+            return leader.response.get(properties.followerTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | TimeoutException e) {
+            return null;
+        }
+    }
+
+    private double ratio() {
+        double coalesced = followers.count();
+        double total = coalesced + leaders.count() + fallbacks.count();
+        return total == 0 ? 0 : coalesced / total;
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String role) {
+        return Counter.builder(REQUESTS_METER)
+                .description("Coalescible GET requests by the role they played in their upstream call")
+                .tag("role", role)
+                .register(meterRegistry);
+    }
+
+    private static final class InFlight {
+
+        private final CompletableFuture<SharedResponse> response = new CompletableFuture<>();
+        private final AtomicInteger followers = new AtomicInteger();
+    }
+}
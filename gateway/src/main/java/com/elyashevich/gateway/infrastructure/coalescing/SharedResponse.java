@@ -0,0 +1,46 @@
+package com.elyashevich.gateway.infrastructure.coalescing;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+public record SharedResponse(int status, Map<String, List<String>> headers, byte[] body) {
+
+    private static final Set<String> UNSHARED_HEADERS = Set.of(
+            "connection", "keep-alive", "transfer-encoding", "te", "trailer", "upgrade",
+            "proxy-authenticate", "proxy-authorization", "content-length"
+    );
+
+    static SharedResponse of(ContentCachingResponseWrapper upstream, long maximumBodySize) {
+        if (upstream.getHeader(HttpHeaders.SET_COOKIE) != null || upstream.getContentSize() > maximumBodySize) {
+            return null;
+        }
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (String name : upstream.getHeaderNames()) {
+            if (!UNSHARED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                headers.putIfAbsent(name, List.copyOf(upstream.getHeaders(name)));
+            }
+        }
+        return new SharedResponse(upstream.getStatus(), Collections.unmodifiableMap(headers), upstream.getContentAsByteArray());
+    }
+
+    void writeTo(HttpServletResponse response) throws IOException {
+        headers.forEach((name, values) -> {
+            response.setHeader(name, values.get(0));
+            for (int i = 1; i < values.size(); i++) {
+                response.addHeader(name, values.get(i));
+            }
+        });
+        response.setStatus(status);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
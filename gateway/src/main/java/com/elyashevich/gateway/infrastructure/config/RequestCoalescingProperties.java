@@ -0,0 +1,22 @@
+package com.elyashevich.gateway.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "application.request-coalescing")
+public record RequestCoalescingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("/api/v1/**") List<String> paths,
+        @DefaultValue({
+                "Accept", "Accept-Encoding", "Accept-Language", "Authorization", "Cookie", "Origin",
+                "If-None-Match", "If-Modified-Since"
+        }) List<String> keyHeaders,
+        @DefaultValue({"application/x-ndjson", "text/event-stream"}) List<String> bypassMediaTypes,
+        @DefaultValue("10s") Duration followerTimeout,
+        @DefaultValue("4MB") DataSize maximumBodySize
+) {
+}
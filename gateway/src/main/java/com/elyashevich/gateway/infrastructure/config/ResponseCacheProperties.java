@@ -0,0 +1,24 @@
+package com.elyashevich.gateway.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "application.response-cache")
+public record ResponseCacheProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("64MB") DataSize maximumSize,
+        @DefaultValue("1MB") DataSize maximumEntrySize,
+        @DefaultValue("30s") Duration staleWhileRevalidate,
+        @DefaultValue("5s") Duration revalidationTimeout,
+        @DefaultValue({"Accept", "Accept-Encoding", "Accept-Language"}) List<String> keyHeaders,
+        @DefaultValue({"application/x-ndjson", "text/event-stream"}) List<String> bypassMediaTypes,
+        @DefaultValue List<Route> routes
+) {
+
+    public record Route(String path, @DefaultValue("10s") Duration ttl) {
+    }
+}
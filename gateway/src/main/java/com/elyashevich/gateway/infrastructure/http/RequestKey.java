@@ -0,0 +1,33 @@
+package com.elyashevich.gateway.infrastructure.http;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public record RequestKey(String uri, List<String> headers) {
+
+    public static RequestKey of(HttpServletRequest request, List<String> keyHeaders) {
+        String query = request.getQueryString();
+        String uri = query == null ? request.getRequestURI() : request.getRequestURI() + '?' + query;
+        List<String> headers = new ArrayList<>(keyHeaders.size());
+        for (String name : keyHeaders) {
+            headers.add(String.join(",", Collections.list(request.getHeaders(name))));
+        }
+        return new RequestKey(uri, List.copyOf(headers));
+    }
+
+    public String path() {
+        int query = uri.indexOf('?');
+        return query < 0 ? uri : uri.substring(0, query);
+    }
+
+    public int weight() {
+        int weight = uri.length();
+        for (String header : headers) {
+            weight += header.length();
+        }
+        return weight;
+    }
+}
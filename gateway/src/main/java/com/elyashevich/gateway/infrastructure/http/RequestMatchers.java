@@ -0,0 +1,58 @@
+package com.elyashevich.gateway.infrastructure.http;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+import java.util.function.Function;
+
+public final class RequestMatchers {
+
+    private RequestMatchers() {
+    }
+
+    public static List<PathPattern> pathPatterns(List<String> paths) {
+        return paths.stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+    }
+
+    public static List<MediaType> mediaTypes(List<String> mediaTypes) {
+        return mediaTypes.stream()
+                .map(MediaType::parseMediaType)
+                .toList();
+    }
+
+    public static <T> T firstMatch(List<T> candidates, Function<T, PathPattern> pattern, HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        for (T candidate : candidates) {
+            if (pattern.apply(candidate).matches(path)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    public static boolean acceptsAny(HttpServletRequest request, List<MediaType> mediaTypes) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null) {
+            return false;
+        }
+        try {
+            for (MediaType mediaType : MediaType.parseMediaTypes(accept)) {
+                for (MediaType candidate : mediaTypes) {
+                    if (!mediaType.isWildcardSubtype() && candidate.isCompatibleWith(mediaType)) {
+                        return true;
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,234 @@
+package com.elyashevich.gateway.infrastructure.cache;
+
+import com.elyashevich.gateway.infrastructure.config.ResponseCacheProperties;
+import com.elyashevich.gateway.infrastructure.http.RequestKey;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class ResponseCacheFilterTest {
+
+    private static final String PATH = "/api/v1/products/store/1";
+    private static final String ETAG = "\"v1\"";
+    private static final String BODY = "{\"items\":[]}";
+
+    private final ResponseCacheRevalidator revalidator = mock(ResponseCacheRevalidator.class);
+    private final List<String> upstreamConditions = new ArrayList<>();
+
+    @Test
+    void doFilter_RepeatedGet_ServesSecondResponseFromCache() throws Exception {
+        // Arrange
+        ResponseCacheFilter filter = filter(Duration.ofMinutes(1), Duration.ofSeconds(30));
+
+        // Act
+        MockHttpServletResponse first = get(filter, null, null);
+        MockHttpServletResponse second = get(filter, null, null);
+
+        // Assert
+        assertAll(
+                () -> assertEquals(ResponseCacheFilter.MISS, first.getHeader(ResponseCacheFilter.CACHE_STATUS_HEADER)),
+                () -> assertEquals(ResponseCacheFilter.HIT, second.getHeader(ResponseCacheFilter.CACHE_STATUS_HEADER)),
+                () -> assertEquals(BODY, second.getContentAsString(StandardCharsets.UTF_8)),
+                () -> assertEquals(ETAG, second.getHeader(HttpHeaders.ETAG)),
+                () -> assertEquals(1, upstreamConditions.size())
+        );
+    }
+
+    @Test
+    void doFilter_NoStoreResponse_IsNotCached() throws Exception {
+        // Arrange
+        ResponseCacheFilter filter = filter(Duration.ofMinutes(1), Duration.ofSeconds(30));
+
+        // Act
+        get(filter, null, "no-store");
+        MockHttpServletResponse second = get(filter, null, "no-store");
+
+        // Assert
+        assertAll(
+                () -> assertEquals(ResponseCacheFilter.MISS, second.getHeader(ResponseCacheFilter.CACHE_STATUS_HEADER)),
+                () -> assertEquals(2, upstreamConditions.size())
+        );
+    }
+
+    @Test
+    void doFilter_ExpiredEntryWithEtag_RevalidatesConditionallyWithUpstream() throws Exception {
+        // Arrange
+        ResponseCacheFilter filter = filter(Duration.ofMinutes(1), Duration.ofSeconds(30));
+
+        // Act
+        get(filter, null, "max-age=0, stale-while-revalidate=0");
+        MockHttpServletResponse second = get(filter, null, "max-age=0, stale-while-revalidate=0");
+
+        // Assert
+        assertAll(
+                () -> assertEquals(ResponseCacheFilter.REVALIDATED, second.getHeader(ResponseCacheFilter.CACHE_STATUS_HEADER)),
+                () -> assertEquals(200, second.getStatus()),
+                () -> assertEquals(BODY, second.getContentAsString(StandardCharsets.UTF_8)),
+                () -> assertEquals(ETAG, upstreamConditions.get(1))
+        );
+    }
+
+    @Test
+    void doFilter_StaleEntryWithinWindow_ServesStaleAndRevalidatesInBackground() throws Exception {
+        // Arrange
+        ResponseCacheFilter filter = filter(Duration.ZERO, Duration.ofHours(1));
+
+        // Act
+        get(filter, null, null);
+        MockHttpServletResponse second = get(filter, null, null);
+
+        // Assert
+        assertAll(
+                () -> assertEquals(ResponseCacheFilter.STALE, second.getHeader(ResponseCacheFilter.CACHE_STATUS_HEADER)),
+                () -> assertEquals(BODY, second.getContentAsString(StandardCharsets.UTF_8)),
+                () -> assertEquals(1, upstreamConditions.size())
+        );
+        verify(revalidator).revalidate(eq(new RequestKey(PATH, List.of(""))), any());
+    }
+
+    @Test
+    void doFilter_ClientEtagMatchesCachedEntry_ReturnsNotModified() throws Exception {
+        // Arrange
+        ResponseCacheFilter filter = filter(Duration.ofMinutes(1), Duration.ofSeconds(30));
+        get(filter, null, null);
+
+        // Act
+        MockHttpServletResponse response = get(filter, ETAG, null);
+
+        // Assert
+        assertAll(
+                () -> assertEquals(304, response.getStatus()),
+                () -> assertEquals(ResponseCacheFilter.HIT, response.getHeader(ResponseCacheFilter.CACHE_STATUS_HEADER)),
+                () -> assertEquals(0, response.getContentAsByteArray().length)
+        );
+    }
+
+    @Test
+    void doFilter_RequestWithCredentials_BypassesPrivateEntries() throws Exception {
+        // Arrange
+        ResponseCacheFilter filter = filter(Duration.ofMinutes(1), Duration.ofSeconds(30));
+        get(filter, null, null);
+
+        // Act
+        MockHttpServletResponse authorized = send(filter, authorized(new MockHttpServletRequest("GET", PATH)), null);
+        MockHttpServletResponse anonymous = get(filter, null, null);
+
+        // Assert
+        assertAll(
+                () -> assertEquals(ResponseCacheFilter.MISS, authorized.getHeader(ResponseCacheFilter.CACHE_STATUS_HEADER)),
+                () -> assertEquals(ResponseCacheFilter.HIT, anonymous.getHeader(ResponseCacheFilter.CACHE_STATUS_HEADER)),
+                () -> assertEquals(2, upstreamConditions.size())
+        );
+    }
+
+    @Test
+    void doFilter_RequestWithCredentialsAndPublicResponse_IsShared() throws Exception {
+        // Arrange
+        ResponseCacheFilter filter = filter(Duration.ofMinutes(1), Duration.ofSeconds(30));
+        send(filter, authorized(new MockHttpServletRequest("GET", PATH)), "public, max-age=60");
+
+        // Act
+        MockHttpServletResponse authorized = send(filter, authorized(new MockHttpServletRequest("GET", PATH)), null);
+        MockHttpServletResponse anonymous = get(filter, null, null);
+
+        // Assert
+        assertAll(
+                () -> assertEquals(ResponseCacheFilter.HIT, authorized.getHeader(ResponseCacheFilter.CACHE_STATUS_HEADER)),
+                () -> assertEquals(ResponseCacheFilter.HIT, anonymous.getHeader(ResponseCacheFilter.CACHE_STATUS_HEADER)),
+                () -> assertEquals(1, upstreamConditions.size())
+        );
+    }
+
+    @Test
+    void doFilter_UnsafeMethodOnCachedRoute_InvalidatesTargetUri() throws Exception {
+        // Arrange
+        ResponseCacheFilter filter = filter(Duration.ofMinutes(1), Duration.ofSeconds(30));
+        get(filter, null, null);
+
+        // Act
+        send(filter, new MockHttpServletRequest("DELETE", PATH), null);
+        MockHttpServletResponse response = get(filter, null, null);
+
+        // Assert
+        assertAll(
+                () -> assertEquals(ResponseCacheFilter.MISS, response.getHeader(ResponseCacheFilter.CACHE_STATUS_HEADER)),
+                () -> assertEquals(2, upstreamConditions.size())
+        );
+    }
+
+    private ResponseCacheFilter filter(Duration ttl, Duration staleWhileRevalidate) {
+        return new ResponseCacheFilter(new ResponseCacheProperties(
+                true,
+                DataSize.ofMegabytes(1),
+                DataSize.ofKilobytes(64),
+                staleWhileRevalidate,
+                Duration.ofSeconds(1),
+                List.of(HttpHeaders.ACCEPT),
+                List.of("application/x-ndjson"),
+                List.of(new ResponseCacheProperties.Route("/api/v1/products/**", ttl))
+        ), revalidator);
+    }
+
+    private MockHttpServletResponse get(ResponseCacheFilter filter, String ifNoneMatch, String cacheControl) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", PATH);
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return send(filter, request, cacheControl);
+    }
+
+    private MockHttpServletResponse send(
+            ResponseCacheFilter filter,
+            MockHttpServletRequest request,
+            String cacheControl
+    ) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest upstreamRequest, HttpServletResponse upstreamResponse) throws IOException {
+                String condition = upstreamRequest.getHeader(HttpHeaders.IF_NONE_MATCH);
+                upstreamConditions.add(condition);
+                upstreamResponse.setHeader(HttpHeaders.ETAG, ETAG);
+                if (cacheControl != null) {
+                    upstreamResponse.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+                }
+                if (ETAG.equals(condition)) {
+                    upstreamResponse.setStatus(304);
+                    return;
+                }
+                upstreamResponse.setContentType("application/json");
+                upstreamResponse.getWriter().write(BODY);
+            }
+
+            @Override
+            protected void doDelete(HttpServletRequest upstreamRequest, HttpServletResponse upstreamResponse) {
+                upstreamResponse.setStatus(204);
+            }
+        }));
+        return response;
+    }
+
+    private static MockHttpServletRequest authorized(MockHttpServletRequest request) {
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer token");
+        return request;
+    }
+}
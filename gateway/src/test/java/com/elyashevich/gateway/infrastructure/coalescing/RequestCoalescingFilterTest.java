@@ -0,0 +1,139 @@
+package com.elyashevich.gateway.infrastructure.coalescing;
+
+import com.elyashevich.gateway.infrastructure.config.RequestCoalescingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestCoalescingFilterTest {
+
+    private static final String PATH = "/api/v1/products/store/1";
+    private static final String BODY = "{\"items\":[]}";
+    private static final int CLIENTS = 32;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final RequestCoalescingFilter filter = new RequestCoalescingFilter(new RequestCoalescingProperties(
+            true,
+            List.of("/api/v1/products/**"),
+            List.of("Accept", "Authorization"),
+            List.of("application/x-ndjson"),
+            Duration.ofSeconds(5),
+            DataSize.ofMegabytes(1)
+    ), meterRegistry);
+
+    @Test
+    void doFilter_ConcurrentIdenticalGets_ShareUpstreamCalls() throws Exception {
+        // Arrange
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<MockHttpServletResponse>> responses = new ArrayList<>(CLIENTS);
+
+        // Act
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CLIENTS; i++) {
+                responses.add(clients.submit(() -> {
+                    start.await();
+                    return get(null, Duration.ofMillis(200));
+                }));
+            }
+            start.countDown();
+            for (Future<MockHttpServletResponse> response : responses) {
+                MockHttpServletResponse result = response.get();
+                assertEquals(200, result.getStatus());
+                assertEquals(BODY, result.getContentAsString(StandardCharsets.UTF_8));
+            }
+        }
+
+        // Assert
+        double leaders = meterRegistry.get(RequestCoalescingFilter.REQUESTS_METER).tag("role", "leader").counter().count();
+        double followers = meterRegistry.get(RequestCoalescingFilter.REQUESTS_METER).tag("role", "follower").counter().count();
+        assertAll(
+                () -> assertTrue(upstreamCalls.get() < CLIENTS),
+                () -> assertEquals(upstreamCalls.get(), (int) leaders),
+                () -> assertEquals(CLIENTS, (int) (leaders + followers)),
+                () -> assertEquals(followers / CLIENTS, meterRegistry.get(RequestCoalescingFilter.RATIO_METER).gauge().value())
+        );
+    }
+
+    @Test
+    void doFilter_SequentialGets_EachReachUpstream() throws Exception {
+        // Act
+        MockHttpServletResponse first = get(null, Duration.ZERO);
+        MockHttpServletResponse second = get(null, Duration.ZERO);
+
+        // Assert
+        assertAll(
+                () -> assertEquals(2, upstreamCalls.get()),
+                () -> assertNull(first.getHeader(RequestCoalescingFilter.COALESCED_HEADER)),
+                () -> assertNull(second.getHeader(RequestCoalescingFilter.COALESCED_HEADER))
+        );
+    }
+
+    @Test
+    void doFilter_DifferentAuthorization_IsNotCoalesced() throws Exception {
+        // Arrange
+        CountDownLatch start = new CountDownLatch(1);
+
+        // Act
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<MockHttpServletResponse> alice = clients.submit(() -> {
+                start.await();
+                return get("Bearer alice", Duration.ofMillis(100));
+            });
+            Future<MockHttpServletResponse> bob = clients.submit(() -> {
+                start.await();
+                return get("Bearer bob", Duration.ofMillis(100));
+            });
+            start.countDown();
+            alice.get();
+            bob.get();
+        }
+
+        // Assert
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    private MockHttpServletResponse get(String authorization, Duration upstreamLatency) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", PATH);
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest upstreamRequest, HttpServletResponse upstreamResponse) throws IOException {
+                upstreamCalls.incrementAndGet();
+                try {
+                    Thread.sleep(upstreamLatency);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                upstreamResponse.setContentType("application/json");
+                upstreamResponse.getWriter().write(BODY);
+            }
+        }));
+        return response;
+    }
+}
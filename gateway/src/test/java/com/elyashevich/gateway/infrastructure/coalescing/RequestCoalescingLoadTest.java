@@ -0,0 +1,168 @@
+package com.elyashevich.gateway.infrastructure.coalescing;
+
+import com.elyashevich.gateway.infrastructure.config.RequestCoalescingProperties;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class RequestCoalescingLoadTest {
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 2_000);
+    private static final int BURSTS = Integer.getInteger("benchmark.bursts", 10);
+    private static final int STORES = 5;
+    private static final Duration UPSTREAM_LATENCY = Duration.ofMillis(50);
+    private static final byte[] BODY = ("{\"items\":[" + "{\"id\":\"p\"},".repeat(200) + "{}]}").getBytes(StandardCharsets.UTF_8);
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private HttpServer upstream;
+    private ExecutorService upstreamExecutor;
+    private HttpClient httpClient;
+
+    @BeforeAll
+    void setUp() throws IOException {
+        upstreamExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        upstream = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4_096);
+        upstream.setExecutor(upstreamExecutor);
+        upstream.createContext("/", exchange -> {
+            upstreamCalls.incrementAndGet();
+            try {
+                Thread.sleep(UPSTREAM_LATENCY);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, BODY.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(BODY);
+            }
+        });
+        upstream.start();
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    @AfterAll
+    void tearDown() {
+        httpClient.close();
+        upstream.stop(0);
+        upstreamExecutor.close();
+    }
+
+    @Test
+    void featuredStoreBursts_CoalescingComparedToDirectProxying() throws Exception {
+        // Act
+        Result direct = run(null);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        Result coalesced = run(new RequestCoalescingFilter(new RequestCoalescingProperties(
+                true,
+                List.of("/api/v1/products/**"),
+                List.of("Accept", "Accept-Encoding", "Authorization"),
+                List.of("application/x-ndjson"),
+                Duration.ofSeconds(10),
+                DataSize.ofMegabytes(4)
+        ), meterRegistry));
+
+        // Assert
+        assertAll(
+                () -> assertEquals(0, direct.errors()),
+                () -> assertEquals(0, coalesced.errors()),
+                () -> assertTrue(coalesced.upstreamCalls() < direct.upstreamCalls()),
+                () -> assertTrue(meterRegistry.get(RequestCoalescingFilter.RATIO_METER).gauge().value() > 0)
+        );
+    }
+
+    private Result run(RequestCoalescingFilter filter) throws Exception {
+        upstreamCalls.set(0);
+        int errors = 0;
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int burst = 0; burst < BURSTS; burst++) {
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<Integer>> futures = new ArrayList<>(CLIENTS);
+                for (int client = 0; client < CLIENTS; client++) {
+                    String path = "/api/v1/products/store/store-" + client % STORES;
+                    futures.add(clients.submit(() -> {
+                        start.await();
+                        return proxy(filter, path).getStatus();
+                    }));
+                }
+                start.countDown();
+                for (Future<Integer> future : futures) {
+                    if (future.get() != 200) {
+                        errors++;
+                    }
+                }
+            }
+        }
+        return new Result(upstreamCalls.get(), errors);
+    }
+
+    private MockHttpServletResponse proxy(RequestCoalescingFilter filter, String path) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.addHeader("Accept", "application/json");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest proxied, HttpServletResponse proxiedResponse) throws IOException {
+                HttpRequest upstreamRequest = HttpRequest.newBuilder(URI.create(
+                                "http://127.0.0.1:" + upstream.getAddress().getPort() + proxied.getRequestURI()))
+                        .GET()
+                        .build();
+                try {
+                    HttpResponse<byte[]> upstreamResponse = httpClient.send(upstreamRequest, HttpResponse.BodyHandlers.ofByteArray());
+                    proxiedResponse.setStatus(upstreamResponse.statusCode());
+                    proxiedResponse.setContentType("application/json");
+                    proxiedResponse.getOutputStream().write(upstreamResponse.body());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    proxiedResponse.setStatus(503);
+                }
+            }
+        });
+        if (filter == null) {
+            chain.doFilter(request, response);
+        } else {
+            filter.doFilter(request, response, chain);
+        }
+        return response;
+    }
+
+    private record Result(int upstreamCalls, int errors) {
+    }
+}
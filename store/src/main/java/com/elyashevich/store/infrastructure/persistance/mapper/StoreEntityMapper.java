@@ -1,64 +1,28 @@
 package com.elyashevich.store.infrastructure.persistance.mapper;
 
+import com.elyashevich.common.infrastructure.persistance.mapper.EntityMapperConfig;
+import com.elyashevich.common.infrastructure.persistance.mapper.OwnedLists;
 import com.elyashevich.store.domain.model.Store;
 import com.elyashevich.store.infrastructure.persistance.entity.StoreMongoEntity;
-import org.springframework.stereotype.Component;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
-import java.util.ArrayList;
-import java.util.List;
-
-@Component
-public class StoreEntityMapper implements EntityMapper<Store, StoreMongoEntity> {
-
-    @Override
-    public Store toDomain(StoreMongoEntity entity) {
-        if (entity == null) {
-            return null;
-        }
-
-        return Store.builder()
-                .id(entity.getId())
-                .createdAt(entity.getCreatedAt())
-                .updatedAt(entity.getUpdatedAt())
-                .title(entity.getTitle())
-                .description(entity.getDescription())
-                .userId(entity.getUserId())
-                .productIds(new ArrayList<>(entity.getProducts()))
-                .categoryIds(new ArrayList<>(entity.getCategories()))
-                .colorIds(new ArrayList<>(entity.getColors()))
-                .reviewIds(new ArrayList<>(entity.getReviews()))
-                .orderItemIds(new ArrayList<>(entity.getOrderItems()))
-                .build();
-    }
-
-    @Override
-    public StoreMongoEntity toEntity(Store domain) {
-        if (domain == null) {
-            return null;
-        }
-
-        return StoreMongoEntity.builder()
-                .id(domain.getId())
-                .createdAt(domain.getCreatedAt())
-                .updatedAt(domain.getUpdatedAt())
-                .title(domain.getTitle())
-                .description(domain.getDescription())
-                .userId(domain.getUserId())
-                .products(new ArrayList<>(domain.getProductIds()))
-                .categories(new ArrayList<>(domain.getCategoryIds()))
-                .colors(new ArrayList<>(domain.getColorIds()))
-                .reviews(new ArrayList<>(domain.getReviewIds()))
-                .orderItems(new ArrayList<>(domain.getOrderItemIds()))
-                .build();
-    }
+@Mapper(config = EntityMapperConfig.class)
+public interface StoreEntityMapper extends EntityMapper<Store, StoreMongoEntity> {
 
     @Override
-    public List<Store> toDomain(List<StoreMongoEntity> entities) {
-        return entities.stream().map(this::toDomain).toList();
-    }
+    @Mapping(target = "productIds", source = "products", qualifiedByName = OwnedLists.TAKE)
+    @Mapping(target = "categoryIds", source = "categories", qualifiedByName = OwnedLists.TAKE)
+    @Mapping(target = "colorIds", source = "colors", qualifiedByName = OwnedLists.TAKE)
+    @Mapping(target = "reviewIds", source = "reviews", qualifiedByName = OwnedLists.TAKE)
+    @Mapping(target = "orderItemIds", source = "orderItems", qualifiedByName = OwnedLists.TAKE)
+    Store toDomain(StoreMongoEntity entity);
 
     @Override
-    public List<StoreMongoEntity> toEntity(List<Store> domains) {
-        return domains.stream().map(this::toEntity).toList();
-    }
-}
\ No newline at end of file
+    @Mapping(target = "products", source = "productIds")
+    @Mapping(target = "categories", source = "categoryIds")
+    @Mapping(target = "colors", source = "colorIds")
+    @Mapping(target = "reviews", source = "reviewIds")
+    @Mapping(target = "orderItems", source = "orderItemIds")
+    StoreMongoEntity toEntity(Store domain);
+}
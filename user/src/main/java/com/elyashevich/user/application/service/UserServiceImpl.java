@@ -35,7 +35,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public User findByEmail(String email) {
-        log.debug("Attempting to find user with email {}", email);
+        log.debug("Attempting to find user by email");
 
         User user = userRepository.findByEmail(email).orElseThrow(() -> {
             String message = USER_WITH_EMAIL_NOT_FOUND_TEMPLATE.formatted(email);
@@ -43,14 +43,14 @@ public class UserServiceImpl implements UserService {
             return new ResourceNotFoundException(message);
         });
 
-        log.info("User with email {} found", email);
+        log.info("User with id {} found by email", user.getId());
         return user;
     }
 
     @Override
     @Transactional
     public User create(User user) {
-        log.debug("Attempting to create user {}", user);
+        log.debug("Attempting to create user");
 
         String email = user.getEmail();
 
@@ -62,7 +62,7 @@ public class UserServiceImpl implements UserService {
 
         User newUser = userRepository.create(user);
 
-        log.info("User with email {} created", email);
+        log.info("User with id {} created", newUser.getId());
         return newUser;
     }
 }
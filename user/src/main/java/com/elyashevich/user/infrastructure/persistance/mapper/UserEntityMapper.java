@@ -0,0 +1,22 @@
+package com.elyashevich.user.infrastructure.persistance.mapper;
+
+import com.elyashevich.common.infrastructure.persistance.mapper.EntityMapperConfig;
+import com.elyashevich.common.infrastructure.persistance.mapper.OwnedLists;
+import com.elyashevich.user.domain.model.User;
+import com.elyashevich.user.infrastructure.persistance.entity.UserMongoEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(config = EntityMapperConfig.class)
+public interface UserEntityMapper extends EntityMapper<User, UserMongoEntity> {
+
+    @Override
+    @Mapping(target = "storesId", qualifiedByName = OwnedLists.TAKE)
+    @Mapping(target = "favoritesId", qualifiedByName = OwnedLists.TAKE)
+    @Mapping(target = "reviewsId", qualifiedByName = OwnedLists.TAKE)
+    @Mapping(target = "ordersId", qualifiedByName = OwnedLists.TAKE)
+    User toDomain(UserMongoEntity entity);
+
+    @Override
+    UserMongoEntity toEntity(User domain);
+}